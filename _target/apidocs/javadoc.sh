@@ -0,0 +1 @@
+/root/.sdkman/candidates/java/current/bin/javadoc @options @argfile
\ No newline at end of file
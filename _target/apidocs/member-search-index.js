@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"A8"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"age()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"ageOf(long)"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"appendFen(Position, StringBuilder)","u":"appendFen(com.github.osmundf.chess.hub.Position,java.lang.StringBuilder)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"B8"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"BASE"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"base()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"base()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"basicMove(Piece, Square)","u":"basicMove(com.github.osmundf.chess.hub.Piece,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"basicMove(Side, Caste, Square, Square)","u":"basicMove(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"between(int, int)","u":"between(int,int)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"BISHOP"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"bishopAttacks(int, long)","u":"bishopAttacks(int,long)"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"BLACK"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"board(Side, Caste)","u":"board(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"BOUND_EXACT"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"BOUND_LOWER"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"BOUND_UPPER"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"boundOf(long)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"C8"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"capacity()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"capacity()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"CAPTURE"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"CAPTURE_PROMOTION"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"capture()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"capture()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"capturedPiece()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"captureMove(Piece, Piece)","u":"captureMove(com.github.osmundf.chess.hub.Piece,com.github.osmundf.chess.hub.Piece)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"captureMove(Side, Caste, Caste, Square, Square)","u":"captureMove(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"caste()"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"casteFromIndex(int)"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"CASTLE_LONG"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"CASTLE_SHORT"},{"p":"com.github.osmundf.chess.hub","c":"Zobrist","l":"castleKey(byte)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"castleKingSide(Side)","u":"castleKingSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"castleMove(MoveType, Piece, Piece)","u":"castleMove(com.github.osmundf.chess.hub.MoveType,com.github.osmundf.chess.hub.Piece,com.github.osmundf.chess.hub.Piece)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"castleMove(MoveType, Side, Square, Square)","u":"castleMove(com.github.osmundf.chess.hub.MoveType,com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"castleQueenSide(Side)","u":"castleQueenSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"castleState()"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"CastleState(byte)","u":"%3Cinit%3E(byte)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"castleStateFor(byte)"},{"p":"com.github.osmundf.chess.hub","c":"ChessException","l":"ChessException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"com.github.osmundf.chess.hub","c":"ChessException","l":"ChessException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"clear()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"clear()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"copy()"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"count(Position, int)","u":"count(com.github.osmundf.chess.hub.Position,int)"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"count(Position, int, ForkJoinPool)","u":"count(com.github.osmundf.chess.hub.Position,int,java.util.concurrent.ForkJoinPool)"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"count(Position, int, ForkJoinPool, PerftTable)","u":"count(com.github.osmundf.chess.hub.Position,int,java.util.concurrent.ForkJoinPool,com.github.osmundf.chess.hub.PerftTable)"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"count(Position, int, PerftTable)","u":"count(com.github.osmundf.chess.hub.Position,int,com.github.osmundf.chess.hub.PerftTable)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"D8"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"depthOf(long)"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"divide(Position, int)","u":"divide(com.github.osmundf.chess.hub.Position,int)"},{"p":"com.github.osmundf.chess.hub","c":"Perft","l":"divide(Position, int, ForkJoinPool)","u":"divide(com.github.osmundf.chess.hub.Position,int,java.util.concurrent.ForkJoinPool)"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"DOUBLE_PUSH"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"doublePushMove(Piece)","u":"doublePushMove(com.github.osmundf.chess.hub.Piece)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"doublePushMove(Side, Square)","u":"doublePushMove(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"down(int)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"E8"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"EN_PASSANT"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"enPassant()"},{"p":"com.github.osmundf.chess.hub","c":"Zobrist","l":"enPassantKey(int)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"enPassantMove(Piece, Square)","u":"enPassantMove(com.github.osmundf.chess.hub.Piece,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"enPassantMove(Side, Caste, Square, Square)","u":"enPassantMove(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"F8"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"fenFor(Position)","u":"fenFor(com.github.osmundf.chess.hub.Position)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"file()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"from()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"from()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"fullMoveNumber()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"G8"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H1"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H2"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H3"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H4"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H5"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H6"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H7"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"H8"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"halfMoveClock()"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasAnyRight(Side)","u":"hasAnyRight(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasCastled(Side)","u":"hasCastled(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasCastledKingSide(Side)","u":"hasCastledKingSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasCastledQueenSide(Side)","u":"hasCastledQueenSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"hash"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hashCode()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"hashCode()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"hashCode()"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"hashCode()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"hashCode()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"hashfull()"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasKingSideRight(Side)","u":"hasKingSideRight(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"hasQueenSideRight(Side)","u":"hasQueenSideRight(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"hitRate()"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"hits()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"id()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"inCheck()"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"index()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"index()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"index()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"index()"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"INITIAL_FEN"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"initialPosition()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"isAttacked(Square, Side)","u":"isAttacked(com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"isBasic()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"isBlack()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"isCapture()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"isCastling()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"isNull()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"isPromotion()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"isWhite()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"key()"},{"p":"com.github.osmundf.chess.hub","c":"Zobrist","l":"keyFor(Position)","u":"keyFor(com.github.osmundf.chess.hub.Position)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"KING"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"kingAttacks(int)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"kingFrom()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"kingTo()"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"KNIGHT"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"knightAttacks(int)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"left(int)"},{"p":"com.github.osmundf.chess.hub","c":"MoveGenerator","l":"legalMoves(Position, int[])","u":"legalMoves(com.github.osmundf.chess.hub.Position,int[])"},{"p":"com.github.osmundf.chess.hub","c":"MoveGenerator","l":"legalMoves(Position, int[], int)","u":"legalMoves(com.github.osmundf.chess.hub.Position,int[],int)"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"line(int, int)","u":"line(int,int)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"makeMove(int)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"makeMove(Move)","u":"makeMove(com.github.osmundf.chess.hub.Move)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"MAX_MEGABYTES"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"MAX_MEGABYTES"},{"p":"com.github.osmundf.chess.hub","c":"MoveGenerator","l":"MAX_MOVES"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"Move(MoveType, Side, Caste, Caste, Caste, Square, Square)","u":"%3Cinit%3E(com.github.osmundf.chess.hub.MoveType,com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"moveFor(int)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"MoveIdentity(int)","u":"%3Cinit%3E(int)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"MoveIdentity(MoveType, Side, Caste, Caste, Caste, Square, Square)","u":"%3Cinit%3E(com.github.osmundf.chess.hub.MoveType,com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"moveIdentityFor(int)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"moveOf(long)"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"moveTypeFromIndex(int)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"newSearch()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"NO_SIDE"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"NONE"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"occupancy(Side)","u":"occupancy(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"occupied()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"opposite()"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"parse(byte[], int, int, Position)","u":"parse(byte[],int,int,com.github.osmundf.chess.hub.Position)"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"parse(CharSequence, Position)","u":"parse(java.lang.CharSequence,com.github.osmundf.chess.hub.Position)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"PAWN"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"pawnAttacks(int, int)","u":"pawnAttacks(int,int)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"perftTableFor(int)"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"Piece(Side, Caste, Square)","u":"%3Cinit%3E(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"pieceAt(Square)","u":"pieceAt(com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"pieceFor(Side, Caste, Square)","u":"pieceFor(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.Caste,com.github.osmundf.chess.hub.Square)"},{"p":"com.github.osmundf.chess.hub","c":"Zobrist","l":"pieceKey(int, int, int)","u":"pieceKey(int,int,int)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"pieces()"},{"p":"com.github.osmundf.chess.hub","c":"Fen","l":"positionFor(CharSequence)","u":"positionFor(java.lang.CharSequence)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"positionFor(Side, CastleState, Square, int, int, Iterable<Piece>)","u":"positionFor(com.github.osmundf.chess.hub.Side,com.github.osmundf.chess.hub.CastleState,com.github.osmundf.chess.hub.Square,int,int,java.lang.Iterable)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"probe(long)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"probes()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"PROMOTION"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"promotion()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"promotion()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"promotionPiece()"},{"p":"com.github.osmundf.chess.hub","c":"MoveGenerator","l":"pseudoLegalMoves(Position, int[])","u":"pseudoLegalMoves(com.github.osmundf.chess.hub.Position,int[])"},{"p":"com.github.osmundf.chess.hub","c":"MoveGenerator","l":"pseudoLegalMoves(Position, int[], int)","u":"pseudoLegalMoves(com.github.osmundf.chess.hub.Position,int[],int)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"QUEEN"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"queenAttacks(int, long)","u":"queenAttacks(int,long)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"rank()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"resize(int)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"restoreBoth(Side)","u":"restoreBoth(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"restoreKingSide(Side)","u":"restoreKingSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"restoreQueenSide(Side)","u":"restoreQueenSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"revokeBoth(Side)","u":"revokeBoth(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"revokeKingSide(Side)","u":"revokeKingSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"revokeQueenSide(Side)","u":"revokeQueenSide(com.github.osmundf.chess.hub.Side)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"right(int)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"ROOK"},{"p":"com.github.osmundf.chess.hub","c":"Attacks","l":"rookAttacks(int, long)","u":"rookAttacks(int,long)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"rookFrom()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"rookTo()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"scoreOf(long)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"side()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"side()"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"side()"},{"p":"com.github.osmundf.chess.hub","c":"Zobrist","l":"sideKey(int)"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"sideToMove()"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"square()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"squareFor(char, int)","u":"squareFor(char,int)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"squareFromIndex(byte)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"store(long, int, int, int, int)","u":"store(long,int,int,int,int)"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"stores()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"to()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"to()"},{"p":"com.github.osmundf.chess.hub","c":"CastleState","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"PerftTable","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"Piece","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"toString()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"translate(int, int)","u":"translate(int,int)"},{"p":"com.github.osmundf.chess.hub","c":"TranspositionTable","l":"transpositionTableFor(int)"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"type()"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"type()"},{"p":"com.github.osmundf.chess.hub","c":"Position","l":"unmakeMove()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"up(int)"},{"p":"com.github.osmundf.chess.hub","c":"MoveIdentity","l":"valid()"},{"p":"com.github.osmundf.chess.hub","c":"Move","l":"validate()"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"value()"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"com.github.osmundf.chess.hub","c":"Caste","l":"values()"},{"p":"com.github.osmundf.chess.hub","c":"MoveType","l":"values()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"values()"},{"p":"com.github.osmundf.chess.hub","c":"Square","l":"values()"},{"p":"com.github.osmundf.chess.hub","c":"Side","l":"WHITE"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+moduleSearchIndex = [{"l":"osmundf.chess.hub"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"m":"osmundf.chess.hub","l":"com.github.osmundf.chess.hub"}];updateSearchResults();
\ No newline at end of file
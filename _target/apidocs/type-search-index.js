@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"com.github.osmundf.chess.hub","l":"Attacks"},{"p":"com.github.osmundf.chess.hub","l":"Caste"},{"p":"com.github.osmundf.chess.hub","l":"CastleState"},{"p":"com.github.osmundf.chess.hub","l":"ChessException"},{"p":"com.github.osmundf.chess.hub","l":"Fen"},{"p":"com.github.osmundf.chess.hub","l":"Move"},{"p":"com.github.osmundf.chess.hub","l":"MoveGenerator"},{"p":"com.github.osmundf.chess.hub","l":"MoveIdentity"},{"p":"com.github.osmundf.chess.hub","l":"MoveType"},{"p":"com.github.osmundf.chess.hub","l":"Perft"},{"p":"com.github.osmundf.chess.hub","l":"PerftTable"},{"p":"com.github.osmundf.chess.hub","l":"Piece"},{"p":"com.github.osmundf.chess.hub","l":"Position"},{"p":"com.github.osmundf.chess.hub","l":"Side"},{"p":"com.github.osmundf.chess.hub","l":"Square"},{"p":"com.github.osmundf.chess.hub","l":"TranspositionTable"},{"p":"com.github.osmundf.chess.hub","l":"Zobrist"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class CastleStateBenchmark_jmhType extends CastleStateBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class GameFormatBenchmark_jmhType extends GameFormatBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class MoveBenchmark_jmhType extends MoveBenchmark_jmhType_B3 {
+}
+
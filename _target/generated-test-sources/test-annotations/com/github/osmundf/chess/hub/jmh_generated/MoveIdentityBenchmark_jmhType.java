@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class MoveIdentityBenchmark_jmhType extends MoveIdentityBenchmark_jmhType_B3 {
+}
+
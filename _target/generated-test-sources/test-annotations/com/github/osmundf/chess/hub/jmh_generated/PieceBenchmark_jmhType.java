@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class PieceBenchmark_jmhType extends PieceBenchmark_jmhType_B3 {
+}
+
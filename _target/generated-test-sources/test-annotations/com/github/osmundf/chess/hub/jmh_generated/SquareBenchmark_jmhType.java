@@ -0,0 +1,4 @@
+package com.github.osmundf.chess.hub.jmh_generated;
+public class SquareBenchmark_jmhType extends SquareBenchmark_jmhType_B3 {
+}
+
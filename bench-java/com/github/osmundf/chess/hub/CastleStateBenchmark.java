@@ -0,0 +1,90 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.osmundf.chess.hub.Side.WHITE;
+
+/**
+ * Castle state benchmarks over all valid castle state hashes.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CastleStateBenchmark {
+
+    private byte[] hashes;
+
+    private CastleState[] states;
+
+    private int index;
+
+    /**
+     * Castle state benchmark constructor (public for JMH).
+     */
+    public CastleStateBenchmark() {
+    }
+
+    /**
+     * Collects valid castle state hashes, repeated to a power-of-two length.
+     */
+    @Setup
+    public void setUp() {
+        byte[] valid = new byte[256];
+        int count = 0;
+        for (int hash = 0; hash < 256; hash++) {
+            try {
+                CastleState.castleStateFor((byte) hash);
+                valid[count++] = (byte) hash;
+            }
+            catch (ChessException e) {
+                // skip invalid hash
+            }
+        }
+        hashes = new byte[256];
+        states = new CastleState[hashes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = valid[i % count];
+            states[i] = CastleState.castleStateFor(hashes[i]);
+        }
+    }
+
+    /**
+     * Benchmark for {@link CastleState#castleStateFor(byte)}.
+     *
+     * @return castle state
+     */
+    @Benchmark
+    public CastleState castleStateFor() {
+        index = index + 1 & hashes.length - 1;
+        return CastleState.castleStateFor(hashes[index]);
+    }
+
+    /**
+     * Benchmark for {@link CastleState#revokeKingSide(Side)}.
+     *
+     * @return castle state
+     */
+    @Benchmark
+    public CastleState revokeKingSide() {
+        index = index + 1 & states.length - 1;
+        return states[index].revokeKingSide(WHITE);
+    }
+}
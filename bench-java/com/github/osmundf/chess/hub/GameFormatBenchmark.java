@@ -0,0 +1,121 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+
+/**
+ * Game format benchmarks decoding the same random games from PGN and from the binary game format. The size of each
+ * encoding is printed on setup.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameFormatBenchmark {
+
+    private byte[] pgn;
+
+    private byte[] binary;
+
+    /**
+     * Game format benchmark constructor (public for JMH).
+     */
+    public GameFormatBenchmark() {
+    }
+
+    /**
+     * Creates random games in PGN and binary encodings.
+     *
+     * @throws IOException on write error
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(0x5eedL);
+        San san = San.sanFor();
+        StringBuilder text = new StringBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameWriter writer = GameWriter.gameWriterFor(bytes);
+        int[] legal = new int[MAX_MOVES];
+        for (int game = 0; game < 1000; game++) {
+            Position position = Position.initialPosition();
+            int[] moves = new int[80];
+            int plies = 0;
+            for (; plies < moves.length; plies++) {
+                int count = legalMoves(position, legal);
+                if (count == 0) {
+                    break;
+                }
+                moves[plies] = legal[random.nextInt(count)];
+                if ((plies & 0x1) == 0) {
+                    text.append(plies / 2 + 1).append(". ");
+                }
+                text.append(san.sanFor(position, moves[plies])).append(' ');
+                position.makeMove(moves[plies]);
+            }
+            text.append("*\n\n");
+            writer.write(GameRecord.gameRecordFor(Collections.emptyMap(), "*", Arrays.copyOf(moves, plies)));
+        }
+        writer.flush();
+        pgn = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+        binary = bytes.toByteArray();
+        System.out.printf("%nPGN bytes: %d, binary bytes: %d%n", pgn.length, binary.length);
+    }
+
+    /**
+     * Benchmark for reading and resolving all games with {@link PgnReader}.
+     *
+     * @return number of plies
+     * @throws IOException on read error
+     */
+    @Benchmark
+    public int decodePgn() throws IOException {
+        PgnReader reader = PgnReader.pgnReaderFor(new ByteArrayInputStream(pgn));
+        int plies = 0;
+        for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+            plies += game.moves().length;
+        }
+        return plies;
+    }
+
+    /**
+     * Benchmark for reading and decoding all games with {@link GameReader}.
+     *
+     * @return number of plies
+     * @throws IOException on read error
+     */
+    @Benchmark
+    public int decodeBinary() throws IOException {
+        GameReader reader = GameReader.gameReaderFor(new ByteArrayInputStream(binary));
+        int plies = 0;
+        for (GameRecord game = reader.next(); game != null; game = reader.next()) {
+            plies += game.moves().length;
+        }
+        return plies;
+    }
+}
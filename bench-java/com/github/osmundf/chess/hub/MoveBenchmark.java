@@ -0,0 +1,186 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.QUEEN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.MoveType.CASTLE_SHORT;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+
+/**
+ * Move hot path benchmarks over the distinct legal move hashes of the initial and kiwipete positions.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+
+    private int[] hashes;
+
+    private Move[] moves;
+
+    private int index;
+
+    private Side side;
+
+    private Square from;
+
+    private Square to;
+
+    private Square kingSquare;
+
+    private Square rookSquare;
+
+    /**
+     * Move benchmark constructor (public for JMH).
+     */
+    public MoveBenchmark() {
+    }
+
+    /**
+     * Collects move hashes and moves.
+     */
+    @Setup
+    public void setUp() {
+        Set<Integer> set = new LinkedHashSet<>();
+        collect(Position.initialPosition(), 4, set);
+        collect(Fen.positionFor("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 3, set);
+        hashes = new int[Integer.highestOneBit(set.size())];
+        moves = new Move[hashes.length];
+        int i = 0;
+        for (int hash : set) {
+            if (i == hashes.length) {
+                break;
+            }
+            hashes[i] = hash;
+            moves[i] = Move.moveFor(hash);
+            i++;
+        }
+        side = WHITE;
+        from = Square.G1;
+        to = Square.F3;
+        kingSquare = Square.E1;
+        rookSquare = Square.H1;
+    }
+
+    /**
+     * Benchmark for {@link Move#moveFor(int)}.
+     *
+     * @return move
+     */
+    @Benchmark
+    public Move moveFor() {
+        index = index + 1 & hashes.length - 1;
+        return Move.moveFor(hashes[index]);
+    }
+
+    /**
+     * Benchmark for {@link Move#validate()}.
+     *
+     * @return validation error or null
+     */
+    @Benchmark
+    public ChessException validate() {
+        index = index + 1 & moves.length - 1;
+        return moves[index].validate();
+    }
+
+    /**
+     * Benchmark for {@link Move#validationCodeFor(int)}.
+     *
+     * @return validation code
+     */
+    @Benchmark
+    public int validationCodeFor() {
+        index = index + 1 & hashes.length - 1;
+        return Move.validationCodeFor(hashes[index]);
+    }
+
+    /**
+     * Benchmark for {@link Move#id()}.
+     *
+     * @return move identity
+     */
+    @Benchmark
+    public MoveIdentity id() {
+        index = index + 1 & moves.length - 1;
+        return moves[index].id();
+    }
+
+    /**
+     * Benchmark for {@link Move#basicMove(Side, Caste, Square, Square)}.
+     *
+     * @return move
+     */
+    @Benchmark
+    public Move basicMove() {
+        return Move.basicMove(side, KNIGHT, from, to);
+    }
+
+    /**
+     * Benchmark for {@link Move#captureMove(Side, Caste, Caste, Square, Square)}.
+     *
+     * @return move
+     */
+    @Benchmark
+    public Move captureMove() {
+        return Move.captureMove(side, ROOK, QUEEN, from, to);
+    }
+
+    /**
+     * Benchmark for {@link Move#doublePushMove(Side, Square)}.
+     *
+     * @return move
+     */
+    @Benchmark
+    public Move doublePushMove() {
+        return Move.doublePushMove(side, Square.E2);
+    }
+
+    /**
+     * Benchmark for {@link Move#castleMove(MoveType, Side, Square, Square)}.
+     *
+     * @return move
+     */
+    @Benchmark
+    public Move castleMove() {
+        return Move.castleMove(CASTLE_SHORT, side, kingSquare, rookSquare);
+    }
+
+    private static void collect(Position position, int depth, Set<Integer> set) {
+        if (depth == 0) {
+            return;
+        }
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.legalMoves(position, buffer);
+        for (int i = 0; i < count; i++) {
+            set.add(buffer[i]);
+            position.makeMove(buffer[i]);
+            collect(position, depth - 1, set);
+            position.unmakeMove();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Move identity benchmarks over random 25-bit hashes, mostly invalid.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveIdentityBenchmark {
+
+    private int[] hashes;
+
+    private MoveIdentity[] identities;
+
+    private int index;
+
+    /**
+     * Move identity benchmark constructor (public for JMH).
+     */
+    public MoveIdentityBenchmark() {
+    }
+
+    /**
+     * Creates random hashes and identities.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0x5eedL);
+        hashes = new int[1 << 12];
+        identities = new MoveIdentity[hashes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextInt() & 0x1ffffff;
+            identities[i] = MoveIdentity.moveIdentityFor(hashes[i]);
+        }
+    }
+
+    /**
+     * Benchmark for {@link MoveIdentity#moveIdentityFor(int)}.
+     *
+     * @return move identity
+     */
+    @Benchmark
+    public MoveIdentity moveIdentityFor() {
+        index = index + 1 & hashes.length - 1;
+        return MoveIdentity.moveIdentityFor(hashes[index]);
+    }
+
+    /**
+     * Benchmark for {@link MoveIdentity#valid()}.
+     *
+     * @return true if valid
+     */
+    @Benchmark
+    public boolean valid() {
+        index = index + 1 & identities.length - 1;
+        return identities[index].valid();
+    }
+}
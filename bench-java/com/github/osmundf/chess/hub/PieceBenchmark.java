@@ -0,0 +1,73 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Piece factory benchmarks over random sides, castes and squares.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceBenchmark {
+
+    private Side[] sides;
+
+    private Caste[] castes;
+
+    private Square[] squares;
+
+    private int index;
+
+    /**
+     * Piece benchmark constructor (public for JMH).
+     */
+    public PieceBenchmark() {
+    }
+
+    /**
+     * Creates random piece inputs.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0x5eedL);
+        int size = 1 << 10;
+        sides = new Side[size];
+        castes = new Caste[size];
+        squares = new Square[size];
+        for (int i = 0; i < size; i++) {
+            sides[i] = random.nextBoolean() ? Side.WHITE : Side.BLACK;
+            castes[i] = Caste.casteFromIndex(1 + random.nextInt(6));
+            squares[i] = Square.squareFromIndex((byte) random.nextInt(64));
+        }
+    }
+
+    /**
+     * Benchmark for {@link Piece#pieceFor(Side, Caste, Square)}.
+     *
+     * @return piece
+     */
+    @Benchmark
+    public Piece pieceFor() {
+        index = index + 1 & squares.length - 1;
+        return Piece.pieceFor(sides[index], castes[index], squares[index]);
+    }
+}
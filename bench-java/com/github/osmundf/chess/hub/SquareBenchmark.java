@@ -0,0 +1,104 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Square benchmarks over random on-board coordinates and translations.
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SquareBenchmark {
+
+    private Square[] squares;
+
+    private char[] files;
+
+    private int[] ranks;
+
+    private int[] deltaFiles;
+
+    private int[] deltaRanks;
+
+    private int index;
+
+    /**
+     * Square benchmark constructor (public for JMH).
+     */
+    public SquareBenchmark() {
+    }
+
+    /**
+     * Creates random squares and on-board translations.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0x5eedL);
+        int size = 1 << 10;
+        squares = new Square[size];
+        files = new char[size];
+        ranks = new int[size];
+        deltaFiles = new int[size];
+        deltaRanks = new int[size];
+        for (int i = 0; i < size; i++) {
+            Square square = Square.squareFromIndex((byte) random.nextInt(64));
+            squares[i] = square;
+            files[i] = square.file();
+            ranks[i] = square.rank();
+            deltaFiles[i] = random.nextInt(8) - (square.file() - 'a');
+            deltaRanks[i] = random.nextInt(8) - (square.rank() - 1);
+        }
+    }
+
+    /**
+     * Benchmark for {@link Square#squareFor(char, int)}.
+     *
+     * @return square
+     */
+    @Benchmark
+    public Square squareFor() {
+        index = index + 1 & files.length - 1;
+        return Square.squareFor(files[index], ranks[index]);
+    }
+
+    /**
+     * Benchmark for {@link Square#squareFromIndex(byte)}.
+     *
+     * @return square
+     */
+    @Benchmark
+    public Square squareFromIndex() {
+        index = index + 1 & squares.length - 1;
+        return Square.squareFromIndex(squares[index].index());
+    }
+
+    /**
+     * Benchmark for {@link Square#translate(int, int)}.
+     *
+     * @return square
+     */
+    @Benchmark
+    public Square translate() {
+        index = index + 1 & squares.length - 1;
+        return squares[index].translate(deltaFiles[index], deltaRanks[index]);
+    }
+}
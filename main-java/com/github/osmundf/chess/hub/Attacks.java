@@ -0,0 +1,362 @@
+package com.github.osmundf.chess.hub;
+
+/**
+ * <p>Chess attack tables.
+ * </p>
+ * <p>Attack sets are bitboards indexed by {@link Square#index()}, computed once at class load.
+ * </p>
+ * <p>Slider attacks use fixed-shift fancy magic bitboards: the relevant occupancy of a square is multiplied by the
+ * square's magic number and the high bits index the square's slice of a single shared table. The magic numbers were
+ * found offline with a seeded search, so class initialisation only fills the table (107,648 longs, 841 KiB).
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Attacks {
+
+    /** Constant <code>knightDelta</code> for knight jumps as file/rank pairs. */
+    static final int[][] knightDelta = {
+        {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}
+    };
+
+    /** Constant <code>rayDelta</code> for ray directions as file/rank pairs (N, NE, E, SE, S, SW, W, NW). */
+    static final int[][] rayDelta = {
+        {0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1}, {-1, 0}, {-1, 1}
+    };
+
+    /** Constant <code>rookMagic</code> for rook magic numbers; index: square */
+    private static final long[] rookMagic = {
+        0x008000908064c000L, 0x0040200040001000L, 0x0180100080a0010aL, 0x8880041000800800L,
+        0x1200100201200804L, 0x0200020004011008L, 0x2180010000800600L, 0x0200005088210204L,
+        0x0400800040008021L, 0x0400400020005000L, 0x8240801000200080L, 0x8611001004200900L,
+        0x008180800c001800L, 0x0100800200800400L, 0x0a02000102000408L, 0x8020802300104280L,
+        0x0080004000402000L, 0xe010104000402000L, 0x0800808010002000L, 0xa280210008100100L,
+        0x0001818014000800L, 0xa002010100080400L, 0x0080240001020870L, 0x0001020004048845L,
+        0x0081826280004004L, 0x2020810900284000L, 0x0200100080802000L, 0x0200080080100080L,
+        0x8083080100100500L, 0x4406000901000400L, 0x0005020080800100L, 0x0090204200008114L,
+        0x0010400094800420L, 0x0900804000802002L, 0x0201001841002000L, 0x4100080080801000L,
+        0x4540040080800800L, 0x0002001004040020L, 0x0281195814001002L, 0x1240800040800100L,
+        0x0880042000524004L, 0x02c080410206002cL, 0x0801200241050010L, 0x8400080010008080L,
+        0x0008000500090010L, 0x0082009084020008L, 0x4012000108020004L, 0x9000104d08860004L,
+        0x2004204114800100L, 0x0148802112400300L, 0x0202842000100880L, 0x001b080080900080L,
+        0x001a002008100600L, 0x0004008004020080L, 0x5181000600040300L, 0x0000044401128a00L,
+        0x8044110480002441L, 0x2008110084402202L, 0x90806005090010c1L, 0x000420310a004a42L,
+        0x0023001004020801L, 0x0882001008040102L, 0x000230088118020cL, 0x0000019025040042L
+    };
+
+    /** Constant <code>bishopMagic</code> for bishop magic numbers; index: square */
+    private static final long[] bishopMagic = {
+        0x0045010808008680L, 0x2002080204004898L, 0x0210009a10400006L, 0x0824050200810200L,
+        0x0006061105004090L, 0x00010108c0000000L, 0x0814040282104004L, 0x0012012201106800L,
+        0x10823014100c1040L, 0x0080c2088802808cL, 0x0281108410404000L, 0x0101212041826200L,
+        0x0020141028221058L, 0x2201020202200202L, 0x000082a801482000L, 0x0000008401411044L,
+        0x0007103014300404L, 0x0002091110010100L, 0x42140012040c0808L, 0x0800808802004020L,
+        0x90c4004210140000L, 0x0800200900a01000L, 0x00d0400201108810L, 0x80820183814412a0L,
+        0x00a01008202202b4L, 0x01c2021a09500402L, 0x0084440208042400L, 0x800400400c090100L,
+        0xba10040010802100L, 0xd182009006005000L, 0x5011021001009004L, 0x0020420200510400L,
+        0x0292104000468800L, 0x00043009091c0500L, 0x0280441000020025L, 0x0042820080080080L,
+        0x0440101010010040L, 0x1000900100808080L, 0x0108108120089800L, 0x0044010200012682L,
+        0xc002500420900400L, 0x0040482210710800L, 0x0002060024000200L, 0x0281020a44000800L,
+        0xa0021200a4000200L, 0x0001301000840840L, 0x2868500108444220L, 0x0004111041000200L,
+        0x8044020842080200L, 0x0000220104210200L, 0x0000021201044000L, 0x0000280884040028L,
+        0x4012114010858003L, 0x0000081004082b88L, 0x3892700508208002L, 0x00220a041b060400L,
+        0x0812020284014881L, 0x010434a282103100L, 0x0490400824020800L, 0x4a20002c00208800L,
+        0x000000a011020200L, 0x4002940a02482202L, 0x5100100202140406L, 0x02102000840540c1L
+    };
+
+    /** Knight attacks; index: square */
+    private static final long[] knightTable = new long[64];
+
+    /** King attacks; index: square */
+    private static final long[] kingTable = new long[64];
+
+    /** Pawn attacks; index: side &lt;&lt; 6 | square */
+    private static final long[] pawnTable = new long[192];
+
+    /** Empty board rays; index: direction &lt;&lt; 6 | square */
+    private static final long[] rayTable = new long[512];
+
+    /** Squares strictly between two squares on a common line; index: from &lt;&lt; 6 | to */
+    private static final long[] betweenTable = new long[4096];
+
+    /** Full board line through two squares on a common line; index: from &lt;&lt; 6 | to */
+    private static final long[] lineTable = new long[4096];
+
+    /** Relevant rook occupancy; index: square */
+    private static final long[] rookMask = new long[64];
+
+    /** Relevant bishop occupancy; index: square */
+    private static final long[] bishopMask = new long[64];
+
+    /** Magic index shift for rook; index: square */
+    private static final int[] rookShift = new int[64];
+
+    /** Magic index shift for bishop; index: square */
+    private static final int[] bishopShift = new int[64];
+
+    /** Rook slice offset in slider table; index: square */
+    private static final int[] rookOffset = new int[64];
+
+    /** Bishop slice offset in slider table; index: square */
+    private static final int[] bishopOffset = new int[64];
+
+    /** Slider attacks for all squares and relevant occupancies, rook slices followed by bishop slices */
+    private static final long[] sliderTable;
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            int file = square & 0x7;
+            int rank = square >> 3;
+
+            for (int[] delta : knightDelta) {
+                knightTable[square] |= bit(file + delta[0], rank + delta[1]);
+            }
+            for (int[] delta : rayDelta) {
+                kingTable[square] |= bit(file + delta[0], rank + delta[1]);
+            }
+            pawnTable[Side.WHITE.index() << 6 | square] = bit(file - 1, rank + 1) | bit(file + 1, rank + 1);
+            pawnTable[Side.BLACK.index() << 6 | square] = bit(file - 1, rank - 1) | bit(file + 1, rank - 1);
+
+            for (int direction = 0; direction < 8; direction++) {
+                long ray = 0L;
+                int f = file + rayDelta[direction][0];
+                int r = rank + rayDelta[direction][1];
+                while (0 <= f && f <= 7 && 0 <= r && r <= 7) {
+                    ray |= 1L << (r << 3 | f);
+                    f += rayDelta[direction][0];
+                    r += rayDelta[direction][1];
+                }
+                rayTable[direction << 6 | square] = ray;
+            }
+        }
+
+        for (int from = 0; from < 64; from++) {
+            for (int direction = 0; direction < 8; direction++) {
+                long ray = rayTable[direction << 6 | from];
+                long opposite = rayTable[(direction + 4 & 0x7) << 6 | from];
+                for (long bits = ray; bits != 0; bits &= bits - 1) {
+                    int to = Long.numberOfTrailingZeros(bits);
+                    betweenTable[from << 6 | to] = ray & ~rayTable[direction << 6 | to] & ~(1L << to);
+                    lineTable[from << 6 | to] = ray | opposite | 1L << from;
+                }
+            }
+        }
+
+        int size = 0;
+        for (int square = 0; square < 64; square++) {
+            rookMask[square] = innerRay(0, square) | innerRay(2, square) | innerRay(4, square) | innerRay(6, square);
+            bishopMask[square] = innerRay(1, square) | innerRay(3, square) | innerRay(5, square) | innerRay(7, square);
+
+            rookShift[square] = 64 - Long.bitCount(rookMask[square]);
+            bishopShift[square] = 64 - Long.bitCount(bishopMask[square]);
+            rookOffset[square] = size;
+            size += 1 << Long.bitCount(rookMask[square]);
+        }
+        for (int square = 0; square < 64; square++) {
+            bishopOffset[square] = size;
+            size += 1 << Long.bitCount(bishopMask[square]);
+        }
+
+        sliderTable = new long[size];
+        for (int square = 0; square < 64; square++) {
+            // Enumerate all subsets of the relevant occupancy (carry-rippler).
+            long mask = rookMask[square];
+            long subset = 0L;
+            do {
+                int index = (int) ((subset * rookMagic[square]) >>> rookShift[square]);
+                sliderTable[rookOffset[square] + index] = slowRookAttacks(square, subset);
+                subset = (subset - mask) & mask;
+            }
+            while (subset != 0);
+
+            mask = bishopMask[square];
+            do {
+                int index = (int) ((subset * bishopMagic[square]) >>> bishopShift[square]);
+                sliderTable[bishopOffset[square] + index] = slowBishopAttacks(square, subset);
+                subset = (subset - mask) & mask;
+            }
+            while (subset != 0);
+        }
+    }
+
+    /**
+     * Returns knight attacks from square.
+     *
+     * @param square square index
+     * @return bitboard of attacked squares
+     */
+    public static long knightAttacks(int square) {
+        return knightTable[square];
+    }
+
+    /**
+     * Returns king attacks from square.
+     *
+     * @param square square index
+     * @return bitboard of attacked squares
+     */
+    public static long kingAttacks(int square) {
+        return kingTable[square];
+    }
+
+    /**
+     * Returns pawn attacks from square.
+     *
+     * @param side   side index of attacking pawn
+     * @param square square index
+     * @return bitboard of attacked squares
+     */
+    public static long pawnAttacks(int side, int square) {
+        return pawnTable[side << 6 | square];
+    }
+
+    /**
+     * Returns bishop attacks from square.
+     *
+     * @param square   square index
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of attacked squares, including the first blocker on each ray
+     */
+    public static long bishopAttacks(int square, long occupied) {
+        long index = ((occupied & bishopMask[square]) * bishopMagic[square]) >>> bishopShift[square];
+        return sliderTable[bishopOffset[square] + (int) index];
+    }
+
+    /**
+     * Returns rook attacks from square.
+     *
+     * @param square   square index
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of attacked squares, including the first blocker on each ray
+     */
+    public static long rookAttacks(int square, long occupied) {
+        long index = ((occupied & rookMask[square]) * rookMagic[square]) >>> rookShift[square];
+        return sliderTable[rookOffset[square] + (int) index];
+    }
+
+    /**
+     * Returns queen attacks from square.
+     *
+     * @param square   square index
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of attacked squares, including the first blocker on each ray
+     */
+    public static long queenAttacks(int square, long occupied) {
+        return bishopAttacks(square, occupied) | rookAttacks(square, occupied);
+    }
+
+    /**
+     * Returns squares strictly between two squares.
+     *
+     * @param from square index
+     * @param to   square index
+     * @return bitboard of squares between, empty if squares do not share a line
+     */
+    public static long between(int from, int to) {
+        return betweenTable[from << 6 | to];
+    }
+
+    /**
+     * Returns full board line through two squares.
+     *
+     * @param from square index
+     * @param to   square index
+     * @return bitboard of line through both squares, empty if squares do not share a line
+     */
+    public static long line(int from, int to) {
+        return lineTable[from << 6 | to];
+    }
+
+    /**
+     * Returns bishop attacks by ray scan, for table initialisation.
+     *
+     * @param square   square index
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of attacked squares
+     */
+    private static long slowBishopAttacks(int square, long occupied) {
+        return positiveRay(1, square, occupied) | negativeRay(3, square, occupied)
+            | negativeRay(5, square, occupied) | positiveRay(7, square, occupied);
+    }
+
+    /**
+     * Returns rook attacks by ray scan, for table initialisation.
+     *
+     * @param square   square index
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of attacked squares
+     */
+    private static long slowRookAttacks(int square, long occupied) {
+        return positiveRay(0, square, occupied) | positiveRay(2, square, occupied)
+            | negativeRay(4, square, occupied) | negativeRay(6, square, occupied);
+    }
+
+    /**
+     * Returns ray attacks for a direction of increasing square index.
+     *
+     * @param direction ray direction
+     * @param square    square index
+     * @param occupied  bitboard of occupied squares
+     * @return bitboard of attacked squares
+     */
+    private static long positiveRay(int direction, int square, long occupied) {
+        long ray = rayTable[direction << 6 | square];
+        long blockers = ray & occupied;
+        if (blockers == 0) {
+            return ray;
+        }
+        return ray ^ rayTable[direction << 6 | Long.numberOfTrailingZeros(blockers)];
+    }
+
+    /**
+     * Returns ray attacks for a direction of decreasing square index.
+     *
+     * @param direction ray direction
+     * @param square    square index
+     * @param occupied  bitboard of occupied squares
+     * @return bitboard of attacked squares
+     */
+    private static long negativeRay(int direction, int square, long occupied) {
+        long ray = rayTable[direction << 6 | square];
+        long blockers = ray & occupied;
+        if (blockers == 0) {
+            return ray;
+        }
+        return ray ^ rayTable[direction << 6 | 63 - Long.numberOfLeadingZeros(blockers)];
+    }
+
+    /**
+     * Returns empty board ray without its edge square, the relevant occupancy for magic indexing.
+     *
+     * @param direction ray direction
+     * @param square    square index
+     * @return bitboard of ray without edge square
+     */
+    private static long innerRay(int direction, int square) {
+        long ray = rayTable[direction << 6 | square];
+        boolean positive = direction <= 2 || direction == 7;
+        return ray & ~(positive ? Long.highestOneBit(ray) : Long.lowestOneBit(ray));
+    }
+
+    /**
+     * Returns bit for file and rank, empty if off the board.
+     *
+     * @param file file index
+     * @param rank rank index
+     * @return bitboard with square bit
+     */
+    private static long bit(int file, int rank) {
+        if (file < 0 || 7 < file || rank < 0 || 7 < rank) {
+            return 0L;
+        }
+        return 1L << (rank << 3 | file);
+    }
+
+    /**
+     * Attacks constructor (private).
+     */
+    private Attacks() {
+    }
+}
@@ -22,6 +22,9 @@ public enum Caste {
         NONE, PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING
     };
 
+    /** Constant <code>valueTable</code> for material values; index: caste index */
+    private static final int[] valueTable = {0, 1, 3, 3, 5, 9, 300};
+
     /**
      * Chess caste utility method.
      *
@@ -30,12 +33,25 @@ public enum Caste {
      */
     public static Caste casteFromIndex(int index) {
         if (index < 0 || 6 < index) {
-            Exception cause = new Exception("index: " + index);
+            if (ChessException.SHARED) {
+                throw ChessException.sharedException("chess.caste.index.invalid");
+            }
+            ChessException cause = new ChessException("index: " + index);
             throw new ChessException("chess.caste.index.invalid", cause);
         }
         return casteArray[index];
     }
 
+    /**
+     * Returns material value for caste index.
+     *
+     * @param index caste index (0 to 6)
+     * @return material value
+     */
+    public static int valueOfIndex(int index) {
+        return valueTable[index];
+    }
+
     private final byte index;
 
     /**
@@ -53,21 +69,7 @@ public enum Caste {
      * @return material value
      */
     public int value() {
-        switch (this) {
-            case KING:
-                return 300;
-            case QUEEN:
-                return 9;
-            case ROOK:
-                return 5;
-            case KNIGHT:
-            case BISHOP:
-                return 3;
-            case PAWN:
-                return 1;
-            default:
-                return 0;
-        }
+        return valueTable[index];
     }
 
     /**
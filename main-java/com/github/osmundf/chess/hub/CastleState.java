@@ -1,10 +1,16 @@
 package com.github.osmundf.chess.hub;
 
+import java.util.Arrays;
+
 import static com.github.osmundf.chess.hub.Side.NO_SIDE;
 import static com.github.osmundf.chess.hub.Side.WHITE;
 
 /**
- * Chess castle state.
+ * <p>Chess castle state.
+ * </p>
+ * <p>Castle states are interned: the factory method and every transition return the shared instance for the
+ * resulting hash.
+ * </p>
  *
  * @author Osmund
  * @version 1.0.0
@@ -12,13 +18,80 @@ import static com.github.osmundf.chess.hub.Side.WHITE;
  */
 public class CastleState {
 
+    /** Constant <code>castleStateTable</code> for interned castle states; index: hash &amp; 0xff, null if invalid */
+    private static final CastleState[] castleStateTable = new CastleState[256];
+
+    /** Constant <code>castleMask</code> for castling rights retained when a move touches a square. */
+    private static final byte[] castleMask = new byte[64];
+
+    /** Castle state hash after castling; index: hash &amp; 0xff &lt;&lt; 2 | (side - 1) &lt;&lt; 1 | long */
+    private static final byte[] castledTable = new byte[1024];
+
+    static {
+        for (int hash = 0; hash < 256; hash++) {
+            if (invalidReason(hash) == null) {
+                castleStateTable[hash] = new CastleState((byte) hash);
+            }
+            castledTable[hash << 2] = (byte) (hash & 0xf0 | 0x08);
+            castledTable[hash << 2 | 0x1] = (byte) (hash & 0xf0 | 0x04);
+            castledTable[hash << 2 | 0x2] = (byte) (hash & 0x0f | 0x80);
+            castledTable[hash << 2 | 0x3] = (byte) (hash & 0x0f | 0x40);
+        }
+
+        Arrays.fill(castleMask, (byte) 0xff);
+        castleMask[Square.A1.index()] = (byte) ~0x10;
+        castleMask[Square.E1.index()] = (byte) ~0x30;
+        castleMask[Square.H1.index()] = (byte) ~0x20;
+        castleMask[Square.A8.index()] = (byte) ~0x01;
+        castleMask[Square.E8.index()] = (byte) ~0x03;
+        castleMask[Square.H8.index()] = (byte) ~0x02;
+    }
+
     /**
      * Chess castle state factory method.
      *
      * @param hash castle state hash
-     * @return new instance of castle state for hash
+     * @return shared instance of castle state for hash
      */
     public static CastleState castleStateFor(byte hash) {
+        CastleState state = castleStateTable[hash & 0xff];
+        if (state == null) {
+            String hashString = String.format("0x%02x", hash);
+            ChessException cause = new ChessException(invalidReason(hash & 0xff) + ": " + hashString);
+            throw new ChessException("chess.castle.state.hash.invalid", cause);
+        }
+        return state;
+    }
+
+    /**
+     * Returns castling rights retained when a move touches a square, as a mask over the castle state hash.
+     *
+     * @param square square index
+     * @return castle state hash mask
+     */
+    static byte castleMask(int square) {
+        return castleMask[square];
+    }
+
+    /**
+     * Returns castle state hash after side castles.
+     *
+     * @param hash        castle state hash
+     * @param side        side index
+     * @param castleShort true for king-side castling, false for queen-side
+     * @return castle state hash
+     */
+    static byte castledHash(byte hash, int side, boolean castleShort) {
+        return castledTable[(hash & 0xff) << 2 | (side - 1) << 1 | (castleShort ? 0x0 : 0x1)];
+    }
+
+    /**
+     * Returns the reason a castle state hash is invalid.
+     *
+     * @param hash castle state hash (0 to 255)
+     * @return reason, null if hash is valid
+     */
+    private static String invalidReason(int hash) {
         boolean wck = (hash & 0x80) != 0x0;
         boolean wcq = (hash & 0x40) != 0x0;
         boolean wkr = (hash & 0x10) != 0x0;
@@ -35,42 +108,24 @@ public class CastleState {
         boolean br = bkr | bqr;
 
         if (wc && wr && bc && br) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("both.castled.retained.rights: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "both.castled.retained.rights";
         }
-
         if (wc && wr) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("white.castled.retained.rights: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "white.castled.retained.rights";
         }
-
         if (bc && br) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("black.castled.retained.rights: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "black.castled.retained.rights";
         }
-
         if (wck && wcq && bck && bcq) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("both.castled.both.sides: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "both.castled.both.sides";
         }
-
         if (wck && wcq) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("white.castled.both.sides: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "white.castled.both.sides";
         }
-
         if (bck && bcq) {
-            String hashString = String.format("0x%02x", hash);
-            ChessException cause = new ChessException("black.castled.both.sides: " + hashString);
-            throw new ChessException("chess.castle.state.hash.invalid", cause);
+            return "black.castled.both.sides";
         }
-
-        return new CastleState(hash);
+        return null;
     }
 
     private final byte hash;
@@ -101,10 +156,10 @@ public class CastleState {
             throw new ChessException("chess.castle.state.castle.king.side.failed", cause);
         }
         if (WHITE == side) {
-            return new CastleState((byte) ((hash & 0x0f) | 0x80));
+            return castleStateTable[hash & 0x0f | 0x80];
         }
         else {
-            return new CastleState((byte) ((hash & 0xf0) | 0x8));
+            return castleStateTable[hash & 0xf0 | 0x8];
         }
     }
 
@@ -124,10 +179,10 @@ public class CastleState {
             throw new ChessException("chess.castle.state.castle.queen.side.failed", cause);
         }
         if (WHITE == side) {
-            return new CastleState((byte) ((hash & 0x0f) | 0x40));
+            return castleStateTable[hash & 0x0f | 0x40];
         }
         else {
-            return new CastleState((byte) ((hash & 0xf0) | 0x4));
+            return castleStateTable[hash & 0xf0 | 0x4];
         }
     }
 
@@ -199,10 +254,10 @@ public class CastleState {
             throw new ChessException("chess.castle.state.revoke.both.failed", cause);
         }
         if (WHITE == side) {
-            return new CastleState((byte) (hash & 0xf));
+            return castleStateTable[hash & 0xf];
         }
         else {
-            return new CastleState((byte) (hash & 0xf0));
+            return castleStateTable[hash & 0xf0];
         }
     }
 
@@ -222,10 +277,10 @@ public class CastleState {
             throw new ChessException("chess.castle.state.revoke.king.side.failed", cause);
         }
         if (WHITE == side) {
-            return new CastleState((byte) (hash & 0x1f));
+            return castleStateTable[hash & 0x1f];
         }
         else {
-            return new CastleState((byte) (hash & 0xf1));
+            return castleStateTable[hash & 0xf1];
         }
     }
 
@@ -245,10 +300,10 @@ public class CastleState {
             throw new ChessException("chess.castle.state.revoke.queen.side.failed", cause);
         }
         if (WHITE == side) {
-            return new CastleState((byte) (hash & 0x2f));
+            return castleStateTable[hash & 0x2f];
         }
         else {
-            return new CastleState((byte) (hash & 0xf2));
+            return castleStateTable[hash & 0xf2];
         }
     }
 
@@ -270,7 +325,7 @@ public class CastleState {
         else {
             result = hash & 0xf0 | 0x03;
         }
-        return new CastleState((byte) result);
+        return castleStateTable[result];
     }
 
     /**
@@ -291,7 +346,7 @@ public class CastleState {
         else {
             result = hash & 0xf0 | 0x02;
         }
-        return new CastleState((byte) result);
+        return castleStateTable[result];
     }
 
     /**
@@ -312,7 +367,19 @@ public class CastleState {
         else {
             result = hash & 0xf0 | 0x01;
         }
-        return new CastleState((byte) result);
+        return castleStateTable[result];
+    }
+
+    /**
+     * Returns the castle state after a move between two squares, with the rights of any king or rook moved from, or
+     * captured on, those squares revoked.
+     *
+     * @param from from square index
+     * @param to   to square index
+     * @return shared instance of castle state after move
+     */
+    public CastleState afterMove(int from, int to) {
+        return castleStateTable[hash & castleMask[from] & castleMask[to] & 0xff];
     }
 
     /**
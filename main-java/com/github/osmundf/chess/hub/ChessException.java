@@ -1,7 +1,15 @@
 package com.github.osmundf.chess.hub;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Chess exception.
+ * <p>Chess exception.
+ * </p>
+ * <p>Two system properties, read once at class load, make exceptions cheap where they drive control flow:
+ * <code>chess.exception.stackless=true</code> stops exceptions capturing stack traces, and
+ * <code>chess.exception.shared=true</code> makes the library's hot-path lookups ({@link Square}, {@link Caste} and
+ * {@link MoveType} by index or coordinate) throw a preallocated stackless exception for the key, without a cause.
+ * </p>
  *
  * @author Osmund
  * @version 1.0.0
@@ -9,13 +17,45 @@ package com.github.osmundf.chess.hub;
  */
 public final class ChessException extends RuntimeException {
 
+    /** Constant <code>STACKLESS_PROPERTY</code> for the system property disabling stack traces. */
+    public static final String STACKLESS_PROPERTY = "chess.exception.stackless";
+
+    /** Constant <code>SHARED_PROPERTY</code> for the system property enabling shared hot-path exceptions. */
+    public static final String SHARED_PROPERTY = "chess.exception.shared";
+
+    /** Constant <code>STACKLESS</code> for exceptions created without stack traces. */
+    static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    /** Constant <code>SHARED</code> for hot-path lookups throwing shared exceptions. */
+    static final boolean SHARED = Boolean.getBoolean(SHARED_PROPERTY);
+
+    /** Constant <code>sharedExceptions</code> for preallocated exceptions; key: exception message */
+    private static final ConcurrentHashMap<String, ChessException> sharedExceptions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared exception for a message key, preallocated on first use. Shared exceptions have no cause, no
+     * stack trace and no suppressed exceptions.
+     *
+     * @param message exception message
+     * @return shared chess exception
+     */
+    public static ChessException sharedException(String message) {
+        ChessException exception = sharedExceptions.get(message);
+        if (exception == null) {
+            exception = new ChessException(message, null, false, false);
+            ChessException previous = sharedExceptions.putIfAbsent(message, exception);
+            exception = previous != null ? previous : exception;
+        }
+        return exception;
+    }
+
     /**
      * Chess exception constructor.
      *
      * @param message exception message
      */
     public ChessException(String message) {
-        super(message);
+        super(message, null, true, !STACKLESS);
     }
 
     /**
@@ -25,6 +65,29 @@ public final class ChessException extends RuntimeException {
      * @param cause   exception cause
      */
     public ChessException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, !STACKLESS);
+    }
+
+    /**
+     * Chess exception constructor.
+     *
+     * @param message            exception message
+     * @param cause              exception cause
+     * @param writableStackTrace false for an exception without stack trace
+     */
+    public ChessException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
+
+    /**
+     * Chess exception constructor (private).
+     *
+     * @param message            exception message
+     * @param cause              exception cause
+     * @param enableSuppression  false to ignore suppressed exceptions
+     * @param writableStackTrace false for an exception without stack trace
+     */
+    private ChessException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
     }
 }
@@ -0,0 +1,445 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Chess external sorter of (key, value) long pairs (package-private).
+ * </p>
+ * <p>Entries are collected in a buffer of half the heap budget. A full buffer is sorted by unsigned key, then value,
+ * and written to a run file in the work directory. Finishing merges the runs, in several passes when there are more
+ * runs than the other half of the budget allows buffered readers for, and hands the sorted entries to an output.
+ * </p>
+ * <p>A {@link Combiner} may merge adjacent entries of equal key into one, when spilling and when merging; without one
+ * every entry is kept. Values must be non-negative when combined, so entries to merge sort next to each other.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ExternalSorter implements Closeable {
+
+    /** Constant <code>ENTRY_BYTES</code> for the buffer and run size of an entry (key and value longs). */
+    static final int ENTRY_BYTES = 16;
+
+    /** Constant <code>maxBufferEntries</code> for the largest entry buffer. */
+    private static final int maxBufferEntries = 1 << 29;
+
+    /** Constant <code>readerBytes</code> for the input buffer size of each run reader. */
+    private static final int readerBytes = 1 << 16;
+
+    /**
+     * Chess external sorter factory method.
+     *
+     * @param directory work directory for run files
+     * @param prefix    run file name prefix
+     * @param heapBytes heap budget in bytes
+     * @param combiner  entry combiner, or null to keep every entry
+     * @return new instance of external sorter
+     */
+    static ExternalSorter externalSorterFor(Path directory, String prefix, long heapBytes, Combiner combiner) {
+        return new ExternalSorter(directory, prefix, heapBytes, combiner);
+    }
+
+    /** Work directory for run files. */
+    private final Path directory;
+
+    /** Run file name prefix. */
+    private final String prefix;
+
+    /** Entry combiner, or null. */
+    private final Combiner combiner;
+
+    /** Number of runs merged in one pass. */
+    private final int fanIn;
+
+    /** Entry buffer; index: entry &lt;&lt; 1 (key), entry &lt;&lt; 1 | 1 (value) */
+    private final long[] buffer;
+
+    /** Number of longs used in entry buffer. */
+    private int size;
+
+    /** Run files, each sorted by entry. */
+    private final List<Path> runs;
+
+    /**
+     * External sorter constructor (private).
+     *
+     * @param directory work directory
+     * @param prefix    run file name prefix
+     * @param heapBytes heap budget in bytes
+     * @param combiner  entry combiner, or null
+     */
+    private ExternalSorter(Path directory, String prefix, long heapBytes, Combiner combiner) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.combiner = combiner;
+        this.fanIn = (int) Math.max(2, Math.min(1024, (heapBytes >> 1) / readerBytes));
+        this.buffer = new long[(int) Math.max(1, Math.min(maxBufferEntries, (heapBytes >> 1) / ENTRY_BYTES)) << 1];
+        this.runs = new ArrayList<>();
+    }
+
+    /**
+     * Adds entry, spilling the buffer to a run when full.
+     *
+     * @param key   entry key
+     * @param value entry value
+     * @throws IOException on run write error
+     */
+    void add(long key, long value) throws IOException {
+        if (size == buffer.length) {
+            spill();
+        }
+        buffer[size++] = key;
+        buffer[size++] = value;
+    }
+
+    /**
+     * Hands the sorted entries to output, merging and removing the run files.
+     *
+     * @param output entry output
+     * @throws IOException on read or write error
+     */
+    void finish(Output output) throws IOException {
+        spill();
+        while (runs.size() > fanIn) {
+            List<Path> group = new ArrayList<>(runs.subList(0, fanIn));
+            Path run = Files.createTempFile(directory, prefix, ".run");
+            runs.add(run);
+            try (DataOutputStream runOutput = outputFor(run)) {
+                merge(group, (key, value) -> {
+                    runOutput.writeLong(key);
+                    runOutput.writeLong(value);
+                });
+            }
+            delete(group);
+            runs.subList(0, fanIn).clear();
+        }
+        merge(runs, output);
+        delete(runs);
+        runs.clear();
+    }
+
+    /**
+     * Discards buffered entries and removes the run files.
+     *
+     * @throws IOException on delete error
+     */
+    @Override
+    public void close() throws IOException {
+        size = 0;
+        delete(runs);
+        runs.clear();
+    }
+
+    /**
+     * Sorts the buffer and writes its combined entries to a new run.
+     *
+     * @throws IOException on run write error
+     */
+    private void spill() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        sortEntries(buffer, 0, (size >> 1) - 1);
+        Path run = Files.createTempFile(directory, prefix, ".run");
+        runs.add(run);
+        try (DataOutputStream output = outputFor(run)) {
+            Pending pending = new Pending((key, value) -> {
+                output.writeLong(key);
+                output.writeLong(value);
+            });
+            for (int i = 0; i < size; i += 2) {
+                pending.accept(buffer[i], buffer[i + 1]);
+            }
+            pending.flush();
+        }
+        size = 0;
+    }
+
+    /**
+     * Merges sorted runs into output.
+     *
+     * @param group  run files
+     * @param output entry output
+     * @throws IOException on read or write error
+     */
+    private void merge(List<Path> group, Output output) throws IOException {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, group.size()),
+            (a, b) -> compare(a.key, a.value, b.key, b.value));
+        List<RunReader> readers = new ArrayList<>(group.size());
+        try {
+            for (Path run : group) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+            }
+            Pending pending = new Pending(output);
+            for (RunReader reader = queue.poll(); reader != null; reader = queue.poll()) {
+                pending.accept(reader.key, reader.value);
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+            }
+            pending.flush();
+        }
+        finally {
+            for (RunReader reader : readers) {
+                reader.input.close();
+            }
+        }
+    }
+
+    /**
+     * Sorts entries by unsigned key, then value.
+     *
+     * @param entries entry pairs
+     * @param low     first entry index
+     * @param high    last entry index
+     */
+    private static void sortEntries(long[] entries, int low, int high) {
+        while (high - low > 16) {
+            int middle = low + high >>> 1;
+            long pivotKey = entries[middle << 1];
+            long pivotValue = entries[middle << 1 | 1];
+            int i = low - 1;
+            int j = high + 1;
+            while (true) {
+                do {
+                    i++;
+                } while (compare(entries[i << 1], entries[i << 1 | 1], pivotKey, pivotValue) < 0);
+                do {
+                    j--;
+                } while (compare(entries[j << 1], entries[j << 1 | 1], pivotKey, pivotValue) > 0);
+                if (i >= j) {
+                    break;
+                }
+                swap(entries, i, j);
+            }
+            if (j - low < high - j) {
+                sortEntries(entries, low, j);
+                low = j + 1;
+            }
+            else {
+                sortEntries(entries, j + 1, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(entries[j - 1 << 1], entries[j - 1 << 1 | 1],
+                entries[j << 1], entries[j << 1 | 1]) > 0; j--) {
+                swap(entries, j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Compares entries by unsigned key, then value.
+     *
+     * @param key        first entry key
+     * @param value      first entry value
+     * @param otherKey   second entry key
+     * @param otherValue second entry value
+     * @return negative, zero or positive as first entry is before, equal to or after second entry
+     */
+    private static int compare(long key, long value, long otherKey, long otherValue) {
+        int compare = Long.compareUnsigned(key, otherKey);
+        return compare != 0 ? compare : Long.compare(value, otherValue);
+    }
+
+    /**
+     * Swaps entries.
+     *
+     * @param entries entry pairs
+     * @param i       first entry index
+     * @param j       second entry index
+     */
+    private static void swap(long[] entries, int i, int j) {
+        long key = entries[i << 1];
+        long value = entries[i << 1 | 1];
+        entries[i << 1] = entries[j << 1];
+        entries[i << 1 | 1] = entries[j << 1 | 1];
+        entries[j << 1] = key;
+        entries[j << 1 | 1] = value;
+    }
+
+    /**
+     * Returns buffered data output for path (package-private).
+     *
+     * @param path file path
+     * @return data output stream
+     * @throws IOException on open error
+     */
+    static DataOutputStream outputFor(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+    }
+
+    /**
+     * Deletes files.
+     *
+     * @param paths file paths
+     * @throws IOException on delete error
+     */
+    private static void delete(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * <p>Combines adjacent sorted entries of equal key.
+     * </p>
+     */
+    interface Combiner {
+
+        /**
+         * Returns true if values of equal key are one entry, false otherwise.
+         *
+         * @param value first value
+         * @param other next value
+         * @return a boolean.
+         */
+        boolean matches(long value, long other);
+
+        /**
+         * Returns the value of combined entries.
+         *
+         * @param value first value
+         * @param other next value
+         * @return combined value
+         */
+        long combine(long value, long other);
+    }
+
+    /**
+     * <p>Receives sorted entries.
+     * </p>
+     */
+    interface Output {
+
+        /**
+         * Accepts the next sorted entry.
+         *
+         * @param key   entry key
+         * @param value entry value
+         * @throws IOException on write error
+         */
+        void accept(long key, long value) throws IOException;
+    }
+
+    /**
+     * <p>Holds back the last entry until the next one shows whether to combine them.
+     * </p>
+     */
+    private final class Pending {
+
+        /** Entry output. */
+        private final Output output;
+
+        /** True if an entry is held. */
+        private boolean held;
+
+        /** Held key. */
+        private long key;
+
+        /** Held value. */
+        private long value;
+
+        /**
+         * Pending constructor.
+         *
+         * @param output entry output
+         */
+        Pending(Output output) {
+            this.output = output;
+        }
+
+        /**
+         * Combines entry with the held entry, or writes the held entry and holds this one.
+         *
+         * @param nextKey   entry key
+         * @param nextValue entry value
+         * @throws IOException on write error
+         */
+        void accept(long nextKey, long nextValue) throws IOException {
+            if (held && combiner != null && key == nextKey && combiner.matches(value, nextValue)) {
+                value = combiner.combine(value, nextValue);
+                return;
+            }
+            flush();
+            held = true;
+            key = nextKey;
+            value = nextValue;
+        }
+
+        /**
+         * Writes the held entry, if any.
+         *
+         * @throws IOException on write error
+         */
+        void flush() throws IOException {
+            if (held) {
+                output.accept(key, value);
+                held = false;
+            }
+        }
+    }
+
+    /**
+     * <p>Reads the entries of a run.
+     * </p>
+     */
+    private static final class RunReader {
+
+        /** Run input. */
+        final DataInputStream input;
+
+        /** Number of entries left. */
+        long remaining;
+
+        /** Current key. */
+        long key;
+
+        /** Current value. */
+        long value;
+
+        /**
+         * Run reader constructor.
+         *
+         * @param run run file
+         * @throws IOException on open error
+         */
+        RunReader(Path run) throws IOException {
+            this.remaining = Files.size(run) / ENTRY_BYTES;
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), readerBytes));
+        }
+
+        /**
+         * Reads the next entry.
+         *
+         * @return true if an entry was read, false at end of run
+         * @throws IOException on read error
+         */
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = input.readLong();
+            value = input.readLong();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.github.osmundf.chess.hub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Position.NO_SQUARE;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static java.lang.String.format;
+
+/**
+ * <p>Chess Forsyth-Edwards Notation (FEN) parser and writer.
+ * </p>
+ * <p>Parsing reads the text in place, from a {@link CharSequence} or an ASCII <code>byte[]</code> slice, straight into
+ * the bitboards of an existing {@link Position}, so a valid FEN is parsed without creating strings, pieces or other
+ * objects. The half-move clock and full move number fields may be left out, defaulting to 0 and 1. Fields are
+ * separated by one or more spaces. When parsing fails the target position is left in an unspecified state.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Fen {
+
+    /** Constant <code>INITIAL_FEN</code> for the initial set-up. */
+    public static final String INITIAL_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /** Constant <code>maxClock</code> for the largest clock field value. */
+    private static final int maxClock = 99999999;
+
+    /** Constant <code>pieceCodes</code> for packed piece codes; index: FEN piece letter */
+    private static final byte[] pieceCodes = new byte[128];
+
+    /** Constant <code>pieceLetters</code> for FEN piece letters; index: packed piece code */
+    private static final char[] pieceLetters = new char[24];
+
+    static {
+        String letters = "PNBRQK";
+        for (int i = 0; i < letters.length(); i++) {
+            char white = letters.charAt(i);
+            char black = Character.toLowerCase(white);
+            pieceCodes[white] = (byte) (WHITE.index() << 3 | i + 1);
+            pieceCodes[black] = (byte) (BLACK.index() << 3 | i + 1);
+            pieceLetters[WHITE.index() << 3 | i + 1] = white;
+            pieceLetters[BLACK.index() << 3 | i + 1] = black;
+        }
+    }
+
+    /**
+     * Returns new position for FEN.
+     *
+     * @param fen FEN text
+     * @return new instance of position
+     */
+    public static Position positionFor(CharSequence fen) {
+        Position position = Position.initialPosition();
+        parse(fen, position);
+        return position;
+    }
+
+    /**
+     * Parses FEN into an existing position, replacing its content and clearing its undo stack.
+     *
+     * @param fen      FEN text
+     * @param position target position
+     */
+    public static void parse(CharSequence fen, Position position) {
+        Objects.requireNonNull(fen, "chess.fen.null");
+        Objects.requireNonNull(position, "chess.fen.position.null");
+        parse(fen, null, 0, fen.length(), position);
+    }
+
+    /**
+     * Parses FEN from an ASCII byte slice into an existing position, replacing its content and clearing its undo
+     * stack.
+     *
+     * @param bytes    ASCII FEN bytes
+     * @param offset   slice offset
+     * @param length   slice length
+     * @param position target position
+     */
+    public static void parse(byte[] bytes, int offset, int length, Position position) {
+        Objects.requireNonNull(bytes, "chess.fen.null");
+        Objects.requireNonNull(position, "chess.fen.position.null");
+        if (offset < 0 || length < 0 || bytes.length - offset < length) {
+            String template = "offset: %d length: %d bytes: %d";
+            ChessException cause = new ChessException(format(template, offset, length, bytes.length));
+            throw new ChessException("chess.fen.slice.invalid", cause);
+        }
+        parse(null, bytes, offset, length, position);
+    }
+
+    /**
+     * Returns FEN for position.
+     *
+     * @param position chess position
+     * @return FEN text
+     */
+    public static String fenFor(Position position) {
+        return appendFen(position, new StringBuilder(90)).toString();
+    }
+
+    /**
+     * Appends FEN for position to builder.
+     *
+     * @param position chess position
+     * @param builder  string builder
+     * @return the builder
+     */
+    public static StringBuilder appendFen(Position position, StringBuilder builder) {
+        Objects.requireNonNull(position, "chess.fen.position.null");
+        Objects.requireNonNull(builder, "chess.fen.builder.null");
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                int code = position.squares[rank << 3 | file];
+                if (code == 0) {
+                    empty++;
+                    continue;
+                }
+                if (empty != 0) {
+                    builder.append((char) ('0' + empty));
+                    empty = 0;
+                }
+                builder.append(pieceLetters[code]);
+            }
+            if (empty != 0) {
+                builder.append((char) ('0' + empty));
+            }
+            if (rank != 0) {
+                builder.append('/');
+            }
+        }
+
+        builder.append(WHITE.index() == position.sideToMove ? " w " : " b ");
+
+        int castle = position.castle;
+        if ((castle & 0x33) == 0) {
+            builder.append('-');
+        }
+        else {
+            appendIf(builder, (castle & 0x20) != 0, 'K');
+            appendIf(builder, (castle & 0x10) != 0, 'Q');
+            appendIf(builder, (castle & 0x02) != 0, 'k');
+            appendIf(builder, (castle & 0x01) != 0, 'q');
+        }
+
+        int enPassant = position.enPassant;
+        if (NO_SQUARE == enPassant) {
+            builder.append(" -");
+        }
+        else {
+            builder.append(' ').append((char) ('a' + (enPassant & 0x7))).append((char) ('1' + (enPassant >> 3)));
+        }
+
+        return builder.append(' ').append(position.halfMoveClock).append(' ').append(position.fullMoveNumber);
+    }
+
+    /**
+     * Parses FEN from either a character sequence or a byte slice.
+     *
+     * @param chars    FEN characters, or null when parsing bytes
+     * @param bytes    FEN bytes, or null when parsing characters
+     * @param offset   text offset
+     * @param length   text length
+     * @param position target position
+     */
+    private static void parse(CharSequence chars, byte[] bytes, int offset, int length, Position position) {
+        int end = offset + length;
+        int index = offset;
+        position.clear();
+
+        // piece placement
+        int rank = 7;
+        int file = 0;
+        for (; index < end; index++) {
+            char c = charAt(chars, bytes, index);
+            if (c == ' ') {
+                break;
+            }
+            if (c == '/') {
+                if (file != 8 || rank == 0) {
+                    throw fenException("chess.fen.board.invalid", chars, bytes, offset, length, index);
+                }
+                rank--;
+                file = 0;
+            }
+            else if ('1' <= c && c <= '8') {
+                file += c - '0';
+                if (file > 8) {
+                    throw fenException("chess.fen.board.invalid", chars, bytes, offset, length, index);
+                }
+            }
+            else {
+                int code = c < 128 ? pieceCodes[c] : 0;
+                if (code == 0 || file > 7) {
+                    throw fenException("chess.fen.board.invalid", chars, bytes, offset, length, index);
+                }
+                position.put(code >> 3, code & 0x7, rank << 3 | file);
+                file++;
+            }
+        }
+        if (rank != 0 || file != 8) {
+            throw fenException("chess.fen.board.invalid", chars, bytes, offset, length, index);
+        }
+        if (Long.bitCount(position.board(WHITE.index(), KING.index())) != 1
+            || Long.bitCount(position.board(BLACK.index(), KING.index())) != 1) {
+            throw fenException("chess.fen.king.count.invalid", chars, bytes, offset, length, index);
+        }
+
+        // side to move
+        index = skipSpaces(chars, bytes, index, end);
+        char side = index < end ? charAt(chars, bytes, index++) : ' ';
+        if (side != 'w' && side != 'b' || !isFieldEnd(chars, bytes, index, end)) {
+            throw fenException("chess.fen.side.to.move.invalid", chars, bytes, offset, length, index);
+        }
+        position.sideToMove = side == 'w' ? WHITE.index() : BLACK.index();
+
+        // castling rights
+        index = skipSpaces(chars, bytes, index, end);
+        int castle = 0;
+        if (index < end && charAt(chars, bytes, index) == '-') {
+            index++;
+        }
+        else {
+            int start = index;
+            for (; index < end && charAt(chars, bytes, index) != ' '; index++) {
+                int right = castleRight(charAt(chars, bytes, index));
+                if (right == 0 || (castle & right) != 0) {
+                    throw fenException("chess.fen.castle.invalid", chars, bytes, offset, length, index);
+                }
+                castle |= right;
+            }
+            if (index == start) {
+                throw fenException("chess.fen.castle.invalid", chars, bytes, offset, length, index);
+            }
+        }
+        if (!isFieldEnd(chars, bytes, index, end)) {
+            throw fenException("chess.fen.castle.invalid", chars, bytes, offset, length, index);
+        }
+        position.castle = (byte) castle;
+
+        // en passant target square
+        index = skipSpaces(chars, bytes, index, end);
+        if (index < end && charAt(chars, bytes, index) == '-') {
+            index++;
+        }
+        else {
+            char epFile = index < end ? charAt(chars, bytes, index++) : ' ';
+            char epRank = index < end ? charAt(chars, bytes, index++) : ' ';
+            if (epFile < 'a' || 'h' < epFile || epRank != (position.sideToMove == WHITE.index() ? '6' : '3')) {
+                throw fenException("chess.fen.en.passant.invalid", chars, bytes, offset, length, index);
+            }
+            position.enPassant = (epRank - '1') << 3 | epFile - 'a';
+        }
+        if (!isFieldEnd(chars, bytes, index, end)) {
+            throw fenException("chess.fen.en.passant.invalid", chars, bytes, offset, length, index);
+        }
+
+        // optional clocks
+        index = skipSpaces(chars, bytes, index, end);
+        if (index < end) {
+            int clock = 0;
+            int start = index;
+            for (; index < end && charAt(chars, bytes, index) != ' '; index++) {
+                char c = charAt(chars, bytes, index);
+                if (c < '0' || '9' < c || clock > maxClock / 10) {
+                    throw fenException("chess.fen.clock.invalid", chars, bytes, offset, length, index);
+                }
+                clock = clock * 10 + c - '0';
+            }
+            position.halfMoveClock = clock;
+
+            index = skipSpaces(chars, bytes, index, end);
+            clock = 0;
+            int digits = index;
+            for (; index < end && charAt(chars, bytes, index) != ' '; index++) {
+                char c = charAt(chars, bytes, index);
+                if (c < '0' || '9' < c || clock > maxClock / 10) {
+                    throw fenException("chess.fen.clock.invalid", chars, bytes, offset, length, index);
+                }
+                clock = clock * 10 + c - '0';
+            }
+            if (index == start || index == digits || clock < 1) {
+                throw fenException("chess.fen.clock.invalid", chars, bytes, offset, length, index);
+            }
+            position.fullMoveNumber = clock;
+
+            index = skipSpaces(chars, bytes, index, end);
+            if (index < end) {
+                throw fenException("chess.fen.field.count.invalid", chars, bytes, offset, length, index);
+            }
+        }
+
+        position.key = Zobrist.keyFor(position);
+    }
+
+    /**
+     * Returns character at index of either a character sequence or a byte array.
+     *
+     * @param chars characters, or null
+     * @param bytes bytes, or null
+     * @param index text index
+     * @return character
+     */
+    private static char charAt(CharSequence chars, byte[] bytes, int index) {
+        return chars != null ? chars.charAt(index) : (char) (bytes[index] & 0xff);
+    }
+
+    /**
+     * Returns index of the first character after a run of spaces.
+     *
+     * @param chars characters, or null
+     * @param bytes bytes, or null
+     * @param index text index
+     * @param end   text end index
+     * @return index after spaces
+     */
+    private static int skipSpaces(CharSequence chars, byte[] bytes, int index, int end) {
+        while (index < end && charAt(chars, bytes, index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true at the end of the text or a field.
+     *
+     * @param chars characters, or null
+     * @param bytes bytes, or null
+     * @param index text index
+     * @param end   text end index
+     * @return true when no field characters follow
+     */
+    private static boolean isFieldEnd(CharSequence chars, byte[] bytes, int index, int end) {
+        return index == end || charAt(chars, bytes, index) == ' ';
+    }
+
+    /**
+     * Returns castle state bit for FEN castling letter.
+     *
+     * @param c castling letter
+     * @return castle state bit, zero if invalid
+     */
+    private static int castleRight(char c) {
+        switch (c) {
+            case 'K':
+                return 0x20;
+            case 'Q':
+                return 0x10;
+            case 'k':
+                return 0x02;
+            case 'q':
+                return 0x01;
+            default:
+                return 0x0;
+        }
+    }
+
+    /**
+     * Appends character if condition holds.
+     *
+     * @param builder   string builder
+     * @param condition condition
+     * @param c         character
+     */
+    private static void appendIf(StringBuilder builder, boolean condition, char c) {
+        if (condition) {
+            builder.append(c);
+        }
+    }
+
+    /**
+     * Returns FEN exception with the failing index and text as cause.
+     *
+     * @param message exception message
+     * @param chars   characters, or null
+     * @param bytes   bytes, or null
+     * @param offset  text offset
+     * @param length  text length
+     * @param index   failing text index
+     * @return chess exception
+     */
+    private static ChessException fenException(String message, CharSequence chars, byte[] bytes, int offset,
+        int length, int index) {
+        String text = chars != null ? chars.toString() : new String(bytes, offset, length, StandardCharsets.US_ASCII);
+        ChessException cause = new ChessException(format("index: %d fen: %s", index - offset, text));
+        return new ChessException(message, cause);
+    }
+
+    /**
+     * Fen constructor (private).
+     */
+    private Fen() {
+    }
+}
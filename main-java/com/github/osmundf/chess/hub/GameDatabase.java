@@ -0,0 +1,200 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.GameWriter.MAGIC;
+import static com.github.osmundf.chess.hub.MappedSegments.mappedSegmentsFor;
+import static com.github.osmundf.chess.hub.GameWriter.VERSION;
+
+/**
+ * <p>Chess game database.
+ * </p>
+ * <p>A database directory holds three files, written by {@link GameDatabaseBuilder}: the games file of records in the
+ * compact game format (see {@link GameWriter}), the offsets file of the record offset of each game id (8 bytes,
+ * big-endian) and the index file of 16-byte entries, big-endian: position key (8), game id (4) and ply (4), sorted by
+ * unsigned key, game id and ply. Ply 0 is the start position of a game.
+ * </p>
+ * <p>All three files are memory-mapped read-only in segments of 1 GiB, so opening a database reads no
+ * entries or games and a database of tens of millions of games costs no heap; pages are loaded by the operating
+ * system as lookups touch them. A lookup binary-searches the mapped index for the first entry of a key (see
+ * {@link Position#positionKey()}, which transpositions share) and a game is decoded from its mapped record.
+ * </p>
+ * <p>Reads use absolute buffer offsets only, so a database may be shared between threads.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GameDatabase {
+
+    /** Constant <code>GAMES_FILE</code> for the name of the games file. */
+    public static final String GAMES_FILE = "games.bin";
+
+    /** Constant <code>OFFSETS_FILE</code> for the name of the offsets file. */
+    public static final String OFFSETS_FILE = "offsets.bin";
+
+    /** Constant <code>INDEX_FILE</code> for the name of the index file. */
+    public static final String INDEX_FILE = "index.bin";
+
+    /** Constant <code>ENTRY_BYTES</code> for the size of an index entry. */
+    public static final int ENTRY_BYTES = 16;
+
+    /**
+     * Chess game database factory method.
+     *
+     * @param directory database directory
+     * @return new instance of game database mapped from directory
+     * @throws IOException on read error, invalid file length or invalid games header
+     */
+    public static GameDatabase gameDatabaseFor(Path directory) throws IOException {
+        Objects.requireNonNull(directory, "chess.game.database.directory.null");
+
+        MappedSegments games = mappedSegmentsFor(directory.resolve(GAMES_FILE));
+        MappedSegments offsets = mappedSegmentsFor(directory.resolve(OFFSETS_FILE));
+        MappedSegments index = mappedSegmentsFor(directory.resolve(INDEX_FILE));
+        if (offsets.size() % 8 != 0 || index.size() % ENTRY_BYTES != 0) {
+            throw new IOException("chess.game.database.length.invalid");
+        }
+        if (games.size() < 5 || games.getInt(0) != MAGIC || games.get(4) != VERSION) {
+            throw new IOException("chess.game.header.invalid");
+        }
+        return new GameDatabase(games, offsets, index);
+    }
+
+    /** Mapped games file. */
+    private final MappedSegments games;
+
+    /** Mapped offsets file. */
+    private final MappedSegments offsets;
+
+    /** Mapped index file. */
+    private final MappedSegments index;
+
+    /** Number of games. */
+    private final int gameCount;
+
+    /** Number of index entries. */
+    private final long entries;
+
+    /**
+     * Game database constructor (private).
+     *
+     * @param games   mapped games file
+     * @param offsets mapped offsets file
+     * @param index   mapped index file
+     */
+    private GameDatabase(MappedSegments games, MappedSegments offsets, MappedSegments index) {
+        this.games = games;
+        this.offsets = offsets;
+        this.index = index;
+        this.gameCount = (int) (offsets.size() / 8);
+        this.entries = index.size() / ENTRY_BYTES;
+    }
+
+    /**
+     * Returns the number of games.
+     *
+     * @return game count
+     */
+    public int games() {
+        return gameCount;
+    }
+
+    /**
+     * Returns the number of index entries.
+     *
+     * @return entry count
+     */
+    public long entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the index of the first entry for key.
+     *
+     * @param key position key
+     * @return entry index, or -1 if index has no entry for key
+     */
+    public long find(long key) {
+        return index.find(key, ENTRY_BYTES);
+    }
+
+    /**
+     * Returns entry key.
+     *
+     * @param entry entry index (0 to entries - 1)
+     * @return position key
+     */
+    public long key(long entry) {
+        return index.getLong(entry * ENTRY_BYTES);
+    }
+
+    /**
+     * Returns entry game id.
+     *
+     * @param entry entry index (0 to entries - 1)
+     * @return game id
+     */
+    public int gameId(long entry) {
+        return index.getInt(entry * ENTRY_BYTES + 8);
+    }
+
+    /**
+     * Returns entry ply.
+     *
+     * @param entry entry index (0 to entries - 1)
+     * @return ply (0 for the start position)
+     */
+    public int ply(long entry) {
+        return index.getInt(entry * ENTRY_BYTES + 12);
+    }
+
+    /**
+     * Returns the ids of the games that reached position, ascending.
+     *
+     * @param position chess position
+     * @param limit    largest number of game ids
+     * @return game ids (empty if no game reached position)
+     */
+    public int[] gameIdsFor(Position position, int limit) {
+        Objects.requireNonNull(position, "chess.game.database.position.null");
+        long key = position.positionKey();
+        long entry = find(key);
+        int[] ids = new int[Math.max(0, Math.min(limit, 64))];
+        int count = 0;
+        for (; 0 <= entry && entry < entries && count < limit && key(entry) == key; entry++) {
+            int id = gameId(entry);
+            if (count != 0 && ids[count - 1] == id) {
+                continue;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, (int) Math.min(limit, (long) count << 1));
+            }
+            ids[count++] = id;
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Returns game record, decoded from its mapped record.
+     *
+     * @param id game id (0 to games - 1)
+     * @return game record
+     * @throws IOException on truncated or invalid record
+     */
+    public GameRecord game(int id) throws IOException {
+        if (id < 0 || gameCount <= id) {
+            ChessException cause = new ChessException("id: " + id + " games: " + gameCount);
+            throw new ChessException("chess.game.database.id.invalid", cause);
+        }
+        GameRecord record = GameReader.recordReaderFor(games.inputFor(offsets.getLong(8L * id))).next();
+        if (record == null) {
+            throw new IOException("chess.game.record.truncated");
+        }
+        return record;
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.ExternalSorter.externalSorterFor;
+import static com.github.osmundf.chess.hub.ExternalSorter.outputFor;
+import static com.github.osmundf.chess.hub.GameDatabase.GAMES_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.INDEX_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.OFFSETS_FILE;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+
+/**
+ * <p>Chess game database builder.
+ * </p>
+ * <p>Game records are appended to the games file of the database directory as they are added, and the offset of each
+ * record to the offsets file; a game's id is its index in the offsets file. Each position of a game, from the start
+ * position to the position after the last ply, adds an index entry of its position key (see
+ * {@link Position#positionKey()}), the game id and the ply. Entries are collected in a buffer of half the heap
+ * budget; a full buffer is sorted and written to a run file in the directory.
+ * </p>
+ * <p>Building merges the runs, in several passes when there are more runs than the other half of the budget allows
+ * buffered readers for, into the index file sorted by unsigned key, game id and ply (see {@link GameDatabase}). A
+ * builder is used for one build.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GameDatabaseBuilder implements Closeable {
+
+    /** Constant <code>MIN_HEAP_BYTES</code> for the smallest heap budget. */
+    public static final long MIN_HEAP_BYTES = 1L << 20;
+
+    /**
+     * Chess game database builder factory method; creates the directory and its games and offsets files.
+     *
+     * @param directory database directory
+     * @param heapBytes heap budget in bytes (at least {@link #MIN_HEAP_BYTES})
+     * @return new instance of game database builder
+     * @throws IOException on create or write error
+     */
+    public static GameDatabaseBuilder gameDatabaseBuilderFor(Path directory, long heapBytes) throws IOException {
+        Objects.requireNonNull(directory, "chess.game.database.directory.null");
+        if (heapBytes < MIN_HEAP_BYTES) {
+            ChessException cause = new ChessException("heapBytes: " + heapBytes);
+            throw new ChessException("chess.game.database.limit.invalid", cause);
+        }
+        Files.createDirectories(directory);
+        return new GameDatabaseBuilder(directory, heapBytes);
+    }
+
+    /**
+     * Builds a game database from PGN files; games with an invalid start position or move are skipped.
+     *
+     * @param args database directory, heap budget in megabytes and PGN paths
+     * @throws IOException on read or write error
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: GameDatabaseBuilder <directory> <heap-megabytes> <games.pgn>...");
+            return;
+        }
+        long heapBytes = Long.parseLong(args[1]) << 20;
+        try (GameDatabaseBuilder builder = gameDatabaseBuilderFor(Paths.get(args[0]), heapBytes)) {
+            for (int i = 2; i < args.length; i++) {
+                long games = 0;
+                try (InputStream input = Files.newInputStream(Paths.get(args[i]))) {
+                    PgnReader reader = pgnReaderFor(input);
+                    for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+                        try {
+                            builder.addGame(game);
+                            games++;
+                        }
+                        catch (ChessException e) {
+                            // skip game
+                        }
+                    }
+                }
+                System.err.println(args[i] + ": " + games + " games");
+            }
+            System.err.println(args[0] + ": " + builder.build() + " entries");
+        }
+    }
+
+    /** Database directory. */
+    private final Path directory;
+
+    /** Index entry sorter; value: game id &lt;&lt; 32 | ply */
+    private final ExternalSorter sorter;
+
+    /** Games file output. */
+    private final OutputStream gamesOutput;
+
+    /** Games file writer. */
+    private final GameWriter writer;
+
+    /** Offsets file output. */
+    private final DataOutputStream offsets;
+
+    /** Number of games added. */
+    private int games;
+
+    /**
+     * Game database builder constructor (private).
+     *
+     * @param directory database directory
+     * @param heapBytes heap budget in bytes
+     * @throws IOException on create or write error
+     */
+    private GameDatabaseBuilder(Path directory, long heapBytes) throws IOException {
+        this.directory = directory;
+        this.sorter = externalSorterFor(directory, "index", heapBytes, null);
+        this.gamesOutput = Files.newOutputStream(directory.resolve(GAMES_FILE));
+        this.writer = GameWriter.gameWriterFor(gamesOutput);
+        this.offsets = outputFor(directory.resolve(OFFSETS_FILE));
+    }
+
+    /**
+     * Adds the remaining game records of reader.
+     *
+     * @param reader game record reader
+     * @return number of games added
+     * @throws IOException on read or write error
+     */
+    public long addGames(GameReader reader) throws IOException {
+        Objects.requireNonNull(reader, "chess.game.database.reader.null");
+
+        long count = 0;
+        for (GameRecord record = reader.next(); record != null; record = reader.next()) {
+            addGame(record);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Adds game record.
+     *
+     * @param record game record
+     * @return game id
+     * @throws IOException on write error
+     */
+    public int addGame(GameRecord record) throws IOException {
+        Objects.requireNonNull(record, "chess.game.database.record.null");
+        return addGame(record, record.moves());
+    }
+
+    /**
+     * Adds PGN game; its moves are resolved once, so indexing only replays them.
+     *
+     * @param game PGN game
+     * @return game id
+     * @throws IOException on write error
+     */
+    public int addGame(PgnGame game) throws IOException {
+        Objects.requireNonNull(game, "chess.game.database.game.null");
+        int[] moves = game.moves();
+        return addGame(GameRecord.gameRecordFor(game.tags(), game.result(), moves), moves);
+    }
+
+    /**
+     * Adds game record with its moves.
+     *
+     * @param record game record
+     * @param moves  move hashes of record, legal from its start position
+     * @return game id
+     * @throws IOException on write error
+     */
+    private int addGame(GameRecord record, int[] moves) throws IOException {
+        if (games == Integer.MAX_VALUE) {
+            throw new ChessException("chess.game.database.full");
+        }
+
+        Position position = record.startPosition();
+        int id = games++;
+        offsets.writeLong(writer.size());
+        writer.write(record);
+        sorter.add(position.positionKey(), (long) id << 32);
+        for (int ply = 0; ply < moves.length; ply++) {
+            position.makeMove(moves[ply]);
+            sorter.add(position.positionKey(), (long) id << 32 | ply + 1);
+        }
+        return id;
+    }
+
+    /**
+     * Writes the index of the added games, closing the games and offsets files and removing the run files.
+     *
+     * @return number of index entries
+     * @throws IOException on read or write error
+     */
+    public long build() throws IOException {
+        writer.flush();
+        gamesOutput.close();
+        offsets.close();
+
+        Path index = directory.resolve(INDEX_FILE);
+        try (DataOutputStream output = outputFor(index)) {
+            sorter.finish((key, value) -> {
+                output.writeLong(key);
+                output.writeLong(value);
+            });
+        }
+        return Files.size(index) / GameDatabase.ENTRY_BYTES;
+    }
+
+    /**
+     * Closes the games and offsets files and removes the run files.
+     *
+     * @throws IOException on close or delete error
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            gamesOutput.close();
+            offsets.close();
+        }
+        finally {
+            sorter.close();
+        }
+    }
+}
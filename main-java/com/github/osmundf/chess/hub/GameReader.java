@@ -0,0 +1,167 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.GameWriter.MAGIC;
+import static com.github.osmundf.chess.hub.GameWriter.VERSION;
+
+/**
+ * <p>Chess game record reader.
+ * </p>
+ * <p>Reads game records one at a time in the compact game format (see {@link GameWriter}). Plies are kept encoded;
+ * {@link GameRecord#moves()} decodes them, so records may be handed to other threads before any move generation.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GameReader {
+
+    /**
+     * Chess game record reader factory method; reads the stream header.
+     *
+     * @param input input stream, left open
+     * @return new instance of game record reader
+     * @throws IOException on read error or invalid header
+     */
+    public static GameReader gameReaderFor(InputStream input) throws IOException {
+        Objects.requireNonNull(input, "chess.game.input.null");
+        GameReader reader = new GameReader(new BufferedInputStream(input, 1 << 16));
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            magic = magic << 8 | reader.readByte();
+        }
+        if (magic != MAGIC || reader.readByte() != VERSION) {
+            throw new IOException("chess.game.header.invalid");
+        }
+        return reader;
+    }
+
+    /**
+     * Chess game record reader factory method for records without a stream header (package-private).
+     *
+     * @param input input positioned at a record, read one byte at a time
+     * @return new instance of game record reader
+     */
+    static GameReader recordReaderFor(InputStream input) {
+        return new GameReader(input);
+    }
+
+    /** Record input. */
+    private final InputStream input;
+
+    /** Text bytes, reused for each text. */
+    private byte[] bytes;
+
+    /**
+     * Game record reader constructor (private).
+     *
+     * @param input record input
+     */
+    private GameReader(InputStream input) {
+        this.input = input;
+        this.bytes = new byte[64];
+    }
+
+    /**
+     * Reads the next game record.
+     *
+     * @return next game record, or null at end of input
+     * @throws IOException on read error or truncated record
+     */
+    public GameRecord next() throws IOException {
+        int first = input.read();
+        if (first == -1) {
+            return null;
+        }
+        int tagCount = readVarint(first);
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            String name = readText();
+            tags.put(name, readText());
+        }
+        int resultCode = readByte();
+        if (resultCode > 3) {
+            throw new IOException("chess.game.result.invalid");
+        }
+        byte[] plies = new byte[readVarint(readByte())];
+        readFully(plies, plies.length);
+        return GameRecord.gameRecordFor(tags, resultCode, plies);
+    }
+
+    /**
+     * Reads text as length and ISO-8859-1 bytes.
+     *
+     * @return text
+     * @throws IOException on read error
+     */
+    private String readText() throws IOException {
+        int length = readVarint(readByte());
+        if (length > bytes.length) {
+            bytes = new byte[Math.max(length, bytes.length << 1)];
+        }
+        readFully(bytes, length);
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Reads unsigned LEB128 varint.
+     *
+     * @param first first byte
+     * @return value
+     * @throws IOException on read error or invalid varint
+     */
+    private int readVarint(int first) throws IOException {
+        int value = first & 0x7f;
+        for (int shift = 7, b = first; (b & 0x80) != 0; shift += 7) {
+            if (shift > 28) {
+                throw new IOException("chess.game.varint.invalid");
+            }
+            b = readByte();
+            value |= (b & 0x7f) << shift;
+        }
+        if (value < 0) {
+            throw new IOException("chess.game.varint.invalid");
+        }
+        return value;
+    }
+
+    /**
+     * Reads one byte.
+     *
+     * @return byte (0 to 255)
+     * @throws IOException on read error or end of input
+     */
+    private int readByte() throws IOException {
+        int b = input.read();
+        if (b == -1) {
+            throw new EOFException("chess.game.record.truncated");
+        }
+        return b;
+    }
+
+    /**
+     * Reads bytes fully.
+     *
+     * @param target target array
+     * @param length number of bytes
+     * @throws IOException on read error or end of input
+     */
+    private void readFully(byte[] target, int length) throws IOException {
+        for (int offset = 0; offset < length; ) {
+            int count = input.read(target, offset, length - offset);
+            if (count < 0) {
+                throw new EOFException("chess.game.record.truncated");
+            }
+            offset += count;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static java.lang.String.format;
+
+/**
+ * <p>Chess game record in compact form.
+ * </p>
+ * <p>Each ply is stored as one byte: the index of the move in the legal move list of its position, sorted by move
+ * hash so the encoding does not depend on move generation order. A position has at most 218 legal moves, so the
+ * index always fits. Moves are decoded on request by replaying the plies from the start position (the
+ * <code>FEN</code> tag when present). Records are read and written by {@link GameReader} and {@link GameWriter}.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GameRecord {
+
+    /** Constant <code>results</code> for game results; index: result code */
+    private static final String[] results = {PgnGame.UNKNOWN_RESULT, "1-0", "0-1", "1/2-1/2"};
+
+    /**
+     * Chess game record factory method.
+     *
+     * @param tags   tag pairs, in order
+     * @param result game result (<code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>; otherwise unknown)
+     * @param moves  move hashes, legal from the start position
+     * @return new instance of game record
+     */
+    public static GameRecord gameRecordFor(Map<String, String> tags, String result, int[] moves) {
+        Objects.requireNonNull(tags, "chess.game.tags.null");
+        Objects.requireNonNull(result, "chess.game.result.null");
+        Objects.requireNonNull(moves, "chess.game.moves.null");
+
+        Map<String, String> copy = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        Position position = startPositionFor(copy);
+        int[] legal = new int[MAX_MOVES];
+        byte[] plies = new byte[moves.length];
+        for (int ply = 0; ply < moves.length; ply++) {
+            int count = legalMoves(position, legal);
+            Arrays.sort(legal, 0, count);
+            int index = Arrays.binarySearch(legal, 0, count, moves[ply]);
+            if (index < 0) {
+                ChessException cause = new ChessException(format("ply: %d hash: 0x%08x", ply, moves[ply]));
+                throw new ChessException("chess.game.move.invalid", cause);
+            }
+            plies[ply] = (byte) index;
+            position.makeMove(moves[ply]);
+        }
+        return new GameRecord(copy, resultCodeFor(result), plies);
+    }
+
+    /**
+     * Chess game record factory method.
+     *
+     * @param game PGN game
+     * @return new instance of game record with the tags, result and moves of game
+     */
+    public static GameRecord gameRecordFor(PgnGame game) {
+        Objects.requireNonNull(game, "chess.game.pgn.null");
+        return gameRecordFor(game.tags(), game.result(), game.moves());
+    }
+
+    /**
+     * Chess game record factory method for encoded plies (package-private).
+     *
+     * @param tags       tag pairs, in order
+     * @param resultCode result code
+     * @param plies      encoded plies
+     * @return new instance of game record
+     */
+    static GameRecord gameRecordFor(Map<String, String> tags, int resultCode, byte[] plies) {
+        return new GameRecord(Collections.unmodifiableMap(tags), resultCode, plies);
+    }
+
+    /**
+     * Returns result code for game result (package-private).
+     *
+     * @param result game result
+     * @return result code (0 unknown, 1 white wins, 2 black wins, 3 draw)
+     */
+    static int resultCodeFor(String result) {
+        for (int code = 1; code < results.length; code++) {
+            if (results[code].equals(result)) {
+                return code;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns start position for tags.
+     *
+     * @param tags tag pairs
+     * @return new instance of start position
+     */
+    private static Position startPositionFor(Map<String, String> tags) {
+        String fen = tags.get("FEN");
+        return fen == null ? Position.initialPosition() : Fen.positionFor(fen);
+    }
+
+    /** Tag pairs, in order. */
+    private final Map<String, String> tags;
+
+    /** Result code. */
+    final int resultCode;
+
+    /** Encoded plies; index: ply */
+    final byte[] plies;
+
+    /**
+     * Game record constructor (private).
+     *
+     * @param tags       tag pairs
+     * @param resultCode result code
+     * @param plies      encoded plies
+     */
+    private GameRecord(Map<String, String> tags, int resultCode, byte[] plies) {
+        this.tags = tags;
+        this.resultCode = resultCode;
+        this.plies = plies;
+    }
+
+    /**
+     * Returns tag pairs, in order.
+     *
+     * @return unmodifiable map of tag names to values
+     */
+    public Map<String, String> tags() {
+        return tags;
+    }
+
+    /**
+     * Returns tag value.
+     *
+     * @param name tag name
+     * @return tag value, or null if game has no such tag
+     */
+    public String tag(String name) {
+        return tags.get(name);
+    }
+
+    /**
+     * Returns game result (<code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code> or
+     * {@link PgnGame#UNKNOWN_RESULT}).
+     *
+     * @return game result
+     */
+    public String result() {
+        return results[resultCode];
+    }
+
+    /**
+     * Returns the number of plies.
+     *
+     * @return ply count
+     */
+    public int plyCount() {
+        return plies.length;
+    }
+
+    /**
+     * Returns new start position (the <code>FEN</code> tag, or the initial position).
+     *
+     * @return new instance of start position
+     */
+    public Position startPosition() {
+        return startPositionFor(tags);
+    }
+
+    /**
+     * Returns the decoded move hashes.
+     *
+     * @return move hashes, one for each ply
+     */
+    public int[] moves() {
+        Position position = startPosition();
+        int[] legal = new int[MAX_MOVES];
+        int[] moves = new int[plies.length];
+        for (int ply = 0; ply < plies.length; ply++) {
+            int count = legalMoves(position, legal);
+            int index = plies[ply] & 0xff;
+            if (index >= count) {
+                ChessException cause = new ChessException("ply: " + ply + " index: " + index + " count: " + count);
+                throw new ChessException("chess.game.ply.invalid", cause);
+            }
+            Arrays.sort(legal, 0, count);
+            moves[ply] = legal[index];
+            position.makeMove(legal[index]);
+        }
+        return moves;
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.GameRecord} by its tags and
+     * plies.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        return "GameRecord(" + tags + ", " + plies.length + " plies " + result() + ")";
+    }
+}
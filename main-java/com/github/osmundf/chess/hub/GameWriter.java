@@ -0,0 +1,133 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.BufferedOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Chess game record writer.
+ * </p>
+ * <p>Writes the compact game format: a stream header of the magic <code>CHGR</code> and a version byte, then one
+ * record for each game. A record is the tag count, each tag as name and value (length and ISO-8859-1 bytes), the
+ * result code, the ply count and one byte for each ply (see {@link GameRecord}). Counts and lengths are unsigned
+ * LEB128 varints, so a tag costs its text plus two bytes and a game costs little more than its plies.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GameWriter implements Flushable {
+
+    /** Constant <code>MAGIC</code> for the stream header (<code>CHGR</code>). */
+    public static final int MAGIC = 0x43484752;
+
+    /** Constant <code>VERSION</code> for the format version. */
+    public static final int VERSION = 1;
+
+    /**
+     * Chess game record writer factory method; writes the stream header.
+     *
+     * @param output output stream, left open
+     * @return new instance of game record writer
+     * @throws IOException on write error
+     */
+    public static GameWriter gameWriterFor(OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "chess.game.output.null");
+        GameWriter writer = new GameWriter(new BufferedOutputStream(output, 1 << 16));
+        writer.output.write(MAGIC >>> 24);
+        writer.output.write(MAGIC >>> 16 & 0xff);
+        writer.output.write(MAGIC >>> 8 & 0xff);
+        writer.output.write(MAGIC & 0xff);
+        writer.output.write(VERSION);
+        writer.size = 5;
+        return writer;
+    }
+
+    /** Buffered output. */
+    private final OutputStream output;
+
+    /** Number of bytes written, including the header. */
+    private long size;
+
+    /**
+     * Game record writer constructor (private).
+     *
+     * @param output buffered output
+     */
+    private GameWriter(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Writes game record.
+     *
+     * @param record game record
+     * @throws IOException on write error
+     */
+    public void write(GameRecord record) throws IOException {
+        Objects.requireNonNull(record, "chess.game.record.null");
+        Map<String, String> tags = record.tags();
+        writeVarint(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeText(tag.getKey());
+            writeText(tag.getValue());
+        }
+        output.write(record.resultCode);
+        writeVarint(record.plies.length);
+        output.write(record.plies);
+        size += 1 + record.plies.length;
+    }
+
+    /**
+     * Returns the number of bytes written, including the header; the offset of the next record.
+     *
+     * @return byte count
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Flushes buffered records to the output stream.
+     *
+     * @throws IOException on write error
+     */
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    /**
+     * Writes text as length and ISO-8859-1 bytes.
+     *
+     * @param text text
+     * @throws IOException on write error
+     */
+    private void writeText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        writeVarint(bytes.length);
+        output.write(bytes);
+        size += bytes.length;
+    }
+
+    /**
+     * Writes unsigned LEB128 varint.
+     *
+     * @param value non-negative value
+     * @throws IOException on write error
+     */
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            output.write(value & 0x7f | 0x80);
+            value >>>= 7;
+            size++;
+        }
+        output.write(value);
+        size++;
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Chess memory-mapped file (package-private).
+ * </p>
+ * <p>The file is mapped read-only in segments of {@link #SEGMENT_BYTES}, so mapping reads nothing and a
+ * multi-gigabyte file costs no heap; pages are loaded by the operating system as reads touch them. Values are read
+ * big-endian at absolute offsets only, so an instance may be shared between threads. A value wider than a byte must
+ * not span segments, which holds for values aligned to their width.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class MappedSegments {
+
+    /** Constant <code>SEGMENT_BYTES</code> for the size of a mapped segment (a whole number of aligned entries). */
+    static final int SEGMENT_BYTES = 1 << 30;
+
+    /**
+     * Chess memory-mapped file factory method.
+     *
+     * @param path file path
+     * @return new instance of mapped segments of path
+     * @throws IOException on read error
+     */
+    static MappedSegments mappedSegmentsFor(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) ((size + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * SEGMENT_BYTES;
+                long length = Math.min(SEGMENT_BYTES, size - offset);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+            return new MappedSegments(segments, size);
+        }
+    }
+
+    /** Mapped segments; index: offset / {@link #SEGMENT_BYTES} */
+    private final MappedByteBuffer[] segments;
+
+    /** File size. */
+    private final long size;
+
+    /**
+     * Mapped segments constructor (private).
+     *
+     * @param segments mapped segments
+     * @param size     file size
+     */
+    private MappedSegments(MappedByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Returns the file size.
+     *
+     * @return size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns byte at offset.
+     *
+     * @param offset file offset
+     * @return byte (0 to 255)
+     */
+    int get(long offset) {
+        return segments[(int) (offset / SEGMENT_BYTES)].get((int) (offset % SEGMENT_BYTES)) & 0xff;
+    }
+
+    /**
+     * Returns unsigned short at offset.
+     *
+     * @param offset file offset
+     * @return short value (0 to 65535)
+     */
+    int getShort(long offset) {
+        return segments[(int) (offset / SEGMENT_BYTES)].getShort((int) (offset % SEGMENT_BYTES)) & 0xffff;
+    }
+
+    /**
+     * Returns int at offset.
+     *
+     * @param offset file offset
+     * @return int value
+     */
+    int getInt(long offset) {
+        return segments[(int) (offset / SEGMENT_BYTES)].getInt((int) (offset % SEGMENT_BYTES));
+    }
+
+    /**
+     * Returns long at offset.
+     *
+     * @param offset file offset
+     * @return long value
+     */
+    long getLong(long offset) {
+        return segments[(int) (offset / SEGMENT_BYTES)].getLong((int) (offset % SEGMENT_BYTES));
+    }
+
+    /**
+     * Returns the index of the first entry for key, in fixed size entries starting with a key sorted unsigned.
+     *
+     * @param key        entry key
+     * @param entryBytes entry size in bytes
+     * @return entry index, or -1 if no entry has key
+     */
+    long find(long key, int entryBytes) {
+        long entries = size / entryBytes;
+        long low = 0;
+        long high = entries;
+        while (low < high) {
+            long middle = low + high >>> 1;
+            if (Long.compareUnsigned(getLong(middle * entryBytes), key) < 0) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low < entries && getLong(low * entryBytes) == key ? low : -1;
+    }
+
+    /**
+     * Returns an input stream of the file from offset; it may span segments.
+     *
+     * @param offset offset of the first byte
+     * @return input stream
+     */
+    InputStream inputFor(long offset) {
+        return new SegmentsInput(this, offset);
+    }
+
+    /**
+     * <p>Reads mapped segments from an offset, one byte at a time.
+     * </p>
+     */
+    private static final class SegmentsInput extends InputStream {
+
+        /** Mapped segments. */
+        private final MappedSegments segments;
+
+        /** Offset of the next byte. */
+        private long offset;
+
+        /**
+         * Segments input constructor.
+         *
+         * @param segments mapped segments
+         * @param offset   offset of the first byte
+         */
+        SegmentsInput(MappedSegments segments, long offset) {
+            this.segments = segments;
+            this.offset = offset;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() {
+            return offset < segments.size ? segments.get(offset++) : -1;
+        }
+    }
+}
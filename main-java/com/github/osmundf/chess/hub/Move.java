@@ -2,6 +2,7 @@ package com.github.osmundf.chess.hub;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.github.osmundf.chess.hub.Caste.BISHOP;
 import static com.github.osmundf.chess.hub.Caste.KING;
@@ -10,6 +11,7 @@ import static com.github.osmundf.chess.hub.Caste.NONE;
 import static com.github.osmundf.chess.hub.Caste.PAWN;
 import static com.github.osmundf.chess.hub.Caste.QUEEN;
 import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.Caste.casteFromIndex;
 import static com.github.osmundf.chess.hub.MoveType.BASE;
 import static com.github.osmundf.chess.hub.MoveType.CAPTURE;
 import static com.github.osmundf.chess.hub.MoveType.CAPTURE_PROMOTION;
@@ -18,11 +20,13 @@ import static com.github.osmundf.chess.hub.MoveType.CASTLE_SHORT;
 import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
 import static com.github.osmundf.chess.hub.MoveType.EN_PASSANT;
 import static com.github.osmundf.chess.hub.MoveType.PROMOTION;
+import static com.github.osmundf.chess.hub.MoveType.moveTypeFromIndex;
 import static com.github.osmundf.chess.hub.Piece.pieceFor;
 import static com.github.osmundf.chess.hub.Side.BLACK;
 import static com.github.osmundf.chess.hub.Side.NO_SIDE;
 import static com.github.osmundf.chess.hub.Side.WHITE;
 import static com.github.osmundf.chess.hub.Square.squareFor;
+import static com.github.osmundf.chess.hub.Square.squareFromIndex;
 import static java.lang.String.format;
 
 /**
@@ -33,35 +37,152 @@ import static java.lang.String.format;
  */
 public class Move {
 
+    /** Constant <code>MOVE_VALID</code> for valid move. */
+    public static final int MOVE_VALID = 0;
+
+    /** Constant <code>MOVE_INVALID_HASH</code> for a hash with an invalid caste or pad bits. */
+    public static final int MOVE_INVALID_HASH = 1;
+
+    /** Constant <code>MOVE_INVALID_PAWN</code> for invalid pawn move fields. */
+    public static final int MOVE_INVALID_PAWN = 2;
+
+    /** Constant <code>MOVE_INVALID_PAWN_SQUARES</code> for invalid pawn move squares. */
+    public static final int MOVE_INVALID_PAWN_SQUARES = 3;
+
+    /** Constant <code>MOVE_INVALID_DOUBLE_PUSH_SQUARES</code> for invalid double-push squares. */
+    public static final int MOVE_INVALID_DOUBLE_PUSH_SQUARES = 4;
+
+    /** Constant <code>MOVE_INVALID_EN_PASSANT_SQUARES</code> for invalid en passant squares. */
+    public static final int MOVE_INVALID_EN_PASSANT_SQUARES = 5;
+
+    /** Constant <code>MOVE_INVALID_PROMOTION_SQUARES</code> for invalid promotion squares. */
+    public static final int MOVE_INVALID_PROMOTION_SQUARES = 6;
+
+    /** Constant <code>MOVE_INVALID_CAPTURE_PROMOTION_SQUARES</code> for invalid capture-promotion squares. */
+    public static final int MOVE_INVALID_CAPTURE_PROMOTION_SQUARES = 7;
+
+    /** Constant <code>MOVE_INVALID_KNIGHT</code> for invalid knight move fields. */
+    public static final int MOVE_INVALID_KNIGHT = 8;
+
+    /** Constant <code>MOVE_INVALID_KNIGHT_SQUARES</code> for invalid knight move squares. */
+    public static final int MOVE_INVALID_KNIGHT_SQUARES = 9;
+
+    /** Constant <code>MOVE_INVALID_BISHOP</code> for invalid bishop move fields. */
+    public static final int MOVE_INVALID_BISHOP = 10;
+
+    /** Constant <code>MOVE_INVALID_BISHOP_SQUARES</code> for invalid bishop move squares. */
+    public static final int MOVE_INVALID_BISHOP_SQUARES = 11;
+
+    /** Constant <code>MOVE_INVALID_QUEEN</code> for invalid queen move fields. */
+    public static final int MOVE_INVALID_QUEEN = 12;
+
+    /** Constant <code>MOVE_INVALID_QUEEN_SQUARES</code> for invalid queen move squares. */
+    public static final int MOVE_INVALID_QUEEN_SQUARES = 13;
+
+    /** Constant <code>MOVE_INVALID_ROOK</code> for invalid rook move fields. */
+    public static final int MOVE_INVALID_ROOK = 14;
+
+    /** Constant <code>MOVE_INVALID_ROOK_SQUARES</code> for invalid rook move squares. */
+    public static final int MOVE_INVALID_ROOK_SQUARES = 15;
+
+    /** Constant <code>MOVE_INVALID_KING</code> for invalid king move fields. */
+    public static final int MOVE_INVALID_KING = 16;
+
+    /** Constant <code>MOVE_INVALID_KING_SQUARES</code> for invalid king move squares. */
+    public static final int MOVE_INVALID_KING_SQUARES = 17;
+
+    /** Constant <code>MOVE_INVALID_CASTLE</code> for invalid castle move fields. */
+    public static final int MOVE_INVALID_CASTLE = 18;
+
+    /** Constant <code>MOVE_INVALID_CASTLE_SQUARES</code> for invalid castle move squares. */
+    public static final int MOVE_INVALID_CASTLE_SQUARES = 19;
+
+    /** Constant <code>MOVE_INVALID</code> for invalid move fields. */
+    public static final int MOVE_INVALID = 20;
+
+    /** Constant <code>validationKeys</code> for exception message keys; index: validation code */
+    private static final String[] validationKeys = {
+        null,
+        "chess.move.input.hash.invalid", "chess.move.invalid.pawn.move",
+        "chess.move.invalid.pawn.move", "chess.move.invalid.double.push.move",
+        "chess.move.invalid.en.passant.move", "chess.move.invalid.promotion.move",
+        "chess.move.invalid.capture.promotion.move", "chess.move.invalid.knight.move",
+        "chess.move.invalid.knight.move", "chess.move.invalid.bishop.move",
+        "chess.move.invalid.bishop.move", "chess.move.invalid.queen.move",
+        "chess.move.invalid.queen.move", "chess.move.invalid.rook.move",
+        "chess.move.invalid.rook.move", "chess.move.invalid.king.move",
+        "chess.move.invalid.king.move", "chess.move.invalid.castle.move",
+        "chess.move.invalid.castle.move", "chess.move.invalid.move"
+    };
+
+    /** Constant <code>movePages</code> for canonical moves; index: hash &gt;&gt;&gt; 12, then hash &amp; 0xfff */
+    private static final AtomicReferenceArray<AtomicReferenceArray<Move>> movePages =
+        new AtomicReferenceArray<>(1 << 13);
+
     /**
      * Chess move factory method.
      *
+     * <p>Moves are immutable and cached by hash: the hash is checked against the {@link MoveBitmap}, then the first
+     * call for a hash creates the move and later calls return the same shared instance from a lazily populated table.
+     * </p>
+     *
      * @param hash move hash
-     * @return new instance of move
+     * @return shared instance of move
      */
     public static Move moveFor(int hash) {
-        MoveIdentity id = MoveIdentity.moveIdentityFor(hash);
-
-        if (!id.valid()) {
-            ChessException cause = new ChessException(format("hash: 0x%08x", hash));
-            throw new ChessException("chess.move.input.hash.invalid", cause);
+        if (!MoveBitmap.isValid(hash)) {
+            throw invalidMoveException(hash);
+        }
+        AtomicReferenceArray<Move> page = movePages.get(hash >>> 12);
+        if (page != null) {
+            Move move = page.get(hash & 0xfff);
+            if (move != null) {
+                return move;
+            }
         }
+        return cachedMove(decodeMove(hash));
+    }
 
-        MoveType type = id.type();
-        Side side = id.side();
-        Caste promotion = id.promotion();
-        Caste capture = id.capture();
-        Caste base = id.base();
-        Square from = id.from();
-        Square to = id.to();
+    /**
+     * Returns the canonical instance for a valid move, caching the move if it is the first for its hash.
+     *
+     * @param move valid move
+     * @return canonical instance of move
+     */
+    private static Move cachedMove(Move move) {
+        int hash = move.hash;
+        AtomicReferenceArray<Move> page = movePages.get(hash >>> 12);
+        if (page == null) {
+            movePages.compareAndSet(hash >>> 12, null, new AtomicReferenceArray<>(1 << 12));
+            page = movePages.get(hash >>> 12);
+        }
+        page.compareAndSet(hash & 0xfff, null, move);
+        return page.get(hash & 0xfff);
+    }
 
-        Move move = new Move(type, side, promotion, capture, base, from, to);
+    /**
+     * Creates a new move for a hash with a valid bit pattern, without validating it.
+     *
+     * @param hash move hash
+     * @return new instance of move
+     */
+    private static Move decodeMove(int hash) {
+        MoveIdentity id = MoveIdentity.moveIdentityFor(hash);
+        return new Move(id.type(), id.side(), id.promotion(), id.capture(), id.base(), id.from(), id.to());
+    }
 
-        ChessException error = move.validate();
-        if (error != null) {
-            throw error;
+    /**
+     * Returns the validation exception for an invalid move hash.
+     *
+     * @param hash invalid move hash
+     * @return chess exception of error
+     */
+    private static ChessException invalidMoveException(int hash) {
+        if (MOVE_INVALID_HASH == validationCodeFor(hash)) {
+            ChessException cause = new ChessException(format("hash: 0x%08x", hash));
+            return new ChessException("chess.move.input.hash.invalid", cause);
         }
-        return move;
+        return decodeMove(hash).validate();
     }
 
     /**
@@ -288,6 +409,8 @@ public class Move {
 
     private final int hash;
 
+    private final MoveIdentity id;
+
     private final MoveType type;
 
     private final Side side;
@@ -318,7 +441,8 @@ public class Move {
      * @param t to square
      */
     protected Move(MoveType m, Side s, Caste p, Caste c, Caste b, Square f, Square t) {
-        this.hash = new MoveIdentity(m, s, p, c, b, f, t).hash;
+        this.id = new MoveIdentity(m, s, p, c, b, f, t);
+        this.hash = id.hash;
         this.type = m;
         this.side = s;
         this.promotion = p;
@@ -344,7 +468,7 @@ public class Move {
      * @return underlying {@link MoveIdentity}
      */
     public MoveIdentity id() {
-        return new MoveIdentity(hash);
+        return id;
     }
 
     /**
@@ -489,8 +613,142 @@ public class Move {
      * Returns if move, including squares, has any error.
      *
      * @return chess exception of error, null otherwise
+     * @see #validationCode()
      */
     final public ChessException validate() {
+        int code = validationCode();
+        if (MOVE_VALID == code) {
+            return null;
+        }
+
+        String causeMessage;
+        switch (code) {
+            case MOVE_INVALID_PAWN_SQUARES:
+            case MOVE_INVALID_DOUBLE_PUSH_SQUARES:
+            case MOVE_INVALID_EN_PASSANT_SQUARES:
+            case MOVE_INVALID_PROMOTION_SQUARES:
+            case MOVE_INVALID_CAPTURE_PROMOTION_SQUARES:
+            case MOVE_INVALID_KNIGHT_SQUARES:
+            case MOVE_INVALID_BISHOP_SQUARES:
+            case MOVE_INVALID_QUEEN_SQUARES:
+            case MOVE_INVALID_ROOK_SQUARES:
+            case MOVE_INVALID_KING_SQUARES:
+                causeMessage = "from: " + from + " to: " + to;
+                break;
+            case MOVE_INVALID_CASTLE_SQUARES:
+                String castleTemplate = "kingFrom: %s kingTo: %s rookFrom: %s rookTo: %s";
+                causeMessage = format(castleTemplate, from, to, rookFromSquare, rookToSquare);
+                break;
+            case MOVE_INVALID:
+                String moveTemplate = "type: %s promotion: %s capture: %s base: %s";
+                causeMessage = format(moveTemplate, type, promotion, capture, base);
+                break;
+            default:
+                causeMessage = format("type: %s promotion: %s capture: %s", type, promotion, capture);
+                break;
+        }
+        ChessException cause = new ChessException(causeMessage);
+        return new ChessException(validationKey(code), cause);
+    }
+
+    /**
+     * Returns error code of move, including squares, without allocating.
+     *
+     * @return {@link #MOVE_VALID} or a <code>MOVE_INVALID_*</code> error code
+     * @see #validationKey(int)
+     */
+    final public int validationCode() {
+        return validationCode(type, side, promotion, capture, base, from, to, rookFromSquare, rookToSquare);
+    }
+
+    /**
+     * Returns error code of move hash, including squares, without creating a move or allocating.
+     *
+     * @param hash move hash
+     * @return {@link #MOVE_VALID} or a <code>MOVE_INVALID_*</code> error code
+     * @see #validationKey(int)
+     */
+    public static int validationCodeFor(int hash) {
+        // Check promotion, capture and base castes and pad (see MoveIdentity#valid()).
+        if ((hash & 0x1c0000) == 0x1c0000 || (hash & 0x38000) == 0x38000 || (hash & 0x7000) == 0x7000
+            || (hash & 0xfe000000) != 0x0) {
+            return MOVE_INVALID_HASH;
+        }
+
+        MoveType type = moveTypeFromIndex(hash >> 22 & 0x7);
+        Side side = (hash & 0x200000) != 0x0 ? WHITE : BLACK;
+        Caste promotion = casteFromIndex(hash >> 18 & 0x7);
+        Caste capture = casteFromIndex(hash >> 15 & 0x7);
+        Caste base = casteFromIndex(hash >> 12 & 0x7);
+        Square from = squareFromIndex((byte) (hash >> 6 & 0x3f));
+        Square to = squareFromIndex((byte) (hash & 0x3f));
+
+        if (type.isCastling()) {
+            boolean castleShort = CASTLE_SHORT == type;
+            int rank = side.isWhite() ? 0 : 56;
+            Square kingTo = squareFromIndex((byte) (rank | (castleShort ? 6 : 2)));
+            Square rookTo = squareFromIndex((byte) (rank | (castleShort ? 5 : 3)));
+            return validationCode(type, side, promotion, capture, base, from, kingTo, to, rookTo);
+        }
+        return validationCode(type, side, promotion, capture, base, from, to, null, null);
+    }
+
+    /**
+     * Returns exception message key for error code.
+     *
+     * @param code validation error code
+     * @return message key, null for {@link #MOVE_VALID}
+     */
+    public static String validationKey(int code) {
+        if (code < 0 || validationKeys.length <= code) {
+            ChessException cause = new ChessException("code: " + code);
+            throw new ChessException("chess.move.validation.code.invalid", cause);
+        }
+        return validationKeys[code];
+    }
+
+    /**
+     * Returns if a validation code depends on the move squares, rather than only on the other move fields.
+     *
+     * @param code validation code
+     * @return true for {@link #MOVE_VALID} and the <code>MOVE_INVALID_*_SQUARES</code> codes
+     */
+    static boolean squaresDependent(int code) {
+        switch (code) {
+            case MOVE_VALID:
+            case MOVE_INVALID_PAWN_SQUARES:
+            case MOVE_INVALID_DOUBLE_PUSH_SQUARES:
+            case MOVE_INVALID_EN_PASSANT_SQUARES:
+            case MOVE_INVALID_PROMOTION_SQUARES:
+            case MOVE_INVALID_CAPTURE_PROMOTION_SQUARES:
+            case MOVE_INVALID_KNIGHT_SQUARES:
+            case MOVE_INVALID_BISHOP_SQUARES:
+            case MOVE_INVALID_QUEEN_SQUARES:
+            case MOVE_INVALID_ROOK_SQUARES:
+            case MOVE_INVALID_KING_SQUARES:
+            case MOVE_INVALID_CASTLE_SQUARES:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns error code of move fields, including squares.
+     *
+     * @param type      move type
+     * @param side      move side
+     * @param promotion promotion caste
+     * @param capture   capture caste
+     * @param base      moving piece caste
+     * @param from      from (king) square
+     * @param to        to (king) square
+     * @param rookFrom  castling rook from square, null otherwise
+     * @param rookTo    castling rook to square, null otherwise
+     * @return {@link #MOVE_VALID} or a <code>MOVE_INVALID_*</code> error code
+     */
+    private static int validationCode(MoveType type, Side side, Caste promotion, Caste capture, Caste base,
+        Square from, Square to, Square rookFrom, Square rookTo) {
         // Check valid pawn moves.
         if (PAWN == base) {
             // Valid pawn base/capture move.
@@ -498,16 +756,12 @@ public class Move {
                 if (NONE == promotion) {
                     if (KING != capture && (NONE != capture) == type.isCapture()) {
                         if (validPawnSquares(type, side, from, to)) {
-                            return null;
+                            return MOVE_VALID;
                         }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.pawn.move", cause);
+                        return MOVE_INVALID_PAWN_SQUARES;
                     }
                 }
-
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.pawn.move", cause);
+                return MOVE_INVALID_PAWN;
             }
 
             // Valid pawn double-push.
@@ -515,16 +769,12 @@ public class Move {
                 if (NONE == promotion) {
                     if (NONE == capture) {
                         if (validDoublePushSquares(side, from, to)) {
-                            return null;
+                            return MOVE_VALID;
                         }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.double.push.move", cause);
+                        return MOVE_INVALID_DOUBLE_PUSH_SQUARES;
                     }
                 }
-
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.pawn.move", cause);
+                return MOVE_INVALID_PAWN;
             }
 
             // Valid pawn capture en passant.
@@ -532,16 +782,12 @@ public class Move {
                 if (NONE == promotion) {
                     if (PAWN == capture) {
                         if (validEnPassantSquares(side, from, to)) {
-                            return null;
+                            return MOVE_VALID;
                         }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.en.passant.move", cause);
+                        return MOVE_INVALID_EN_PASSANT_SQUARES;
                     }
                 }
-
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.pawn.move", cause);
+                return MOVE_INVALID_PAWN;
             }
 
             // Valid pawn promotion move.
@@ -549,16 +795,12 @@ public class Move {
                 if (NONE != promotion && PAWN != promotion && KING != promotion) {
                     if (NONE == capture) {
                         if (validPromotionSquares(side, from, to)) {
-                            return null;
+                            return MOVE_VALID;
                         }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.promotion.move", cause);
+                        return MOVE_INVALID_PROMOTION_SQUARES;
                     }
                 }
-
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.pawn.move", cause);
+                return MOVE_INVALID_PAWN;
             }
 
             // Valid pawn capture-promotion move.
@@ -566,165 +808,91 @@ public class Move {
                 if (NONE != promotion && PAWN != promotion && KING != promotion) {
                     if (NONE != capture && KING != capture) {
                         if (validCapturePromotionSquares(side, from, to)) {
-                            return null;
+                            return MOVE_VALID;
                         }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.capture.promotion.move", cause);
+                        return MOVE_INVALID_CAPTURE_PROMOTION_SQUARES;
                     }
                 }
-
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.pawn.move", cause);
+                return MOVE_INVALID_PAWN;
             }
 
             // Invalid pawn move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.pawn.move", cause);
+            return MOVE_INVALID_PAWN;
         }
 
         // Check valid knight moves.
         if (KNIGHT == base) {
-            // Valid knight base/capture move.
-            if (BASE == type || CAPTURE == type) {
-                if (NONE == promotion) {
-                    if (KING != capture && (NONE != capture) == type.isCapture()) {
-                        if (validKnightMove(from, to)) {
-                            return null;
-                        }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.knight.move", cause);
-                    }
-                }
+            if (validBasicFields(type, promotion, capture)) {
+                return validKnightMove(from, to) ? MOVE_VALID : MOVE_INVALID_KNIGHT_SQUARES;
             }
-
-            // Invalid knight move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.knight.move", cause);
+            return MOVE_INVALID_KNIGHT;
         }
 
         // Check valid bishop moves.
         if (BISHOP == base) {
-            // Valid bishop base/capture move.
-            if (BASE == type || CAPTURE == type) {
-                if (NONE == promotion) {
-                    if (KING != capture && (NONE != capture) == type.isCapture()) {
-                        if (validBishopMove(from, to)) {
-                            return null;
-                        }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.bishop.move", cause);
-                    }
-                }
+            if (validBasicFields(type, promotion, capture)) {
+                return validBishopMove(from, to) ? MOVE_VALID : MOVE_INVALID_BISHOP_SQUARES;
             }
-
-            // Invalid bishop move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.bishop.move", cause);
+            return MOVE_INVALID_BISHOP;
         }
 
         // Check valid queen moves.
         if (QUEEN == base) {
-            // Valid queen base/capture move.
-            if (BASE == type || CAPTURE == type) {
-                if (NONE == promotion) {
-                    if (KING != capture && (NONE != capture) == type.isCapture()) {
-                        if (validQueenMove(from, to)) {
-                            return null;
-                        }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.queen.move", cause);
-                    }
-                }
+            if (validBasicFields(type, promotion, capture)) {
+                return validQueenMove(from, to) ? MOVE_VALID : MOVE_INVALID_QUEEN_SQUARES;
             }
-
-            // Invalid queen move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.queen.move", cause);
+            return MOVE_INVALID_QUEEN;
         }
 
         // Check valid rook moves.
         if (ROOK == base) {
-            // Valid rook base/capture move.
-            if (BASE == type || CAPTURE == type) {
-                if (NONE == promotion) {
-                    if (KING != capture && (NONE != capture) == type.isCapture()) {
-                        if (validRookMove(from, to)) {
-                            return null;
-                        }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.rook.move", cause);
-                    }
-                }
+            if (validBasicFields(type, promotion, capture)) {
+                return validRookMove(from, to) ? MOVE_VALID : MOVE_INVALID_ROOK_SQUARES;
             }
-
-            // Invalid rook move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.rook.move", cause);
+            return MOVE_INVALID_ROOK;
         }
 
         // Check valid king moves.
         if (KING == base) {
-            // Valid king base/capture move.
-            if (BASE == type || CAPTURE == type) {
-                if (NONE == promotion) {
-                    if (KING != capture && (NONE != capture) == type.isCapture()) {
-                        if (validKingMove(from, to)) {
-                            return null;
-                        }
-                        ChessException cause = new ChessException("from: " + from + " to: " + to);
-                        return new ChessException("chess.move.invalid.king.move", cause);
-                    }
-                }
+            if (validBasicFields(type, promotion, capture)) {
+                return validKingMove(from, to) ? MOVE_VALID : MOVE_INVALID_KING_SQUARES;
             }
 
             // Check valid castling.
             if (CASTLE_LONG == type || CASTLE_SHORT == type) {
-                // Valid castle move.
-                if (NONE == promotion) {
-                    if (NONE == capture) {
-                        if (validCastleMove(side, from, to, rookFromSquare, rookToSquare)) {
-                            return null;
-                        }
-                        String template = "kingFrom: %s kingTo: %s rookFrom: %s rookTo: %s";
-                        String causeMessage = format(template, from, to, rookFromSquare, rookToSquare);
-                        ChessException cause = new ChessException(causeMessage);
-                        return new ChessException("chess.move.invalid.castle.move", cause);
+                if (NONE == promotion && NONE == capture) {
+                    if (validCastleMove(side, from, to, rookFrom, rookTo)) {
+                        return MOVE_VALID;
                     }
+                    return MOVE_INVALID_CASTLE_SQUARES;
                 }
-
-                // Invalid castle move.
-                String template = "type: %s promotion: %s capture: %s";
-                ChessException cause = new ChessException(format(template, type, promotion, capture));
-                return new ChessException("chess.move.invalid.castle.move", cause);
+                return MOVE_INVALID_CASTLE;
             }
 
             // Invalid king move.
-            String template = "type: %s promotion: %s capture: %s";
-            ChessException cause = new ChessException(format(template, type, promotion, capture));
-            return new ChessException("chess.move.invalid.king.move", cause);
+            return MOVE_INVALID_KING;
         }
 
         // Check valid null move.
-        if (NONE == base) {
-            if (BASE == type) {
-                if (NONE == promotion) {
-                    if (NONE == capture) {
-                        return null;
-                    }
-                }
-            }
+        if (NONE == base && BASE == type && NONE == promotion && NONE == capture) {
+            return MOVE_VALID;
         }
 
         // Invalid move.
-        String template = "type: %s promotion: %s capture: %s base: %s";
-        ChessException cause = new ChessException(format(template, type, promotion, capture, base));
-        return new ChessException("chess.move.invalid.move", cause);
+        return MOVE_INVALID;
+    }
+
+    /**
+     * Returns if fields are valid for a piece base or capture move.
+     *
+     * @param type      move type
+     * @param promotion promotion caste
+     * @param capture   capture caste
+     * @return true if valid, false otherwise
+     */
+    private static boolean validBasicFields(MoveType type, Caste promotion, Caste capture) {
+        return (BASE == type || CAPTURE == type) && NONE == promotion && KING != capture
+            && (NONE != capture) == type.isCapture();
     }
 
     /**
@@ -737,7 +905,7 @@ public class Move {
      * @param rookTo   rook to square
      * @return true if valid, false otherwise
      */
-    private boolean validCastleMove(Side side, Square kingFrom, Square kingTo, Square rookFrom, Square rookTo) {
+    private static boolean validCastleMove(Side side, Square kingFrom, Square kingTo, Square rookFrom, Square rookTo) {
         if (side.isWhite()) {
             if (kingFrom.rank() != 1 || kingTo.rank() != 1) {
                 return false;
@@ -759,7 +927,7 @@ public class Move {
         return kingFrom != kingTo;
     }
 
-    private boolean validKingMove(Square from, Square to) {
+    private static boolean validKingMove(Square from, Square to) {
         if (from == to) {
             return false;
         }
@@ -770,7 +938,7 @@ public class Move {
         return deltaFile == 1 || deltaFile == -1 || deltaRank == 1 || deltaRank == -1;
     }
 
-    private boolean validRookMove(Square from, Square to) {
+    private static boolean validRookMove(Square from, Square to) {
         if (from == to) {
             return false;
         }
@@ -781,7 +949,7 @@ public class Move {
         return deltaFile == 0 || deltaRank == 0;
     }
 
-    private boolean validQueenMove(Square from, Square to) {
+    private static boolean validQueenMove(Square from, Square to) {
         if (from == to) {
             return false;
         }
@@ -793,7 +961,7 @@ public class Move {
         return deltaFile == 0 || deltaRank == 0 || deltaFile == deltaRank || deltaFile == -deltaRank;
     }
 
-    private boolean validBishopMove(Square from, Square to) {
+    private static boolean validBishopMove(Square from, Square to) {
         if (from == to) {
             return false;
         }
@@ -804,7 +972,7 @@ public class Move {
         return deltaFile == deltaRank || deltaFile == -deltaRank;
     }
 
-    private boolean validKnightMove(Square from, Square to) {
+    private static boolean validKnightMove(Square from, Square to) {
         if (from == to) {
             return false;
         }
@@ -818,7 +986,7 @@ public class Move {
         return (deltaFile == 1 || deltaFile == -1) && (deltaRank == 2 || deltaRank == -2);
     }
 
-    private boolean validPawnSquares(MoveType type, Side side, Square from, Square to) {
+    private static boolean validPawnSquares(MoveType type, Side side, Square from, Square to) {
         if (side.isWhite()) {
             if (from.rank() + 1 != to.rank()) {
                 return false;
@@ -840,7 +1008,7 @@ public class Move {
         return delta == 1 || delta == -1;
     }
 
-    private boolean validDoublePushSquares(Side side, Square from, Square to) {
+    private static boolean validDoublePushSquares(Side side, Square from, Square to) {
         if (side.isWhite()) {
             if (from.rank() != 2 || to.rank() != 4) {
                 return false;
@@ -855,7 +1023,7 @@ public class Move {
         return from.file() == to.file();
     }
 
-    private boolean validEnPassantSquares(Side side, Square from, Square to) {
+    private static boolean validEnPassantSquares(Side side, Square from, Square to) {
         if (side.isWhite()) {
             if (to.rank() != from.rank() + 1) {
                 return false;
@@ -877,7 +1045,7 @@ public class Move {
         return delta == 1 || delta == -1;
     }
 
-    private boolean validPromotionSquares(Side side, Square from, Square to) {
+    private static boolean validPromotionSquares(Side side, Square from, Square to) {
         if (side.isWhite()) {
             if (from.rank() != 7 || to.rank() != 8) {
                 return false;
@@ -892,7 +1060,7 @@ public class Move {
         return from.file() == to.file();
     }
 
-    private boolean validCapturePromotionSquares(Side side, Square from, Square to) {
+    private static boolean validCapturePromotionSquares(Side side, Square from, Square to) {
         if (side.isWhite()) {
             if (from.rank() != 7 || to.rank() != 8) {
                 return false;
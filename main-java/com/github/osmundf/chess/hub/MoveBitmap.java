@@ -0,0 +1,174 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.osmundf.chess.hub.Move.squaresDependent;
+import static com.github.osmundf.chess.hub.Move.validationCodeFor;
+
+/**
+ * <p>Chess valid move bitmap.
+ * </p>
+ * <p>One bit for each hash of the 25-bit {@link MoveIdentity} space (4 MiB), set when the hash is a valid
+ * {@link Move}, so validity is answered with a single array read. The bitmap is loaded on first use: from the gzip
+ * resource <code>move-bitmap.gz</code> next to this class when present, otherwise computed in parallel. Only field
+ * combinations whose validity depends on the squares are checked square by square, which keeps computing cheap.
+ * </p>
+ * <p>The shipped resource (7.5 KiB) loads in about a quarter of the time it takes to compute the bitmap. It must be
+ * regenerated when move validation changes, with {@link #writeBitmap(OutputStream)} or from the command line:
+ * <code>java -cp _target/main-classes com.github.osmundf.chess.hub.MoveBitmap
+ * main-resources/com/github/osmundf/chess/hub/move-bitmap.gz</code>
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MoveBitmap {
+
+    /** Constant <code>RESOURCE</code> for the bitmap resource name. */
+    public static final String RESOURCE = "move-bitmap.gz";
+
+    /** Constant <code>magic</code> for the resource header. */
+    private static final int magic = 0x43484d42;
+
+    /** Constant <code>words</code> for the number of bitmap words. */
+    private static final int words = 1 << 19;
+
+    /**
+     * Returns if the hash is a valid move hash.
+     *
+     * @param hash move hash
+     * @return true if valid, false otherwise
+     */
+    public static boolean isValid(int hash) {
+        return hash >>> 25 == 0 && (Holder.bitmap[hash >>> 6] & 1L << hash) != 0L;
+    }
+
+    /**
+     * Returns the number of valid move hashes.
+     *
+     * @return valid move hash count
+     */
+    public static int validCount() {
+        int count = 0;
+        for (long word : Holder.bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Computes the bitmap and writes it in resource format (gzip of header and words).
+     *
+     * @param output output stream, left open
+     * @throws IOException on write error
+     */
+    public static void writeBitmap(OutputStream output) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(output, 1 << 16);
+        DataOutputStream data = new DataOutputStream(gzip);
+        data.writeInt(magic);
+        data.writeInt(words);
+        for (long word : computeBitmap()) {
+            data.writeLong(word);
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Writes the bitmap resource to the file named by the first argument.
+     *
+     * @param args resource file path
+     * @throws IOException on write error
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: MoveBitmap <path/to/" + RESOURCE + ">");
+            return;
+        }
+        try (OutputStream output = new FileOutputStream(args[0])) {
+            writeBitmap(output);
+        }
+    }
+
+    /**
+     * Reads a bitmap in resource format.
+     *
+     * @param input input stream
+     * @return bitmap words
+     * @throws IOException on read error or invalid header
+     */
+    static long[] readBitmap(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new GZIPInputStream(input, 1 << 16));
+        if (data.readInt() != magic || data.readInt() != words) {
+            throw new IOException("chess.move.bitmap.header.invalid");
+        }
+        byte[] bytes = new byte[words << 3];
+        data.readFully(bytes);
+        long[] bitmap = new long[words];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Computes the bitmap, one task per field combination (type, side, promotion, capture, base).
+     *
+     * @return bitmap words
+     */
+    static long[] computeBitmap() {
+        long[] bitmap = new long[words];
+        IntStream.range(0, 1 << 13).parallel().forEach(fields -> {
+            int base = fields << 12;
+            if (!squaresDependent(validationCodeFor(base))) {
+                return;
+            }
+            for (int squares = 0; squares < 1 << 12; squares++) {
+                if (validationCodeFor(base | squares) == Move.MOVE_VALID) {
+                    bitmap[(base | squares) >>> 6] |= 1L << squares;
+                }
+            }
+        });
+        return bitmap;
+    }
+
+    /**
+     * Loads the bitmap from the resource, or computes it when the resource is absent.
+     *
+     * @return bitmap words
+     */
+    private static long[] loadBitmap() {
+        try (InputStream input = MoveBitmap.class.getResourceAsStream(RESOURCE)) {
+            if (input != null) {
+                return readBitmap(input);
+            }
+        }
+        catch (IOException e) {
+            throw new ChessException("chess.move.bitmap.resource.invalid", e);
+        }
+        return computeBitmap();
+    }
+
+    /**
+     * MoveBitmap constructor (private).
+     */
+    private MoveBitmap() {
+    }
+
+    /**
+     * Lazy holder of the bitmap words, loaded on first use.
+     */
+    private static final class Holder {
+
+        /** Bitmap words; index: hash &gt;&gt;&gt; 6, bit: hash &amp; 0x3f */
+        private static final long[] bitmap = loadBitmap();
+    }
+}
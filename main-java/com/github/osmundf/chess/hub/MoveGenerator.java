@@ -0,0 +1,416 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.Attacks.between;
+import static com.github.osmundf.chess.hub.Attacks.bishopAttacks;
+import static com.github.osmundf.chess.hub.Attacks.kingAttacks;
+import static com.github.osmundf.chess.hub.Attacks.knightAttacks;
+import static com.github.osmundf.chess.hub.Attacks.line;
+import static com.github.osmundf.chess.hub.Attacks.pawnAttacks;
+import static com.github.osmundf.chess.hub.Attacks.queenAttacks;
+import static com.github.osmundf.chess.hub.Attacks.rookAttacks;
+import static com.github.osmundf.chess.hub.MoveIdentity.pack;
+
+/**
+ * <p>Chess move generator.
+ * </p>
+ * <p>Moves are written as packed {@link MoveIdentity} hashes into a caller supplied buffer, so generation allocates
+ * nothing. Castling moves follow the {@link Move} convention of king source square and rook source square; only
+ * the standard king and rook home squares are generated.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MoveGenerator {
+
+    /** Constant <code>MAX_MOVES</code> for buffer space sufficient for the moves of any position. */
+    public static final int MAX_MOVES = 256;
+
+    private static final int baseType = MoveType.BASE.index();
+
+    private static final int captureType = MoveType.CAPTURE.index();
+
+    private static final int doublePushType = MoveType.DOUBLE_PUSH.index();
+
+    private static final int enPassantType = MoveType.EN_PASSANT.index();
+
+    private static final int promotionType = MoveType.PROMOTION.index();
+
+    private static final int capturePromotionType = MoveType.CAPTURE_PROMOTION.index();
+
+    private static final int castleShortType = MoveType.CASTLE_SHORT.index();
+
+    private static final int castleLongType = MoveType.CASTLE_LONG.index();
+
+    private static final int pawnIndex = Caste.PAWN.index();
+
+    private static final int knightIndex = Caste.KNIGHT.index();
+
+    private static final int bishopIndex = Caste.BISHOP.index();
+
+    private static final int rookIndex = Caste.ROOK.index();
+
+    private static final int queenIndex = Caste.QUEEN.index();
+
+    private static final int kingIndex = Caste.KING.index();
+
+    private static final int whiteIndex = Side.WHITE.index();
+
+    /** Constant <code>promotionArray</code> for promotion caste indices in generation order. */
+    private static final int[] promotionArray = {queenIndex, rookIndex, bishopIndex, knightIndex};
+
+    /**
+     * Writes the legal moves of the position into the buffer.
+     *
+     * @param position chess position
+     * @param moves    move buffer with space for {@link #MAX_MOVES} moves
+     * @return number of moves written
+     */
+    public static int legalMoves(Position position, int[] moves) {
+        return legalMoves(position, moves, 0);
+    }
+
+    /**
+     * Writes the legal moves of the position into the buffer starting at offset.
+     *
+     * @param position chess position
+     * @param moves    move buffer with space for {@link #MAX_MOVES} moves after offset
+     * @param offset   buffer offset
+     * @return number of moves written
+     */
+    public static int legalMoves(Position position, int[] moves, int offset) {
+        Objects.requireNonNull(position, "chess.move.generator.position.null");
+        Objects.requireNonNull(moves, "chess.move.generator.moves.null");
+        return generate(position, moves, offset, true) - offset;
+    }
+
+    /**
+     * <p>Writes the pseudo-legal moves of the position into the buffer.
+     * </p>
+     * <p>Pseudo-legal moves may leave the own king in check; castling is only generated when legal.
+     * </p>
+     *
+     * @param position chess position
+     * @param moves    move buffer with space for {@link #MAX_MOVES} moves
+     * @return number of moves written
+     */
+    public static int pseudoLegalMoves(Position position, int[] moves) {
+        return pseudoLegalMoves(position, moves, 0);
+    }
+
+    /**
+     * Writes the pseudo-legal moves of the position into the buffer starting at offset.
+     *
+     * @param position chess position
+     * @param moves    move buffer with space for {@link #MAX_MOVES} moves after offset
+     * @param offset   buffer offset
+     * @return number of moves written
+     */
+    public static int pseudoLegalMoves(Position position, int[] moves, int offset) {
+        Objects.requireNonNull(position, "chess.move.generator.position.null");
+        Objects.requireNonNull(moves, "chess.move.generator.moves.null");
+        return generate(position, moves, offset, false) - offset;
+    }
+
+    /**
+     * Writes moves into buffer.
+     *
+     * @param position chess position
+     * @param moves    move buffer
+     * @param count    buffer offset
+     * @param legal    true for legal moves, false for pseudo-legal moves
+     * @return buffer offset after the last move written
+     */
+    private static int generate(Position position, int[] moves, int count, boolean legal) {
+        int us = position.sideToMove;
+        int them = 3 - us;
+        long own = position.occupancy[us];
+        long occupied = own | position.occupancy[them];
+        int king = Long.numberOfTrailingZeros(position.board(us, kingIndex));
+        long checkers = position.attackers(king, them, occupied);
+        long checkMask = -1L;
+        long pinned = 0L;
+
+        // King moves, filtered against attacks once the king has left its square.
+        long kingTargets = kingAttacks(king) & ~own;
+        if (legal) {
+            long kingless = occupied ^ 1L << king;
+            for (long targets = kingTargets; targets != 0; targets &= targets - 1) {
+                int to = Long.numberOfTrailingZeros(targets);
+                if (position.attackers(to, them, kingless) != 0) {
+                    kingTargets ^= 1L << to;
+                }
+            }
+        }
+        count = emit(position, moves, count, us, kingIndex, king, kingTargets);
+
+        if (legal) {
+            // Only the king may move out of double check.
+            if (Long.bitCount(checkers) > 1) {
+                return count;
+            }
+            if (checkers != 0) {
+                checkMask = checkers | between(king, Long.numberOfTrailingZeros(checkers));
+            }
+            pinned = pinned(position, us, king, own, occupied);
+        }
+
+        long targetMask = ~own & checkMask;
+        for (long pieces = position.board(us, knightIndex) & ~pinned; pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            count = emit(position, moves, count, us, knightIndex, from, knightAttacks(from) & targetMask);
+        }
+        for (long pieces = position.board(us, bishopIndex); pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            long targets = bishopAttacks(from, occupied) & targetMask & pinMask(pinned, king, from);
+            count = emit(position, moves, count, us, bishopIndex, from, targets);
+        }
+        for (long pieces = position.board(us, rookIndex); pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            long targets = rookAttacks(from, occupied) & targetMask & pinMask(pinned, king, from);
+            count = emit(position, moves, count, us, rookIndex, from, targets);
+        }
+        for (long pieces = position.board(us, queenIndex); pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            long targets = queenAttacks(from, occupied) & targetMask & pinMask(pinned, king, from);
+            count = emit(position, moves, count, us, queenIndex, from, targets);
+        }
+
+        count = pawnMoves(position, moves, count, legal, king, checkMask, pinned, occupied);
+
+        if (checkers == 0) {
+            count = castleMoves(position, moves, count, king, occupied);
+        }
+        return count;
+    }
+
+    /**
+     * Writes pawn moves into buffer.
+     *
+     * @param position  chess position
+     * @param moves     move buffer
+     * @param count     buffer offset
+     * @param legal     true for legal moves, false for pseudo-legal moves
+     * @param king      king square index
+     * @param checkMask bitboard of squares resolving check
+     * @param pinned    bitboard of pinned pieces
+     * @param occupied  bitboard of occupied squares
+     * @return buffer offset after the last move written
+     */
+    private static int pawnMoves(Position position, int[] moves, int count, boolean legal, int king, long checkMask,
+        long pinned, long occupied) {
+        int us = position.sideToMove;
+        long enemy = position.occupancy[3 - us];
+        int forward = whiteIndex == us ? 8 : -8;
+        int startRank = whiteIndex == us ? 1 : 6;
+        int lastRank = whiteIndex == us ? 7 : 0;
+        int enPassant = position.enPassant;
+
+        for (long pawns = position.board(us, pawnIndex); pawns != 0; pawns &= pawns - 1) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            long mask = checkMask & pinMask(pinned, king, from);
+            boolean promoting = (from + forward) >> 3 == lastRank;
+
+            int to = from + forward;
+            if ((occupied & 1L << to) == 0) {
+                if ((mask & 1L << to) != 0) {
+                    if (promoting) {
+                        count = emitPromotions(moves, count, promotionType, us, 0, from, to);
+                    }
+                    else {
+                        moves[count++] = pack(baseType, us, 0, 0, pawnIndex, from, to);
+                    }
+                }
+                int push = to + forward;
+                if (from >> 3 == startRank && (occupied & 1L << push) == 0 && (mask & 1L << push) != 0) {
+                    moves[count++] = pack(doublePushType, us, 0, 0, pawnIndex, from, push);
+                }
+            }
+
+            for (long targets = pawnAttacks(us, from) & enemy & mask; targets != 0; targets &= targets - 1) {
+                int target = Long.numberOfTrailingZeros(targets);
+                int capture = position.squares[target] & 0x7;
+                if (promoting) {
+                    count = emitPromotions(moves, count, capturePromotionType, us, capture, from, target);
+                }
+                else {
+                    moves[count++] = pack(captureType, us, 0, capture, pawnIndex, from, target);
+                }
+            }
+
+            if (Position.NO_SQUARE != enPassant && (pawnAttacks(us, from) & 1L << enPassant) != 0) {
+                if (!legal || legalEnPassant(position, king, from, enPassant, occupied)) {
+                    moves[count++] = pack(enPassantType, us, 0, pawnIndex, pawnIndex, from, enPassant);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes castling moves into buffer; the king must not be in check.
+     *
+     * @param position chess position
+     * @param moves    move buffer
+     * @param count    buffer offset
+     * @param king     king square index
+     * @param occupied bitboard of occupied squares
+     * @return buffer offset after the last move written
+     */
+    private static int castleMoves(Position position, int[] moves, int count, int king, long occupied) {
+        int us = position.sideToMove;
+        int them = 3 - us;
+        int home = whiteIndex == us ? 4 : 60;
+        int rights = (position.castle >> (whiteIndex == us ? 4 : 0)) & 0x3;
+        if (king != home || rights == 0) {
+            return count;
+        }
+
+        int rook = us << 3 | rookIndex;
+        if ((rights & 0x2) != 0 && position.squares[home + 3] == rook && (occupied & 0x3L << home + 1) == 0) {
+            if (position.attackers(home + 1, them, occupied) == 0 && position.attackers(home + 2, them, occupied) == 0) {
+                moves[count++] = pack(castleShortType, us, 0, 0, kingIndex, home, home + 3);
+            }
+        }
+        if ((rights & 0x1) != 0 && position.squares[home - 4] == rook && (occupied & 0x7L << home - 3) == 0) {
+            if (position.attackers(home - 1, them, occupied) == 0 && position.attackers(home - 2, them, occupied) == 0) {
+                moves[count++] = pack(castleLongType, us, 0, 0, kingIndex, home, home - 4);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns if the side to move has a legal en passant capture (package-private).
+     *
+     * @param position chess position
+     * @return true if an en passant capture is legal, false otherwise
+     */
+    static boolean hasLegalEnPassant(Position position) {
+        int enPassant = position.enPassant;
+        if (Position.NO_SQUARE == enPassant) {
+            return false;
+        }
+        int us = position.sideToMove;
+        long occupied = position.occupancy[us] | position.occupancy[3 - us];
+        int king = Long.numberOfTrailingZeros(position.board(us, kingIndex));
+        for (long pawns = pawnAttacks(3 - us, enPassant) & position.board(us, pawnIndex); pawns != 0;
+            pawns &= pawns - 1) {
+            if (legalEnPassant(position, king, Long.numberOfTrailingZeros(pawns), enPassant, occupied)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns if en passant capture leaves the own king safe.
+     *
+     * @param position chess position
+     * @param king     king square index
+     * @param from     capturing pawn square index
+     * @param to       en passant target square index
+     * @param occupied bitboard of occupied squares
+     * @return true if legal, false otherwise
+     */
+    private static boolean legalEnPassant(Position position, int king, int from, int to, long occupied) {
+        int us = position.sideToMove;
+        int them = 3 - us;
+        long captured = 1L << (to & 0x7 | from & 0x38);
+        long after = occupied ^ 1L << from ^ captured | 1L << to;
+        long queens = position.board(them, queenIndex);
+        long attackers = pawnAttacks(us, king) & position.board(them, pawnIndex) & ~captured;
+        attackers |= knightAttacks(king) & position.board(them, knightIndex);
+        attackers |= bishopAttacks(king, after) & (position.board(them, bishopIndex) | queens);
+        attackers |= rookAttacks(king, after) & (position.board(them, rookIndex) | queens);
+        return attackers == 0;
+    }
+
+    /**
+     * Returns own pieces pinned against the own king.
+     *
+     * @param position chess position
+     * @param us       own side index
+     * @param king     king square index
+     * @param own      bitboard of own pieces
+     * @param occupied bitboard of occupied squares
+     * @return bitboard of pinned pieces
+     */
+    private static long pinned(Position position, int us, int king, long own, long occupied) {
+        int them = 3 - us;
+        long queens = position.board(them, queenIndex);
+        long snipers = rookAttacks(king, 0L) & (position.board(them, rookIndex) | queens);
+        snipers |= bishopAttacks(king, 0L) & (position.board(them, bishopIndex) | queens);
+
+        long result = 0L;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = between(king, Long.numberOfTrailingZeros(snipers)) & occupied;
+            if (blockers != 0 && (blockers & blockers - 1) == 0) {
+                result |= blockers & own;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns target restriction for a possibly pinned piece.
+     *
+     * @param pinned bitboard of pinned pieces
+     * @param king   king square index
+     * @param from   piece square index
+     * @return line through king and piece if pinned, all squares otherwise
+     */
+    private static long pinMask(long pinned, int king, int from) {
+        return (pinned & 1L << from) == 0 ? -1L : line(king, from);
+    }
+
+    /**
+     * Writes base and capture moves for targets into buffer.
+     *
+     * @param position chess position
+     * @param moves    move buffer
+     * @param count    buffer offset
+     * @param us       own side index
+     * @param base     moving caste index
+     * @param from     source square index
+     * @param targets  bitboard of target squares
+     * @return buffer offset after the last move written
+     */
+    private static int emit(Position position, int[] moves, int count, int us, int base, int from, long targets) {
+        for (; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            int capture = position.squares[to] & 0x7;
+            int type = capture == 0 ? baseType : captureType;
+            moves[count++] = pack(type, us, 0, capture, base, from, to);
+        }
+        return count;
+    }
+
+    /**
+     * Writes the four promotion moves into buffer.
+     *
+     * @param moves   move buffer
+     * @param count   buffer offset
+     * @param type    move type index
+     * @param us      own side index
+     * @param capture captured caste index
+     * @param from    source square index
+     * @param to      target square index
+     * @return buffer offset after the last move written
+     */
+    private static int emitPromotions(int[] moves, int count, int type, int us, int capture, int from, int to) {
+        for (int promotion : promotionArray) {
+            moves[count++] = pack(type, us, promotion, capture, pawnIndex, from, to);
+        }
+        return count;
+    }
+
+    /**
+     * Move generator constructor (private).
+     */
+    private MoveGenerator() {
+    }
+}
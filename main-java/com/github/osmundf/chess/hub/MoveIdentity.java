@@ -27,6 +27,26 @@ public class MoveIdentity {
         return new MoveIdentity(hash);
     }
 
+    /**
+     * <p>Returns move hash for primitive indices (unchecked).
+     * </p>
+     * <p>type[ttt] side[s] promotion[ppp] capture[ccc] base[bbb] from[rrr,fff] to[rrr,fff]
+     * </p>
+     *
+     * @param m move type index
+     * @param s move side index
+     * @param p promotion caste index
+     * @param c capture caste index
+     * @param b piece caste index
+     * @param f move source square index
+     * @param t move target square index
+     * @return move hash
+     */
+    static int pack(int m, int s, int p, int c, int b, int f, int t) {
+        int side = Side.WHITE.index() == s ? 1 << 21 : 0;
+        return m << 22 | side | p << 18 | c << 15 | b << 12 | f << 6 | t;
+    }
+
     protected final int hash;
 
     /**
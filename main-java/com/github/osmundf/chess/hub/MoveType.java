@@ -23,6 +23,18 @@ public enum MoveType {
         BASE, CAPTURE, DOUBLE_PUSH, EN_PASSANT, PROMOTION, CAPTURE_PROMOTION, CASTLE_SHORT, CASTLE_LONG
     };
 
+    /** Constant <code>basicTypes</code> for basic move types; bit: move type index */
+    private static final int basicTypes = 0xc5;
+
+    /** Constant <code>captureTypes</code> for capturing move types; bit: move type index */
+    private static final int captureTypes = 0x2a;
+
+    /** Constant <code>castlingTypes</code> for castling move types; bit: move type index */
+    private static final int castlingTypes = 0xc0;
+
+    /** Constant <code>promotionTypes</code> for promoting move types; bit: move type index */
+    private static final int promotionTypes = 0x30;
+
     /**
      * Chess move type utility method.
      *
@@ -31,13 +43,56 @@ public enum MoveType {
      */
     public static MoveType moveTypeFromIndex(int index) {
         if (index < 0 || 7 < index) {
-            Exception cause = new Exception("index: " + index);
+            if (ChessException.SHARED) {
+                throw ChessException.sharedException("chess.move.type.index.invalid");
+            }
+            ChessException cause = new ChessException("index: " + index);
             throw new ChessException("chess.move.type.index.invalid", cause);
         }
 
         return moveTypeArray[index];
     }
 
+    /**
+     * Returns true if move type index is basic (non-capture/non-promoting), false otherwise.
+     *
+     * @param index move type index (0 to 7)
+     * @return a boolean.
+     */
+    public static boolean isBasicIndex(int index) {
+        return (basicTypes >>> index & 0x1) != 0;
+    }
+
+    /**
+     * Returns true if move type index captures a piece, false otherwise.
+     *
+     * @param index move type index (0 to 7)
+     * @return a boolean.
+     */
+    public static boolean isCaptureIndex(int index) {
+        return (captureTypes >>> index & 0x1) != 0;
+    }
+
+    /**
+     * Returns true if move type index is for castling, false otherwise.
+     *
+     * @param index move type index (0 to 7)
+     * @return a boolean.
+     */
+    public static boolean isCastlingIndex(int index) {
+        return (castlingTypes >>> index & 0x1) != 0;
+    }
+
+    /**
+     * Returns true if move type index is for promotion, false otherwise.
+     *
+     * @param index move type index (0 to 7)
+     * @return a boolean.
+     */
+    public static boolean isPromotionIndex(int index) {
+        return (promotionTypes >>> index & 0x1) != 0;
+    }
+
     private final byte index;
 
     /**
@@ -55,7 +110,7 @@ public enum MoveType {
      * @return a boolean.
      */
     public boolean isBasic() {
-        return (BASE == this || DOUBLE_PUSH == this || CASTLE_SHORT == this || CASTLE_LONG == this);
+        return isBasicIndex(index);
     }
 
     /**
@@ -64,7 +119,7 @@ public enum MoveType {
      * @return a boolean.
      */
     public boolean isCapture() {
-        return (CAPTURE == this || CAPTURE_PROMOTION == this || EN_PASSANT == this);
+        return isCaptureIndex(index);
     }
 
     /**
@@ -73,7 +128,7 @@ public enum MoveType {
      * @return a boolean.
      */
     public boolean isCastling() {
-        return (CASTLE_SHORT == this || CASTLE_LONG == this);
+        return isCastlingIndex(index);
     }
 
     /**
@@ -82,7 +137,7 @@ public enum MoveType {
      * @return a boolean.
      */
     public boolean isPromotion() {
-        return (PROMOTION == this || CAPTURE_PROMOTION == this);
+        return isPromotionIndex(index);
     }
 
     /**
@@ -0,0 +1,184 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+
+import static com.github.osmundf.chess.hub.Attacks.knightDelta;
+import static com.github.osmundf.chess.hub.Attacks.rayDelta;
+import static com.github.osmundf.chess.hub.Square.translateIndex;
+
+/**
+ * <p>Chess square neighbour tables.
+ * </p>
+ * <p>Knight jumps, king steps and the squares along each of the eight ray directions, as square index lists in
+ * primitive arrays indexed by {@link Square#index()} and computed once at class load. Lists are ordered outward from
+ * the square and padded with <code>-1</code>, so callers walk neighbours without allocating or catching off-board
+ * translations.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Neighbours {
+
+    /** Constant <code>NORTH</code> for the ray direction up in rank. */
+    public static final int NORTH = 0;
+
+    /** Constant <code>NORTH_EAST</code> for the ray direction up in rank and file. */
+    public static final int NORTH_EAST = 1;
+
+    /** Constant <code>EAST</code> for the ray direction up in file. */
+    public static final int EAST = 2;
+
+    /** Constant <code>SOUTH_EAST</code> for the ray direction down in rank and up in file. */
+    public static final int SOUTH_EAST = 3;
+
+    /** Constant <code>SOUTH</code> for the ray direction down in rank. */
+    public static final int SOUTH = 4;
+
+    /** Constant <code>SOUTH_WEST</code> for the ray direction down in rank and file. */
+    public static final int SOUTH_WEST = 5;
+
+    /** Constant <code>WEST</code> for the ray direction down in file. */
+    public static final int WEST = 6;
+
+    /** Constant <code>NORTH_WEST</code> for the ray direction up in rank and down in file. */
+    public static final int NORTH_WEST = 7;
+
+    /** Knight jump squares; index: square &lt;&lt; 3 | jump */
+    private static final byte[] knightTable = new byte[512];
+
+    /** Knight jump counts; index: square */
+    private static final byte[] knightCount = new byte[64];
+
+    /** King step squares; index: square &lt;&lt; 3 | step */
+    private static final byte[] kingTable = new byte[512];
+
+    /** King step counts; index: square */
+    private static final byte[] kingCount = new byte[64];
+
+    /** Ray squares; index: direction &lt;&lt; 9 | square &lt;&lt; 3 | distance - 1 */
+    private static final byte[] rayTable = new byte[4096];
+
+    /** Ray lengths; index: direction &lt;&lt; 6 | square */
+    private static final byte[] rayLength = new byte[512];
+
+    static {
+        Arrays.fill(knightTable, (byte) -1);
+        Arrays.fill(kingTable, (byte) -1);
+        Arrays.fill(rayTable, (byte) -1);
+
+        for (int square = 0; square < 64; square++) {
+            for (int[] delta : knightDelta) {
+                int target = translateIndex(square, delta[0], delta[1]);
+                if (target >= 0) {
+                    knightTable[square << 3 | knightCount[square]++] = (byte) target;
+                }
+            }
+            for (int direction = 0; direction < 8; direction++) {
+                int target = translateIndex(square, rayDelta[direction][0], rayDelta[direction][1]);
+                if (target >= 0) {
+                    kingTable[square << 3 | kingCount[square]++] = (byte) target;
+                }
+                int length = 0;
+                while (target >= 0) {
+                    rayTable[direction << 9 | square << 3 | length++] = (byte) target;
+                    target = translateIndex(target, rayDelta[direction][0], rayDelta[direction][1]);
+                }
+                rayLength[direction << 6 | square] = (byte) length;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of knight jumps from square.
+     *
+     * @param square square index
+     * @return knight jump count (2 to 8)
+     */
+    public static int knightCount(int square) {
+        return knightCount[square];
+    }
+
+    /**
+     * Returns knight jump square.
+     *
+     * @param square square index
+     * @param jump   jump index (0 to 7)
+     * @return target square index, or <code>-1</code> past the last jump
+     */
+    public static int knightSquare(int square, int jump) {
+        return knightTable[square << 3 | jump];
+    }
+
+    /**
+     * Returns the number of king steps from square.
+     *
+     * @param square square index
+     * @return king step count (3 to 8)
+     */
+    public static int kingCount(int square) {
+        return kingCount[square];
+    }
+
+    /**
+     * Returns king step square.
+     *
+     * @param square square index
+     * @param step   step index (0 to 7)
+     * @return target square index, or <code>-1</code> past the last step
+     */
+    public static int kingSquare(int square, int step) {
+        return kingTable[square << 3 | step];
+    }
+
+    /**
+     * Returns the number of squares along a ray to the board edge.
+     *
+     * @param direction ray direction ({@link #NORTH} to {@link #NORTH_WEST})
+     * @param square    square index
+     * @return ray length (0 to 7)
+     */
+    public static int rayLength(int direction, int square) {
+        return rayLength[direction << 6 | square];
+    }
+
+    /**
+     * Returns the square at distance along a ray.
+     *
+     * @param direction ray direction ({@link #NORTH} to {@link #NORTH_WEST})
+     * @param square    square index
+     * @param distance  distance in squares (1 to 7)
+     * @return square index, or <code>-1</code> past the board edge
+     */
+    public static int raySquare(int direction, int square, int distance) {
+        return rayTable[direction << 9 | square << 3 | distance - 1];
+    }
+
+    /**
+     * Returns the adjacent square in a ray direction.
+     *
+     * @param direction ray direction ({@link #NORTH} to {@link #NORTH_WEST})
+     * @param square    square index
+     * @return adjacent square index, or <code>-1</code> at the board edge
+     */
+    public static int neighbour(int direction, int square) {
+        return rayTable[direction << 9 | square << 3];
+    }
+
+    /**
+     * Returns the opposite ray direction.
+     *
+     * @param direction ray direction ({@link #NORTH} to {@link #NORTH_WEST})
+     * @return opposite ray direction
+     */
+    public static int opposite(int direction) {
+        return direction + 4 & 0x7;
+    }
+
+    /**
+     * Neighbours constructor (private).
+     */
+    private Neighbours() {
+    }
+}
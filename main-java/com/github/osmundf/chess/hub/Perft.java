@@ -0,0 +1,296 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static com.github.osmundf.chess.hub.Move.moveFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+
+/**
+ * <p>Chess perft (performance test) driver.
+ * </p>
+ * <p>Counts the leaf nodes of the legal move tree to a given depth using packed move hashes and make/unmake on a
+ * copy of the position. The last ply is bulk counted from the size of the generated move list. Parallel counts split
+ * the top of the tree into fork/join tasks, each working on its own position copy. An optional {@link PerftTable}
+ * caches subtree counts so transposed subtrees are counted once.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Perft {
+
+    /** Constant <code>SPLIT_DEPTH</code> for remaining depth at which a second tree level is split. */
+    static final int SPLIT_DEPTH = 6;
+
+    /**
+     * Returns leaf node count of legal move tree.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @return leaf node count
+     */
+    public static long count(Position position, int depth) {
+        checkArguments(position, depth);
+        return count(position.copy(), depth, new int[MAX_MOVES * Math.max(depth, 1)], 0);
+    }
+
+    /**
+     * Returns leaf node count of legal move tree, splitting the work across the pool.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @param pool     fork/join pool
+     * @return leaf node count
+     */
+    public static long count(Position position, int depth, ForkJoinPool pool) {
+        checkArguments(position, depth);
+        Objects.requireNonNull(pool, "chess.perft.pool.null");
+        return pool.invoke(new PerftTask(position.copy(), depth, splitFor(depth), null));
+    }
+
+    /**
+     * Returns leaf node count of legal move tree, caching subtree counts in the table.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @param table    perft hash table
+     * @return leaf node count
+     */
+    public static long count(Position position, int depth, PerftTable table) {
+        checkArguments(position, depth);
+        Objects.requireNonNull(table, "chess.perft.table.null");
+        return count(position.copy(), depth, new int[MAX_MOVES * Math.max(depth, 1)], 0, table);
+    }
+
+    /**
+     * Returns leaf node count of legal move tree, splitting the work across the pool and caching subtree counts in
+     * the shared table.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @param pool     fork/join pool
+     * @param table    perft hash table
+     * @return leaf node count
+     */
+    public static long count(Position position, int depth, ForkJoinPool pool, PerftTable table) {
+        checkArguments(position, depth);
+        Objects.requireNonNull(pool, "chess.perft.pool.null");
+        Objects.requireNonNull(table, "chess.perft.table.null");
+        return pool.invoke(new PerftTask(position.copy(), depth, splitFor(depth), table));
+    }
+
+    /**
+     * Returns leaf node count below each legal root move, in generation order.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies, including the root move
+     * @return leaf node count by root move
+     */
+    public static Map<Move, Long> divide(Position position, int depth) {
+        checkDivideArguments(position, depth);
+        Position board = position.copy();
+        int[] buffer = new int[MAX_MOVES * depth];
+        int moveCount = legalMoves(board, buffer);
+
+        Map<Move, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < moveCount; i++) {
+            board.makeMove(buffer[i]);
+            result.put(moveFor(buffer[i]), count(board, depth - 1, buffer, moveCount));
+            board.unmakeMove();
+        }
+        return result;
+    }
+
+    /**
+     * Returns leaf node count below each legal root move, in generation order, splitting the work across the pool.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies, including the root move
+     * @param pool     fork/join pool
+     * @return leaf node count by root move
+     */
+    public static Map<Move, Long> divide(Position position, int depth, ForkJoinPool pool) {
+        checkDivideArguments(position, depth);
+        Objects.requireNonNull(pool, "chess.perft.pool.null");
+        int[] moves = new int[MAX_MOVES];
+        int moveCount = legalMoves(position, moves);
+
+        PerftTask[] tasks = new PerftTask[moveCount];
+        for (int i = 0; i < moveCount; i++) {
+            Position board = position.copy();
+            board.makeMove(moves[i]);
+            tasks[i] = new PerftTask(board, depth - 1, splitFor(depth) - 1, null);
+            pool.execute(tasks[i]);
+        }
+
+        Map<Move, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < moveCount; i++) {
+            result.put(moveFor(moves[i]), tasks[i].join());
+        }
+        return result;
+    }
+
+    /**
+     * Returns leaf node count of legal move tree, making and unmaking moves in place.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @param buffer   move buffer with space for {@link MoveGenerator#MAX_MOVES} moves per remaining ply
+     * @param offset   buffer offset for this ply
+     * @return leaf node count
+     */
+    static long count(Position position, int depth, int[] buffer, int offset) {
+        if (depth == 0) {
+            return 1L;
+        }
+        int moveCount = legalMoves(position, buffer, offset);
+        if (depth == 1) {
+            return moveCount;
+        }
+
+        long nodes = 0L;
+        int end = offset + moveCount;
+        for (int i = offset; i < end; i++) {
+            position.makeMove(buffer[i]);
+            nodes += count(position, depth - 1, buffer, end);
+            position.unmakeMove();
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns leaf node count of legal move tree, making and unmaking moves in place and caching subtree counts of
+     * depth two and more in the table.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     * @param buffer   move buffer with space for {@link MoveGenerator#MAX_MOVES} moves per remaining ply
+     * @param offset   buffer offset for this ply
+     * @param table    perft hash table
+     * @return leaf node count
+     */
+    static long count(Position position, int depth, int[] buffer, int offset, PerftTable table) {
+        if (depth < 2) {
+            return count(position, depth, buffer, offset);
+        }
+        long key = position.key();
+        long nodes = table.probe(key, depth);
+        if (nodes >= 0L) {
+            return nodes;
+        }
+
+        nodes = 0L;
+        int end = offset + legalMoves(position, buffer, offset);
+        for (int i = offset; i < end; i++) {
+            position.makeMove(buffer[i]);
+            nodes += count(position, depth - 1, buffer, end, table);
+            position.unmakeMove();
+        }
+        table.store(key, depth, nodes);
+        return nodes;
+    }
+
+    /**
+     * Returns number of tree levels to split into tasks.
+     *
+     * @param depth tree depth in plies
+     * @return number of levels to split
+     */
+    private static int splitFor(int depth) {
+        return depth >= SPLIT_DEPTH ? 2 : 1;
+    }
+
+    /**
+     * Checks perft arguments.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     */
+    private static void checkArguments(Position position, int depth) {
+        Objects.requireNonNull(position, "chess.perft.position.null");
+        if (depth < 0) {
+            ChessException cause = new ChessException("depth: " + depth);
+            throw new ChessException("chess.perft.depth.invalid", cause);
+        }
+    }
+
+    /**
+     * Checks divide arguments.
+     *
+     * @param position chess position
+     * @param depth    tree depth in plies
+     */
+    private static void checkDivideArguments(Position position, int depth) {
+        Objects.requireNonNull(position, "chess.perft.position.null");
+        if (depth < 1) {
+            ChessException cause = new ChessException("depth: " + depth);
+            throw new ChessException("chess.perft.depth.invalid", cause);
+        }
+    }
+
+    /**
+     * Perft constructor (private).
+     */
+    private Perft() {
+    }
+
+    /**
+     * Perft fork/join task owning its position.
+     */
+    private static final class PerftTask extends RecursiveTask<Long> {
+
+        private final Position position;
+
+        private final int depth;
+
+        private final int split;
+
+        private final PerftTable table;
+
+        /**
+         * Perft task constructor.
+         *
+         * @param position position owned by the task
+         * @param depth    tree depth in plies
+         * @param split    number of tree levels to split into sub-tasks
+         * @param table    shared perft hash table, or <code>null</code>
+         */
+        PerftTask(Position position, int depth, int split, PerftTable table) {
+            this.position = position;
+            this.depth = depth;
+            this.split = split;
+            this.table = table;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Long compute() {
+            if (split <= 0 || depth <= 1) {
+                int[] buffer = new int[MAX_MOVES * Math.max(depth, 1)];
+                return table == null ? count(position, depth, buffer, 0) : count(position, depth, buffer, 0, table);
+            }
+
+            int[] moves = new int[MAX_MOVES];
+            int moveCount = legalMoves(position, moves);
+            PerftTask[] tasks = new PerftTask[moveCount];
+            for (int i = 0; i < moveCount; i++) {
+                Position board = position.copy();
+                board.makeMove(moves[i]);
+                tasks[i] = new PerftTask(board, depth - 1, split - 1, table);
+            }
+            invokeAll(tasks);
+
+            long nodes = 0L;
+            for (PerftTask task : tasks) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+}
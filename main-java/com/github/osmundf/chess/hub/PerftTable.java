@@ -0,0 +1,179 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Chess perft hash table.
+ * </p>
+ * <p>Caches subtree leaf node counts by position key and remaining depth. Each entry is a pair of longs holding the
+ * checked key (position key XOR data) and the data (count[8..63] depth[0..7]), so the table is shared between
+ * threads without locks: a torn or overwritten entry fails the key check and is treated as a miss. Entries are
+ * always replaced on store.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PerftTable {
+
+    /** Constant <code>MAX_MEGABYTES</code> for the largest table size. */
+    public static final int MAX_MEGABYTES = 8192;
+
+    /** Constant <code>ENTRY_BYTES</code> for the size of an entry. */
+    static final int ENTRY_BYTES = 16;
+
+    /** Constant <code>depthMix</code> for spreading depth into the position key. */
+    private static final long depthMix = 0x9e3779b97f4a7c15L;
+
+    /** Constant <code>maxCount</code> for the largest count stored. */
+    private static final long maxCount = (1L << 56) - 1;
+
+    /**
+     * Chess perft table factory method.
+     *
+     * @param megabytes table size in megabytes (1 to {@link #MAX_MEGABYTES})
+     * @return new instance of perft table
+     */
+    public static PerftTable perftTableFor(int megabytes) {
+        if (megabytes < 1 || MAX_MEGABYTES < megabytes) {
+            ChessException cause = new ChessException("megabytes: " + megabytes);
+            throw new ChessException("chess.perft.table.size.invalid", cause);
+        }
+        long entries = Long.highestOneBit(((long) megabytes << 20) / ENTRY_BYTES);
+        return new PerftTable((int) entries);
+    }
+
+    /** Entry pairs; index: slot * 2, value: checked key, data */
+    private final long[] table;
+
+    private final int mask;
+
+    private final LongAdder probes;
+
+    private final LongAdder hits;
+
+    private final LongAdder stores;
+
+    /**
+     * Perft table constructor (private).
+     *
+     * @param entries entry count (power of two)
+     */
+    private PerftTable(int entries) {
+        this.table = new long[entries << 1];
+        this.mask = entries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+        this.stores = new LongAdder();
+    }
+
+    /**
+     * Returns cached leaf node count, or <code>-1</code> when absent.
+     *
+     * @param key   position key
+     * @param depth remaining depth in plies
+     * @return leaf node count or <code>-1</code>
+     */
+    long probe(long key, int depth) {
+        probes.increment();
+        long hash = key + depth * depthMix;
+        int slot = (int) hash & mask;
+        long check = table[slot << 1];
+        long data = table[slot << 1 | 1];
+        if ((check ^ data) != hash || (data & 0xff) != depth) {
+            return -1L;
+        }
+        hits.increment();
+        return data >>> 8;
+    }
+
+    /**
+     * Stores leaf node count, replacing the slot entry.
+     *
+     * @param key   position key
+     * @param depth remaining depth in plies
+     * @param count leaf node count
+     */
+    void store(long key, int depth, long count) {
+        if (count > maxCount || depth > 0xff) {
+            return;
+        }
+        long hash = key + depth * depthMix;
+        int slot = (int) hash & mask;
+        long data = count << 8 | depth;
+        table[slot << 1] = hash ^ data;
+        table[slot << 1 | 1] = data;
+        stores.increment();
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of probes since creation or last clear.
+     *
+     * @return probe count
+     */
+    public long probes() {
+        return probes.sum();
+    }
+
+    /**
+     * Returns the number of probe hits since creation or last clear.
+     *
+     * @return hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of stores since creation or last clear.
+     *
+     * @return store count
+     */
+    public long stores() {
+        return stores.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to probes, or zero before the first probe.
+     *
+     * @return hit rate
+     */
+    public double hitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0L ? 0.0 : (double) hits.sum() / probeCount;
+    }
+
+    /**
+     * Clears all entries and statistics (not thread safe).
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        probes.reset();
+        hits.reset();
+        stores.reset();
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.PerftTable} by its statistics.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        String template = "PerftTable(%d, probes: %d, hits: %d, stores: %d)";
+        return format(template, capacity(), probes(), hits(), stores());
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Chess PGN game.
+ * </p>
+ * <p>A game holds its tag pairs in file order, the SAN tokens of its main line and its result. Moves are resolved on
+ * request by replaying the tokens with {@link San} from the start position (the <code>FEN</code> tag when present),
+ * so a reader can hand games to other threads before any move generation is done.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PgnGame {
+
+    /** Constant <code>UNKNOWN_RESULT</code> for a game without a result. */
+    public static final String UNKNOWN_RESULT = "*";
+
+    /**
+     * Chess PGN game factory method (package-private).
+     *
+     * @param tags   tag pairs, in file order
+     * @param tokens SAN tokens of main line
+     * @param result game result
+     * @return new instance of PGN game
+     */
+    static PgnGame pgnGameFor(Map<String, String> tags, List<String> tokens, String result) {
+        return new PgnGame(Collections.unmodifiableMap(tags), Collections.unmodifiableList(tokens), result);
+    }
+
+    /** Tag pairs, in file order. */
+    private final Map<String, String> tags;
+
+    /** SAN tokens of main line. */
+    private final List<String> tokens;
+
+    /** Game result. */
+    private final String result;
+
+    /**
+     * PGN game constructor (private).
+     *
+     * @param tags   tag pairs
+     * @param tokens SAN tokens
+     * @param result game result
+     */
+    private PgnGame(Map<String, String> tags, List<String> tokens, String result) {
+        this.tags = tags;
+        this.tokens = tokens;
+        this.result = result;
+    }
+
+    /**
+     * Returns tag pairs, in file order.
+     *
+     * @return unmodifiable map of tag names to values
+     */
+    public Map<String, String> tags() {
+        return tags;
+    }
+
+    /**
+     * Returns tag value.
+     *
+     * @param name tag name
+     * @return tag value, or null if game has no such tag
+     */
+    public String tag(String name) {
+        return tags.get(name);
+    }
+
+    /**
+     * Returns the SAN tokens of the main line.
+     *
+     * @return unmodifiable list of SAN tokens
+     */
+    public List<String> tokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns game result (<code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code> or {@link #UNKNOWN_RESULT}).
+     *
+     * @return game result
+     */
+    public String result() {
+        return result;
+    }
+
+    /**
+     * Returns new start position (the <code>FEN</code> tag, or the initial position).
+     *
+     * @return new instance of start position
+     */
+    public Position startPosition() {
+        String fen = tags.get("FEN");
+        return fen == null ? Position.initialPosition() : Fen.positionFor(fen);
+    }
+
+    /**
+     * Returns the move hashes of the main line.
+     *
+     * @return move hashes, one for each SAN token
+     */
+    public int[] moves() {
+        Position position = startPosition();
+        San san = San.sanFor();
+        int[] hashes = new int[tokens.size()];
+        for (int ply = 0; ply < hashes.length; ply++) {
+            int hash = san.resolve(position, tokens.get(ply));
+            if (hash == 0) {
+                ChessException cause = new ChessException("ply: " + ply + " san: " + tokens.get(ply));
+                throw new ChessException("chess.pgn.move.invalid", cause);
+            }
+            hashes[ply] = hash;
+            position.makeMove(hash);
+        }
+        return hashes;
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.PgnGame} by its tags and moves.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        return "PgnGame(" + tags + ", " + String.join(" ", tokens) + " " + result + ")";
+    }
+}
@@ -0,0 +1,401 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Chess PGN reader.
+ * </p>
+ * <p>Reads games one at a time from a channel through a single reusable byte buffer of {@link #BUFFER_BYTES}, so an
+ * archive is never held in memory beyond the game being read. Bytes are read as ISO-8859-1, the PGN character set.
+ * Tag pairs, main line SAN tokens and the result are kept; comments, variations, NAGs, move numbers and
+ * <code>%</code> escape lines are skipped. Moves are resolved later by {@link PgnGame#moves()}.
+ * </p>
+ * <p>The reader is a {@link Spliterator} of games. Splitting reads the next batch of games into an array, in batches
+ * growing by {@link #BATCH_INCREMENT} games, so a parallel stream parses sequentially but resolves moves and consumes
+ * games on many threads. Read errors are thrown as {@link ChessException} with the {@link IOException} as cause.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PgnReader implements Spliterator<PgnGame> {
+
+    /** Constant <code>BUFFER_BYTES</code> for the size of the read buffer. */
+    public static final int BUFFER_BYTES = 1 << 16;
+
+    /** Constant <code>BATCH_INCREMENT</code> for the growth in games of each split batch. */
+    public static final int BATCH_INCREMENT = 1 << 8;
+
+    /** Constant <code>maxBatch</code> for the largest split batch. */
+    private static final int maxBatch = 1 << 16;
+
+    /**
+     * Chess PGN reader factory method.
+     *
+     * @param input PGN input, left open
+     * @return new instance of PGN reader
+     */
+    public static PgnReader pgnReaderFor(InputStream input) {
+        Objects.requireNonNull(input, "chess.pgn.input.null");
+        return new PgnReader(Channels.newChannel(input));
+    }
+
+    /**
+     * Chess PGN reader factory method.
+     *
+     * @param channel PGN channel, left open
+     * @return new instance of PGN reader
+     */
+    public static PgnReader pgnReaderFor(ReadableByteChannel channel) {
+        Objects.requireNonNull(channel, "chess.pgn.channel.null");
+        return new PgnReader(channel);
+    }
+
+    /** PGN channel. */
+    private final ReadableByteChannel channel;
+
+    /** Read buffer, reused for each read. */
+    private final ByteBuffer buffer;
+
+    /** Token text, reused for each token. */
+    private final StringBuilder text;
+
+    /** Pushed back character, or -2 if none. */
+    private int pushback;
+
+    /** Previous character read. */
+    private int previous;
+
+    /** Column of the last character read. */
+    private int column;
+
+    /** Size of the last split batch. */
+    private int batch;
+
+    /**
+     * PGN reader constructor (private).
+     *
+     * @param channel PGN channel
+     */
+    private PgnReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        this.buffer.flip();
+        this.text = new StringBuilder();
+        this.pushback = -2;
+        this.previous = '\n';
+    }
+
+    /**
+     * Returns a stream of the remaining games.
+     *
+     * @param parallel true for a parallel stream, false for a sequential stream
+     * @return stream of games
+     */
+    public Stream<PgnGame> stream(boolean parallel) {
+        return StreamSupport.stream(this, parallel);
+    }
+
+    /**
+     * Reads the next game.
+     *
+     * @return next game, or null at end of input
+     * @throws IOException on read error
+     */
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<String> tokens = new ArrayList<>();
+        String result = null;
+
+        for (int c = read(); c != -1; c = read()) {
+            if (c == '%' && column == 0) {
+                skipUntil('\n');
+            }
+            else if (c == '[') {
+                if (!tokens.isEmpty()) {
+                    pushback = c;
+                    break;
+                }
+                readTag(tags);
+            }
+            else if (c == '{') {
+                skipUntil('}');
+            }
+            else if (c == ';') {
+                skipUntil('\n');
+            }
+            else if (c == '(') {
+                skipVariation();
+            }
+            else if ("])}".indexOf(c) < 0 && !isWhitespace(c)) {
+                String token = readToken(c);
+                if (isResult(token)) {
+                    result = token;
+                    break;
+                }
+                token = stripMoveNumber(token);
+                if (!token.isEmpty() && token.charAt(0) != '$' && !token.equals("e.p.")) {
+                    tokens.add(token);
+                }
+            }
+        }
+
+        if (tags.isEmpty() && tokens.isEmpty() && result == null) {
+            return null;
+        }
+        if (result == null) {
+            result = tags.getOrDefault("Result", PgnGame.UNKNOWN_RESULT);
+        }
+        return PgnGame.pgnGameFor(tags, tokens, result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super PgnGame> action) {
+        Objects.requireNonNull(action, "chess.pgn.action.null");
+        PgnGame game = nextGame();
+        if (game == null) {
+            return false;
+        }
+        action.accept(game);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super PgnGame> action) {
+        Objects.requireNonNull(action, "chess.pgn.action.null");
+        for (PgnGame game = nextGame(); game != null; game = nextGame()) {
+            action.accept(game);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spliterator<PgnGame> trySplit() {
+        int size = Math.min(batch + BATCH_INCREMENT, maxBatch);
+        PgnGame[] games = new PgnGame[size];
+        int count = 0;
+        for (PgnGame game; count < size && (game = nextGame()) != null; ) {
+            games[count++] = game;
+        }
+        if (count == 0) {
+            return null;
+        }
+        batch = count;
+        return Spliterators.spliterator(games, 0, count, characteristics());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Reads the next game, wrapping read errors.
+     *
+     * @return next game, or null at end of input
+     */
+    private PgnGame nextGame() {
+        try {
+            return next();
+        }
+        catch (IOException e) {
+            throw new ChessException("chess.pgn.read.failed", e);
+        }
+    }
+
+    /**
+     * Reads a tag pair after its opening bracket.
+     *
+     * @param tags tag pairs
+     * @throws IOException on read error
+     */
+    private void readTag(Map<String, String> tags) throws IOException {
+        text.setLength(0);
+        int c = read();
+        while (c != -1 && isWhitespace(c)) {
+            c = read();
+        }
+        while (c != -1 && c != '"' && c != ']' && !isWhitespace(c)) {
+            text.append((char) c);
+            c = read();
+        }
+        String name = text.toString();
+        while (c != -1 && c != '"' && c != ']') {
+            c = read();
+        }
+        text.setLength(0);
+        if (c == '"') {
+            for (c = read(); c != -1 && c != '"'; c = read()) {
+                if (c == '\\') {
+                    c = read();
+                }
+                if (c != -1) {
+                    text.append((char) c);
+                }
+            }
+            skipUntil(']');
+        }
+        if (!name.isEmpty()) {
+            tags.put(name, text.toString());
+        }
+    }
+
+    /**
+     * Reads a movetext token starting with character.
+     *
+     * @param c first character
+     * @return token text
+     * @throws IOException on read error
+     */
+    private String readToken(int c) throws IOException {
+        text.setLength(0);
+        while (c != -1 && !isWhitespace(c) && "[]{}();".indexOf(c) < 0) {
+            text.append((char) c);
+            c = read();
+        }
+        if (c != -1) {
+            pushback = c;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Skips a variation and its nested variations and comments, after the opening parenthesis.
+     *
+     * @throws IOException on read error
+     */
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        for (int c = read(); c != -1; c = read()) {
+            if (c == '{') {
+                skipUntil('}');
+            }
+            else if (c == ';') {
+                skipUntil('\n');
+            }
+            else if (c == '(') {
+                depth++;
+            }
+            else if (c == ')' && --depth == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips input up to and including end character.
+     *
+     * @param end end character
+     * @throws IOException on read error
+     */
+    private void skipUntil(char end) throws IOException {
+        int c = read();
+        while (c != -1 && c != end) {
+            c = read();
+        }
+    }
+
+    /**
+     * Reads the next character.
+     *
+     * @return character (0 to 255), or -1 at end of input
+     * @throws IOException on read error
+     */
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int count = 0;
+            while (count == 0) {
+                count = channel.read(buffer);
+            }
+            buffer.flip();
+            if (count < 0) {
+                return -1;
+            }
+        }
+        int c = buffer.get() & 0xff;
+        column = previous == '\n' ? 0 : column + 1;
+        previous = c;
+        return c;
+    }
+
+    /**
+     * Returns true if character is PGN whitespace, false otherwise.
+     *
+     * @param c character
+     * @return a boolean.
+     */
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0xa0;
+    }
+
+    /**
+     * Returns true if token is a game result, false otherwise.
+     *
+     * @param token movetext token
+     * @return a boolean.
+     */
+    private static boolean isResult(String token) {
+        return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2")
+            || token.equals(PgnGame.UNKNOWN_RESULT);
+    }
+
+    /**
+     * Returns token without a leading move number (<code>12.</code> or <code>12...</code>).
+     *
+     * @param token movetext token
+     * @return token text after move number
+     */
+    private static String stripMoveNumber(String token) {
+        int i = 0;
+        while (i < token.length() && Character.isDigit(token.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == token.length() || token.charAt(i) != '.') {
+            return i == token.length() ? "" : token;
+        }
+        while (i < token.length() && token.charAt(i) == '.') {
+            i++;
+        }
+        return token.substring(i);
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.osmundf.chess.hub;
 
 import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Side.BLACK;
 import static com.github.osmundf.chess.hub.Side.NO_SIDE;
+import static com.github.osmundf.chess.hub.Side.WHITE;
 
 /**
  * Chess piece.
@@ -44,6 +46,65 @@ public class Piece {
         return new Piece(side, caste, square);
     }
 
+    /**
+     * Returns packed piece code, as returned by {@link #hashCode()}: side[9..10] caste[6..8] square[0..5].
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param square square index
+     * @return piece code
+     */
+    public static int encode(int side, int caste, int square) {
+        return side << 9 | caste << 6 | square;
+    }
+
+    /**
+     * Returns side index of piece code.
+     *
+     * @param code piece code
+     * @return side index
+     */
+    public static int sideOf(int code) {
+        return code >> 9 & 0x3;
+    }
+
+    /**
+     * Returns caste index of piece code.
+     *
+     * @param code piece code
+     * @return caste index
+     */
+    public static int casteOf(int code) {
+        return code >> 6 & 0x7;
+    }
+
+    /**
+     * Returns square index of piece code.
+     *
+     * @param code piece code
+     * @return square index
+     */
+    public static int squareOf(int code) {
+        return code & 0x3f;
+    }
+
+    /**
+     * Chess piece factory method.
+     *
+     * @param code piece code
+     * @return new instance of chess piece for code
+     */
+    public static Piece decode(int code) {
+        if ((code & ~0x7ff) != 0 || sideOf(code) == 0x3 || casteOf(code) == 0x7) {
+            ChessException cause = new ChessException("code: " + code);
+            throw new ChessException("chess.piece.code.invalid", cause);
+        }
+        Side side = sideOf(code) == WHITE.index() ? WHITE : sideOf(code) == BLACK.index() ? BLACK : NO_SIDE;
+        Caste caste = Caste.casteFromIndex(casteOf(code));
+        Square square = Square.squareFromIndex((byte) squareOf(code));
+        return pieceFor(side, caste, square);
+    }
+
     private final Side side;
 
     private final Caste caste;
@@ -94,10 +155,7 @@ public class Piece {
     @Override
     public int hashCode() {
         // side[ss] caste[ccc] rank[rrr] file[fff]
-        int result = side.index() << 9;
-        result |= (caste.index() << 6);
-        result |= square.index();
-        return result;
+        return encode(side.index(), caste.index(), square.index());
     }
 
     /** {@inheritDoc} */
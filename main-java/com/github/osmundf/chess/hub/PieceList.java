@@ -0,0 +1,199 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.Piece.encode;
+import static com.github.osmundf.chess.hub.Position.boardIndex;
+
+/**
+ * <p>Chess piece list.
+ * </p>
+ * <p>Tracks the pieces of each side by caste as packed piece codes (see {@link Piece#encode(int, int, int)}) in a
+ * single <code>short[]</code>, one slice of {@link #LIST_CAPACITY} entries for each side and caste. A square table
+ * records each piece's position within its slice, so add, remove and move are constant time: a removed piece is
+ * replaced by the last piece of its slice, which changes the iteration order of that slice.
+ * </p>
+ * <p>The list does not validate that a square is occupied or empty; callers keep it in step with the board.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PieceList {
+
+    /** Constant <code>LIST_CAPACITY</code> for the largest number of pieces of one side and caste. */
+    public static final int LIST_CAPACITY = 16;
+
+    /**
+     * Chess piece list factory method.
+     *
+     * @return new instance of empty piece list
+     */
+    public static PieceList pieceList() {
+        return new PieceList();
+    }
+
+    /**
+     * Chess piece list factory method.
+     *
+     * @param position chess position
+     * @return new instance of piece list with the pieces of position
+     */
+    public static PieceList pieceListFor(Position position) {
+        Objects.requireNonNull(position, "chess.piece.list.position.null");
+        PieceList pieceList = new PieceList();
+        for (int square = 0; square < 64; square++) {
+            int code = position.squares[square];
+            if (code != 0) {
+                pieceList.add(code >> 3, code & 0x7, square);
+            }
+        }
+        return pieceList;
+    }
+
+    /** Piece codes; index: board index &lt;&lt; 4 | slot */
+    private final short[] pieces;
+
+    /** Piece counts; index: board index */
+    private final byte[] counts;
+
+    /** Piece slots; index: square */
+    private final byte[] slots;
+
+    /**
+     * Piece list constructor (private).
+     */
+    private PieceList() {
+        this.pieces = new short[12 * LIST_CAPACITY];
+        this.counts = new byte[12];
+        this.slots = new byte[64];
+    }
+
+    /**
+     * Adds piece on square.
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param square square index
+     */
+    public void add(int side, int caste, int square) {
+        int board = boardIndex(side, caste);
+        int slot = counts[board];
+        if (slot == LIST_CAPACITY) {
+            ChessException cause = new ChessException("side: " + side + " caste: " + caste);
+            throw new ChessException("chess.piece.list.full", cause);
+        }
+        pieces[board << 4 | slot] = (short) encode(side, caste, square);
+        slots[square] = (byte) slot;
+        counts[board] = (byte) (slot + 1);
+    }
+
+    /**
+     * Removes piece from square.
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param square square index
+     */
+    public void remove(int side, int caste, int square) {
+        int board = boardIndex(side, caste);
+        int last = counts[board] - 1;
+        int code = pieces[board << 4 | last];
+        int slot = slots[square];
+        pieces[board << 4 | slot] = (short) code;
+        slots[code & 0x3f] = (byte) slot;
+        counts[board] = (byte) last;
+    }
+
+    /**
+     * Moves piece between squares.
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param from   from square index
+     * @param to     to square index
+     */
+    public void move(int side, int caste, int from, int to) {
+        int slot = slots[from];
+        pieces[boardIndex(side, caste) << 4 | slot] = (short) encode(side, caste, to);
+        slots[to] = (byte) slot;
+    }
+
+    /**
+     * Returns the number of pieces of side and caste.
+     *
+     * @param side  side index
+     * @param caste caste index
+     * @return piece count
+     */
+    public int count(int side, int caste) {
+        return counts[boardIndex(side, caste)];
+    }
+
+    /**
+     * Returns piece code of side and caste by slot.
+     *
+     * @param side  side index
+     * @param caste caste index
+     * @param slot  slot index (0 to count - 1)
+     * @return piece code
+     */
+    public int code(int side, int caste, int slot) {
+        return pieces[boardIndex(side, caste) << 4 | slot];
+    }
+
+    /**
+     * Returns piece square of side and caste by slot.
+     *
+     * @param side  side index
+     * @param caste caste index
+     * @param slot  slot index (0 to count - 1)
+     * @return square index
+     */
+    public int square(int side, int caste, int slot) {
+        return pieces[boardIndex(side, caste) << 4 | slot] & 0x3f;
+    }
+
+    /**
+     * Returns the number of pieces of side.
+     *
+     * @param side side index
+     * @return piece count
+     */
+    public int count(int side) {
+        int board = boardIndex(side, Caste.PAWN.index());
+        int count = 0;
+        for (int i = board; i < board + 6; i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Removes all pieces.
+     */
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.PieceList} by its pieces.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PieceList(");
+        for (int board = 0; board < 12; board++) {
+            for (int slot = 0; slot < counts[board]; slot++) {
+                if (builder.length() > 10) {
+                    builder.append(", ");
+                }
+                builder.append(Piece.decode(pieces[board << 4 | slot]));
+            }
+        }
+        return builder.append(')').toString();
+    }
+}
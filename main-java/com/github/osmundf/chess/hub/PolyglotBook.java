@@ -0,0 +1,149 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.MappedSegments.mappedSegmentsFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+
+/**
+ * <p>Chess Polyglot opening book.
+ * </p>
+ * <p>The book file is memory-mapped read-only in segments of 1 GiB, so opening a book reads no
+ * entries and a multi-gigabyte book costs no heap; pages are loaded by the operating system as lookups touch them.
+ * Entries are 16 bytes, big-endian: key (8), move (2), weight (2) and learn (4), sorted by unsigned key. A lookup
+ * binary-searches the mapped entries for the first entry of a key (see {@link Polyglot#keyFor(Position)}).
+ * </p>
+ * <p>Reads use absolute buffer offsets only, so a book may be shared between threads.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PolyglotBook {
+
+    /** Constant <code>ENTRY_BYTES</code> for the size of a book entry. */
+    public static final int ENTRY_BYTES = 16;
+
+    /**
+     * Chess Polyglot book factory method.
+     *
+     * @param path book file path
+     * @return new instance of Polyglot book mapped from path
+     * @throws IOException on read error or invalid book length
+     */
+    public static PolyglotBook polyglotBookFor(Path path) throws IOException {
+        Objects.requireNonNull(path, "chess.polyglot.book.path.null");
+
+        MappedSegments segments = mappedSegmentsFor(path);
+        if (segments.size() % ENTRY_BYTES != 0) {
+            throw new IOException("chess.polyglot.book.length.invalid");
+        }
+        return new PolyglotBook(segments, segments.size() / ENTRY_BYTES);
+    }
+
+    /** Mapped book file. */
+    private final MappedSegments segments;
+
+    /** Number of entries. */
+    private final long entries;
+
+    /**
+     * Polyglot book constructor (private).
+     *
+     * @param segments mapped book file
+     * @param entries  number of entries
+     */
+    private PolyglotBook(MappedSegments segments, long entries) {
+        this.segments = segments;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the number of book entries.
+     *
+     * @return entry count
+     */
+    public long entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the index of the first entry for key.
+     *
+     * @param key Polyglot key
+     * @return entry index, or -1 if book has no entry for key
+     */
+    public long find(long key) {
+        return segments.find(key, ENTRY_BYTES);
+    }
+
+    /**
+     * Returns entry key.
+     *
+     * @param index entry index (0 to entries - 1)
+     * @return Polyglot key
+     */
+    public long key(long index) {
+        return segments.getLong(index * ENTRY_BYTES);
+    }
+
+    /**
+     * Returns entry move.
+     *
+     * @param index entry index (0 to entries - 1)
+     * @return Polyglot book move (see {@link Polyglot})
+     */
+    public int move(long index) {
+        return segments.getShort(index * ENTRY_BYTES + 8);
+    }
+
+    /**
+     * Returns entry weight.
+     *
+     * @param index entry index (0 to entries - 1)
+     * @return weight (0 to 65535)
+     */
+    public int weight(long index) {
+        return segments.getShort(index * ENTRY_BYTES + 10);
+    }
+
+    /**
+     * Returns entry learn value.
+     *
+     * @param index entry index (0 to entries - 1)
+     * @return learn value
+     */
+    public int learn(long index) {
+        return segments.getInt(index * ENTRY_BYTES + 12);
+    }
+
+    /**
+     * Returns the legal book moves for position, in book order.
+     *
+     * @param position chess position
+     * @return list of book moves (empty if position is not in book)
+     */
+    public List<Move> movesFor(Position position) {
+        List<Move> moves = new ArrayList<>();
+        long key = Polyglot.keyFor(position);
+        long index = find(key);
+        if (index < 0) {
+            return moves;
+        }
+        int[] legal = new int[MAX_MOVES];
+        int count = legalMoves(position, legal);
+        for (; index < entries && key(index) == key; index++) {
+            int hash = Polyglot.moveHashFor(legal, count, move(index));
+            if (hash != 0) {
+                moves.add(Move.moveFor(hash));
+            }
+        }
+        return moves;
+    }
+}
@@ -0,0 +1,341 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.ExternalSorter.externalSorterFor;
+import static com.github.osmundf.chess.hub.ExternalSorter.outputFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+
+/**
+ * <p>Chess Polyglot book builder.
+ * </p>
+ * <p>Games are streamed from PGN. Each ply below the maximum ply adds an entry of the position's Polyglot key (see
+ * {@link Polyglot#keyFor(Position)}) and book move, scored for the side to move as 2 for a win and 1 for a draw; lost
+ * moves add nothing. Entries are sorted by key and move within the heap budget by an external merge sort, with run
+ * files in the work directory, and the scores of equal entries are summed.
+ * </p>
+ * <p>Building merges the runs and writes the moves of each key by descending weight: the summed score, scaled down
+ * when a key's best score exceeds 16 bits. Learn values are written as zero.
+ * </p>
+ * <p>Games are read by {@link PgnReader}. A game with an unknown result, an invalid start position or a move that
+ * does not resolve to a single legal move adds no entries.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PolyglotBuilder implements Closeable {
+
+    /** Constant <code>MIN_HEAP_BYTES</code> for the smallest heap budget. */
+    public static final long MIN_HEAP_BYTES = 1L << 20;
+
+    /** Constant <code>scoreMask</code> for the score bits of an entry value (move &lt;&lt; 48 | score). */
+    private static final long scoreMask = (1L << 48) - 1;
+
+    /**
+     * Chess Polyglot book builder factory method.
+     *
+     * @param directory work directory for run files
+     * @param heapBytes heap budget in bytes (at least {@link #MIN_HEAP_BYTES})
+     * @param maxPly    number of plies added from each game (at least 1)
+     * @return new instance of Polyglot book builder
+     */
+    public static PolyglotBuilder polyglotBuilderFor(Path directory, long heapBytes, int maxPly) {
+        Objects.requireNonNull(directory, "chess.polyglot.builder.directory.null");
+        if (heapBytes < MIN_HEAP_BYTES || maxPly < 1) {
+            ChessException cause = new ChessException("heapBytes: " + heapBytes + " maxPly: " + maxPly);
+            throw new ChessException("chess.polyglot.builder.limit.invalid", cause);
+        }
+        return new PolyglotBuilder(directory, heapBytes, maxPly);
+    }
+
+    /**
+     * Builds a Polyglot book from PGN files.
+     *
+     * @param args book path, heap budget in megabytes, maximum ply and PGN paths
+     * @throws IOException on read or write error
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("usage: PolyglotBuilder <book.bin> <heap-megabytes> <max-ply> <games.pgn>...");
+            return;
+        }
+        Path book = Paths.get(args[0]).toAbsolutePath();
+        long heapBytes = Long.parseLong(args[1]) << 20;
+        int maxPly = Integer.parseInt(args[2]);
+        try (PolyglotBuilder builder = polyglotBuilderFor(book.getParent(), heapBytes, maxPly)) {
+            for (int i = 3; i < args.length; i++) {
+                try (InputStream input = Files.newInputStream(Paths.get(args[i]))) {
+                    System.err.println(args[i] + ": " + builder.addGames(pgnReaderFor(input)) + " games");
+                }
+            }
+            System.err.println(args[0] + ": " + builder.build(book) + " entries");
+        }
+    }
+
+    /** Number of plies added from each game. */
+    private final int maxPly;
+
+    /** Entry sorter; value: move &lt;&lt; 48 | score */
+    private final ExternalSorter sorter;
+
+    /** Polyglot keys of the game being added; index: ply */
+    private final long[] keys;
+
+    /** Side (white 1, black 0) &lt;&lt; 16 | Polyglot book move of the game being added; index: ply */
+    private final int[] bookMoves;
+
+    /** SAN parser of the games being added. */
+    private final San san;
+
+    /**
+     * Polyglot book builder constructor (private).
+     *
+     * @param directory work directory
+     * @param heapBytes heap budget in bytes
+     * @param maxPly    number of plies added from each game
+     */
+    private PolyglotBuilder(Path directory, long heapBytes, int maxPly) {
+        this.maxPly = maxPly;
+        this.sorter = externalSorterFor(directory, "polyglot", heapBytes, new ScoreCombiner());
+        this.keys = new long[maxPly];
+        this.bookMoves = new int[maxPly];
+        this.san = San.sanFor();
+    }
+
+    /**
+     * Adds the remaining games of PGN reader.
+     *
+     * @param reader PGN reader
+     * @return number of games added
+     * @throws IOException on read or run write error
+     */
+    public long addGames(PgnReader reader) throws IOException {
+        Objects.requireNonNull(reader, "chess.polyglot.builder.reader.null");
+
+        long games = 0;
+        for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+            if (addGame(game)) {
+                games++;
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Adds game.
+     *
+     * @param game PGN game
+     * @return true if game was added, false if its result, start position or a move is invalid
+     * @throws IOException on run write error
+     */
+    public boolean addGame(PgnGame game) throws IOException {
+        Objects.requireNonNull(game, "chess.polyglot.builder.game.null");
+
+        int result;
+        switch (game.result()) {
+            case "1-0":
+                result = 1;
+                break;
+            case "0-1":
+                result = -1;
+                break;
+            case "1/2-1/2":
+                result = 0;
+                break;
+            default:
+                return false;
+        }
+
+        Position position;
+        try {
+            position = game.startPosition();
+        }
+        catch (ChessException e) {
+            return false;
+        }
+
+        List<String> tokens = game.tokens();
+        int plies = Math.min(maxPly, tokens.size());
+        for (int ply = 0; ply < plies; ply++) {
+            int hash = san.resolve(position, tokens.get(ply));
+            if (hash == 0) {
+                return false;
+            }
+            keys[ply] = Polyglot.keyFor(position);
+            int white = Side.WHITE.index() == position.sideToMove ? 1 : 0;
+            bookMoves[ply] = white << 16 | Polyglot.polyglotMoveFor(hash);
+            position.makeMove(hash);
+        }
+        for (int ply = 0; ply < plies; ply++) {
+            int score = result == 0 ? 1 : (bookMoves[ply] >>> 16) == (result > 0 ? 1 : 0) ? 2 : 0;
+            if (score != 0) {
+                sorter.add(keys[ply], (long) (bookMoves[ply] & 0xffff) << 48 | score);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the book of the added games, merging and removing the run files.
+     *
+     * @param book book file path
+     * @return number of book entries
+     * @throws IOException on read or write error
+     */
+    public long build(Path book) throws IOException {
+        Objects.requireNonNull(book, "chess.polyglot.builder.book.null");
+
+        try (DataOutputStream output = outputFor(book)) {
+            BookWriter writer = new BookWriter(output);
+            sorter.finish(writer);
+            writer.flush();
+            return writer.entries;
+        }
+    }
+
+    /**
+     * Removes the run files.
+     *
+     * @throws IOException on delete error
+     */
+    @Override
+    public void close() throws IOException {
+        sorter.close();
+    }
+
+    /**
+     * Writes the entries of a key by descending weight.
+     *
+     * @param output book output
+     * @param key    Polyglot key
+     * @param moves  Polyglot book moves
+     * @param scores summed scores
+     * @param count  number of moves
+     * @return number of entries written
+     * @throws IOException on write error
+     */
+    private static int writeKey(DataOutputStream output, long key, int[] moves, long[] scores, int count)
+        throws IOException {
+        for (int i = 1; i < count; i++) {
+            int move = moves[i];
+            long score = scores[i];
+            int j = i;
+            for (; j > 0 && scores[j - 1] < score; j--) {
+                moves[j] = moves[j - 1];
+                scores[j] = scores[j - 1];
+            }
+            moves[j] = move;
+            scores[j] = score;
+        }
+        long best = scores[0];
+        for (int i = 0; i < count; i++) {
+            long weight = best > 0xffff ? Math.max(1L, (long) ((double) scores[i] * 0xffff / best)) : scores[i];
+            output.writeLong(key);
+            output.writeShort(moves[i]);
+            output.writeShort((int) weight);
+            output.writeInt(0);
+        }
+        return count;
+    }
+
+
+    /**
+     * <p>Writes the merged entries of each key by descending weight.
+     * </p>
+     */
+    private static final class BookWriter implements ExternalSorter.Output {
+
+        /** Book output. */
+        private final DataOutputStream output;
+
+        /** Polyglot book moves of the current key. */
+        private int[] moves;
+
+        /** Summed scores of the current key. */
+        private long[] scores;
+
+        /** Number of moves of the current key. */
+        private int count;
+
+        /** Current key. */
+        private long key;
+
+        /** Number of entries written. */
+        long entries;
+
+        /**
+         * Book writer constructor.
+         *
+         * @param output book output
+         */
+        BookWriter(DataOutputStream output) {
+            this.output = output;
+            this.moves = new int[MAX_MOVES];
+            this.scores = new long[MAX_MOVES];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void accept(long nextKey, long value) throws IOException {
+            if (count != 0 && nextKey != key) {
+                flush();
+            }
+            if (count == moves.length) {
+                moves = Arrays.copyOf(moves, count << 1);
+                scores = Arrays.copyOf(scores, count << 1);
+            }
+            key = nextKey;
+            moves[count] = (int) (value >>> 48);
+            scores[count++] = value & scoreMask;
+        }
+
+        /**
+         * Writes the entries of the current key.
+         *
+         * @throws IOException on write error
+         */
+        void flush() throws IOException {
+            if (count != 0) {
+                entries += writeKey(output, key, moves, scores, count);
+                count = 0;
+            }
+        }
+    }
+
+    /**
+     * <p>Combines entries of equal key and move by summing their scores.
+     * </p>
+     */
+    private static final class ScoreCombiner implements ExternalSorter.Combiner {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean matches(long value, long other) {
+            return value >>> 48 == other >>> 48;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long combine(long value, long other) {
+            return value + (other & scoreMask);
+        }
+    }
+}
@@ -0,0 +1,667 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.github.osmundf.chess.hub.CastleState.castleMask;
+import static com.github.osmundf.chess.hub.CastleState.castleStateFor;
+import static com.github.osmundf.chess.hub.CastleState.castledHash;
+import static com.github.osmundf.chess.hub.Caste.BISHOP;
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.QUEEN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.Caste.casteFromIndex;
+import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.NO_SIDE;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static com.github.osmundf.chess.hub.Square.squareFromIndex;
+import static java.lang.String.format;
+
+/**
+ * <p>Chess position.
+ * </p>
+ * <p>The board is held as twelve bitboards, one for each side and caste, where bit <code>n</code> is set when the
+ * piece is on the square with {@link Square#index()} <code>n</code>. A square table of packed piece codes
+ * (side[ss] caste[ccc]) mirrors the bitboards for constant time look-up by square.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Position {
+
+    /** Constant <code>NO_SQUARE</code> for absent square index. */
+    static final int NO_SQUARE = -1;
+
+    /** Constant <code>UNDO_CAPACITY</code> for the initial undo stack size in plies. */
+    static final int UNDO_CAPACITY = 1024;
+
+    /** Constant <code>initialCastleState</code> with both sides holding both castling rights. */
+    private static final byte initialCastleState = (byte) 0x33;
+
+    /** Constant <code>backRank</code> for initial back rank castes from file a to file h. */
+    private static final Caste[] backRank = new Caste[] {
+        ROOK, KNIGHT, BISHOP, QUEEN, KING, BISHOP, KNIGHT, ROOK
+    };
+
+    /**
+     * Chess position factory method.
+     *
+     * @return new instance of position for the initial set-up
+     */
+    public static Position initialPosition() {
+        Position position = new Position();
+        for (int file = 0; file < 8; file++) {
+            int caste = backRank[file].index();
+            position.put(WHITE.index(), caste, file);
+            position.put(WHITE.index(), PAWN.index(), 8 | file);
+            position.put(BLACK.index(), PAWN.index(), 48 | file);
+            position.put(BLACK.index(), caste, 56 | file);
+        }
+        position.sideToMove = WHITE.index();
+        position.castle = initialCastleState;
+        position.enPassant = NO_SQUARE;
+        position.halfMoveClock = 0;
+        position.fullMoveNumber = 1;
+        position.key = Zobrist.keyFor(position);
+        return position;
+    }
+
+    /**
+     * Chess position factory method.
+     *
+     * @param sideToMove     side to move
+     * @param castleState    castle state
+     * @param enPassant      en passant target square, null if none
+     * @param halfMoveClock  half-moves since last capture or pawn move
+     * @param fullMoveNumber full move number, starting at one
+     * @param pieces         pieces on the board
+     * @return new instance of position
+     */
+    public static Position positionFor(Side sideToMove, CastleState castleState, Square enPassant, int halfMoveClock,
+        int fullMoveNumber, Iterable<Piece> pieces) {
+        if (sideToMove == null || NO_SIDE == sideToMove) {
+            ChessException cause = new ChessException("side: " + sideToMove);
+            throw new ChessException("chess.position.side.to.move.invalid", cause);
+        }
+        Objects.requireNonNull(castleState, "chess.position.castle.state.null");
+        Objects.requireNonNull(pieces, "chess.position.pieces.null");
+
+        if (enPassant != null && enPassant.rank() != (WHITE == sideToMove ? 6 : 3)) {
+            ChessException cause = new ChessException("side: " + sideToMove + " enPassant: " + enPassant);
+            throw new ChessException("chess.position.en.passant.invalid", cause);
+        }
+        if (halfMoveClock < 0 || fullMoveNumber < 1) {
+            String template = "halfMoveClock: %d fullMoveNumber: %d";
+            ChessException cause = new ChessException(format(template, halfMoveClock, fullMoveNumber));
+            throw new ChessException("chess.position.clock.invalid", cause);
+        }
+
+        Position position = new Position();
+        for (Piece piece : pieces) {
+            Objects.requireNonNull(piece, "chess.position.piece.null");
+            int square = piece.square().index();
+            if (position.squares[square] != 0) {
+                ChessException cause = new ChessException("piece: " + piece);
+                throw new ChessException("chess.position.square.occupied", cause);
+            }
+            position.put(piece.side().index(), piece.caste().index(), square);
+        }
+
+        for (Side side : new Side[] {WHITE, BLACK}) {
+            long kings = position.board(side.index(), KING.index());
+            if (Long.bitCount(kings) != 1) {
+                ChessException cause = new ChessException("side: " + side + " kings: " + Long.bitCount(kings));
+                throw new ChessException("chess.position.king.count.invalid", cause);
+            }
+        }
+
+        position.sideToMove = sideToMove.index();
+        position.castle = (byte) castleState.hashCode();
+        position.enPassant = enPassant == null ? NO_SQUARE : enPassant.index();
+        position.halfMoveClock = halfMoveClock;
+        position.fullMoveNumber = fullMoveNumber;
+        position.key = Zobrist.keyFor(position);
+        return position;
+    }
+
+    /**
+     * Returns the bitboard table index for side and caste indices.
+     *
+     * @param side  side index
+     * @param caste caste index
+     * @return bitboard table index
+     */
+    static int boardIndex(int side, int caste) {
+        return (side - 1) * 6 + caste - 1;
+    }
+
+    /** Piece bitboards; index: (side - 1) * 6 + (caste - 1) */
+    final long[] boards;
+
+    /** Side occupancy bitboards; index: side */
+    final long[] occupancy;
+
+    /** Packed piece codes; index: square, value: side[ss] caste[ccc] */
+    final byte[] squares;
+
+    int sideToMove;
+
+    byte castle;
+
+    int enPassant;
+
+    int halfMoveClock;
+
+    int fullMoveNumber;
+
+    /** Zobrist key, updated incrementally by make and unmake move */
+    long key;
+
+    /** Undo stack of move hashes; index: ply */
+    private int[] undoMoves;
+
+    /** Undo stack of Zobrist keys; index: ply */
+    private long[] undoKeys;
+
+    /** Undo stack of packed state: clock[16..] en-passant[8..15] castle[0..7]; index: ply */
+    private long[] undoStates;
+
+    private int undoCount;
+
+    /**
+     * Position constructor (private).
+     */
+    private Position() {
+        this.boards = new long[12];
+        this.occupancy = new long[3];
+        this.squares = new byte[64];
+        this.undoMoves = new int[UNDO_CAPACITY];
+        this.undoKeys = new long[UNDO_CAPACITY];
+        this.undoStates = new long[UNDO_CAPACITY];
+    }
+
+    /**
+     * Position copy constructor (private).
+     *
+     * @param other position to copy
+     */
+    private Position(Position other) {
+        this.boards = other.boards.clone();
+        this.occupancy = other.occupancy.clone();
+        this.squares = other.squares.clone();
+        this.sideToMove = other.sideToMove;
+        this.castle = other.castle;
+        this.enPassant = other.enPassant;
+        this.halfMoveClock = other.halfMoveClock;
+        this.fullMoveNumber = other.fullMoveNumber;
+        this.key = other.key;
+        this.undoMoves = other.undoMoves.clone();
+        this.undoKeys = other.undoKeys.clone();
+        this.undoStates = other.undoStates.clone();
+        this.undoCount = other.undoCount;
+    }
+
+    /**
+     * Returns an independent copy of the position.
+     *
+     * @return copy of position
+     */
+    public Position copy() {
+        return new Position(this);
+    }
+
+    /**
+     * Returns side to move.
+     *
+     * @return side to move
+     */
+    public Side sideToMove() {
+        return WHITE.index() == sideToMove ? WHITE : BLACK;
+    }
+
+    /**
+     * Returns castle state.
+     *
+     * @return castle state
+     */
+    public CastleState castleState() {
+        return castleStateFor(castle);
+    }
+
+    /**
+     * Returns en passant target square.
+     *
+     * @return en passant target square, empty if none
+     */
+    public Optional<Square> enPassant() {
+        if (NO_SQUARE == enPassant) {
+            return Optional.empty();
+        }
+        return Optional.of(squareFromIndex((byte) enPassant));
+    }
+
+    /**
+     * Returns half-moves since the last capture or pawn move.
+     *
+     * @return half-move clock
+     */
+    public int halfMoveClock() {
+        return halfMoveClock;
+    }
+
+    /**
+     * Returns full move number.
+     *
+     * @return full move number
+     */
+    public int fullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    /**
+     * Returns bitboard for side and caste.
+     *
+     * @param side  piece side
+     * @param caste piece caste
+     * @return bitboard of squares occupied by side and caste
+     */
+    public long board(Side side, Caste caste) {
+        if (side == null || NO_SIDE == side || caste == null || NONE == caste) {
+            ChessException cause = new ChessException("side: " + side + " caste: " + caste);
+            throw new ChessException("chess.position.board.invalid", cause);
+        }
+        return board(side.index(), caste.index());
+    }
+
+    /**
+     * Returns bitboard for side and caste indices (unchecked).
+     *
+     * @param side  side index
+     * @param caste caste index
+     * @return bitboard of squares occupied by side and caste
+     */
+    long board(int side, int caste) {
+        return boards[boardIndex(side, caste)];
+    }
+
+    /**
+     * Returns bitboard of squares occupied by side.
+     *
+     * @param side board side
+     * @return bitboard of squares occupied by side
+     */
+    public long occupancy(Side side) {
+        if (side == null || NO_SIDE == side) {
+            ChessException cause = new ChessException("side: " + side);
+            throw new ChessException("chess.position.occupancy.invalid", cause);
+        }
+        return occupancy[side.index()];
+    }
+
+    /**
+     * Returns bitboard of all occupied squares.
+     *
+     * @return bitboard of all occupied squares
+     */
+    public long occupied() {
+        return occupancy[1] | occupancy[2];
+    }
+
+    /**
+     * Returns piece on square.
+     *
+     * @param square board square
+     * @return piece on square, empty if none
+     */
+    public Optional<Piece> pieceAt(Square square) {
+        Objects.requireNonNull(square, "chess.position.square.null");
+        int code = squares[square.index()];
+        if (code == 0) {
+            return Optional.empty();
+        }
+        Side side = WHITE.index() == code >> 3 ? WHITE : BLACK;
+        return Optional.of(pieceFor(side, casteFromIndex(code & 0x7), square));
+    }
+
+    /**
+     * Returns pieces on the board, ordered by square index.
+     *
+     * @return list of pieces
+     */
+    public List<Piece> pieces() {
+        List<Piece> result = new ArrayList<>(Long.bitCount(occupied()));
+        for (long bits = occupied(); bits != 0; bits &= bits - 1) {
+            Square square = squareFromIndex((byte) Long.numberOfTrailingZeros(bits));
+            result.add(pieceAt(square).get());
+        }
+        return result;
+    }
+
+    /**
+     * Returns if the side to move is in check.
+     *
+     * @return true if king of side to move is attacked, false otherwise
+     */
+    public boolean inCheck() {
+        int king = Long.numberOfTrailingZeros(board(sideToMove, KING.index()));
+        return attackers(king, 3 - sideToMove, occupied()) != 0;
+    }
+
+    /**
+     * Returns if square is attacked by side.
+     *
+     * @param square board square
+     * @param side   attacking side
+     * @return true if any piece of side attacks square, false otherwise
+     */
+    public boolean isAttacked(Square square, Side side) {
+        Objects.requireNonNull(square, "chess.position.square.null");
+        if (side == null || NO_SIDE == side) {
+            ChessException cause = new ChessException("side: " + side);
+            throw new ChessException("chess.position.attacking.side.invalid", cause);
+        }
+        return attackers(square.index(), side.index(), occupied()) != 0;
+    }
+
+    /**
+     * Returns if the position repeats an earlier position with the same side to move since the last capture or pawn
+     * move.
+     *
+     * @return true if the position key occurs earlier in the undo stack, false otherwise
+     */
+    boolean isRepetition() {
+        int limit = Math.max(0, undoCount - halfMoveClock);
+        for (int i = undoCount - 2; i >= limit; i -= 2) {
+            if (undoKeys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns pieces of side attacking square for given occupancy (unchecked).
+     *
+     * @param square   square index
+     * @param side     attacking side index
+     * @param occupied bitboard of occupied squares for slider attacks
+     * @return bitboard of attacking pieces
+     */
+    long attackers(int square, int side, long occupied) {
+        long queens = board(side, QUEEN.index());
+        long result = Attacks.pawnAttacks(3 - side, square) & board(side, PAWN.index());
+        result |= Attacks.knightAttacks(square) & board(side, KNIGHT.index());
+        result |= Attacks.kingAttacks(square) & board(side, KING.index());
+        result |= Attacks.bishopAttacks(square, occupied) & (board(side, BISHOP.index()) | queens);
+        result |= Attacks.rookAttacks(square, occupied) & (board(side, ROOK.index()) | queens);
+        return result;
+    }
+
+    /**
+     * <p>Applies move to the position.
+     * </p>
+     * <p>The move hash is trusted: it must be a legal (or pseudo-legal) move for the position, such as produced by
+     * {@link MoveGenerator}. The null move hash (zero) passes the turn. State needed to take the move back is kept
+     * on a preallocated primitive undo stack.
+     * </p>
+     *
+     * @param hash move hash
+     */
+    public void makeMove(int hash) {
+        if (undoCount == undoMoves.length) {
+            undoMoves = Arrays.copyOf(undoMoves, undoCount << 1);
+            undoKeys = Arrays.copyOf(undoKeys, undoCount << 1);
+            undoStates = Arrays.copyOf(undoStates, undoCount << 1);
+        }
+        undoMoves[undoCount] = hash;
+        undoKeys[undoCount] = key;
+        undoStates[undoCount] = (long) halfMoveClock << 16 | (enPassant + 1) << 8 | castle & 0xff;
+        undoCount++;
+
+        int us = sideToMove;
+        int type = hash >>> 22 & 0x7;
+        int promotion = hash >>> 18 & 0x7;
+        int capture = hash >>> 15 & 0x7;
+        int base = hash >>> 12 & 0x7;
+        int from = hash >>> 6 & 0x3f;
+        int to = hash & 0x3f;
+
+        key ^= Zobrist.castleKey(castle) ^ Zobrist.enPassantKey(enPassant);
+        enPassant = NO_SQUARE;
+        halfMoveClock = base == PAWN.index() || capture != 0 ? 0 : halfMoveClock + 1;
+        if (hash != 0) {
+            castle &= castleMask(from) & castleMask(to);
+        }
+
+        switch (type) {
+            case 0x0: // base
+                if (base != 0) {
+                    remove(from);
+                    put(us, base, to);
+                }
+                break;
+            case 0x2: // double-push
+                remove(from);
+                put(us, base, to);
+                enPassant = (from + to) >> 1;
+                break;
+            case 0x3: // en passant
+                remove(to & 0x7 | from & 0x38);
+                remove(from);
+                put(us, base, to);
+                break;
+            case 0x4: // promotion
+                remove(from);
+                put(us, promotion, to);
+                break;
+            case 0x5: // capture-promotion
+                remove(to);
+                remove(from);
+                put(us, promotion, to);
+                break;
+            case 0x6: // castle short
+            case 0x7: // castle long
+                boolean castleShort = type == 0x6;
+                remove(from);
+                remove(to);
+                put(us, KING.index(), from & 0x38 | (castleShort ? 6 : 2));
+                put(us, ROOK.index(), from & 0x38 | (castleShort ? 5 : 3));
+                castle = castledHash(castle, us, castleShort);
+                break;
+            default: // capture
+                remove(to);
+                remove(from);
+                put(us, base, to);
+                break;
+        }
+
+        if (BLACK.index() == us) {
+            fullMoveNumber++;
+        }
+        sideToMove = 3 - us;
+        key ^= Zobrist.castleKey(castle) ^ Zobrist.enPassantKey(enPassant) ^ Zobrist.sideKey(BLACK.index());
+    }
+
+    /**
+     * Applies move to the position.
+     *
+     * @param move chess move
+     * @see #makeMove(int)
+     */
+    public void makeMove(Move move) {
+        Objects.requireNonNull(move, "chess.position.move.null");
+        makeMove(move.hashCode());
+    }
+
+    /**
+     * Takes back the last move made.
+     */
+    public void unmakeMove() {
+        if (undoCount == 0) {
+            throw new ChessException("chess.position.unmake.move.empty");
+        }
+        undoCount--;
+        int hash = undoMoves[undoCount];
+        long state = undoStates[undoCount];
+
+        int us = 3 - sideToMove;
+        int type = hash >>> 22 & 0x7;
+        int capture = hash >>> 15 & 0x7;
+        int base = hash >>> 12 & 0x7;
+        int from = hash >>> 6 & 0x3f;
+        int to = hash & 0x3f;
+
+        switch (type) {
+            case 0x0: // base
+            case 0x2: // double-push
+                if (base != 0) {
+                    remove(to);
+                    put(us, base, from);
+                }
+                break;
+            case 0x3: // en passant
+                remove(to);
+                put(us, base, from);
+                put(sideToMove, capture, to & 0x7 | from & 0x38);
+                break;
+            case 0x4: // promotion
+                remove(to);
+                put(us, base, from);
+                break;
+            case 0x6: // castle short
+            case 0x7: // castle long
+                boolean castleShort = type == 0x6;
+                remove(from & 0x38 | (castleShort ? 6 : 2));
+                remove(from & 0x38 | (castleShort ? 5 : 3));
+                put(us, KING.index(), from);
+                put(us, ROOK.index(), to);
+                break;
+            default: // capture, capture-promotion
+                remove(to);
+                put(us, base, from);
+                put(sideToMove, capture, to);
+                break;
+        }
+
+        if (BLACK.index() == us) {
+            fullMoveNumber--;
+        }
+        sideToMove = us;
+        castle = (byte) state;
+        enPassant = (int) (state >>> 8 & 0xff) - 1;
+        halfMoveClock = (int) (state >>> 16);
+        key = undoKeys[undoCount];
+    }
+
+    /**
+     * Empties the board and undo stack, keeping the stack capacity.
+     */
+    void clear() {
+        Arrays.fill(boards, 0L);
+        Arrays.fill(occupancy, 0L);
+        Arrays.fill(squares, (byte) 0);
+        sideToMove = WHITE.index();
+        castle = 0;
+        enPassant = NO_SQUARE;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+        key = 0L;
+        undoCount = 0;
+    }
+
+    /**
+     * Places piece on an empty square (unchecked).
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param square square index
+     */
+    void put(int side, int caste, int square) {
+        long bit = 1L << square;
+        boards[boardIndex(side, caste)] |= bit;
+        occupancy[side] |= bit;
+        squares[square] = (byte) (side << 3 | caste);
+        key ^= Zobrist.pieceKey(side, caste, square);
+    }
+
+    /**
+     * Removes piece from an occupied square (unchecked).
+     *
+     * @param square square index
+     */
+    void remove(int square) {
+        int code = squares[square];
+        long bit = ~(1L << square);
+        boards[boardIndex(code >> 3, code & 0x7)] &= bit;
+        occupancy[code >> 3] &= bit;
+        squares[square] = 0;
+        key ^= Zobrist.pieceKey(code >> 3, code & 0x7, square);
+    }
+
+    /**
+     * Returns the 64-bit Zobrist key of the position, for use as a hash table key.
+     *
+     * @return position key
+     * @see Zobrist
+     */
+    public long key() {
+        return key;
+    }
+
+    /**
+     * <p>Returns the 64-bit Zobrist key of the position by board, side to move and castling rights only.
+     * </p>
+     * <p>Unlike {@link #key()}, the key leaves out whether a side has castled, and the en passant file unless an en
+     * passant capture is legal, so positions that are the same by the rules share a key however they were reached.
+     * </p>
+     *
+     * @return normalised position key
+     */
+    public long positionKey() {
+        long normal = key ^ Zobrist.castleKey(castle) ^ Zobrist.castleKey((byte) (castle & initialCastleState));
+        return MoveGenerator.hasLegalEnPassant(this) ? normal : normal ^ Zobrist.enPassantKey(enPassant);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(boards);
+        result = 31 * result + sideToMove;
+        result = 31 * result + castle;
+        result = 31 * result + enPassant;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Position)) {
+            return false;
+        }
+        Position other = (Position) object;
+        return this == object || Arrays.equals(this.boards, other.boards) && this.sideToMove == other.sideToMove
+            && this.castle == other.castle && this.enPassant == other.enPassant
+            && this.halfMoveClock == other.halfMoveClock && this.fullMoveNumber == other.fullMoveNumber;
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.Position} by its state.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        String template = "Position(%s, castleState(0x%02x), %s, %d, %d)";
+        String ep = NO_SQUARE == enPassant ? "-" : squareFromIndex((byte) enPassant).toString();
+        return format(template, sideToMove(), castle, ep, halfMoveClock, fullMoveNumber);
+    }
+}
@@ -0,0 +1,294 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static java.lang.String.format;
+
+/**
+ * <p>Chess standard algebraic notation (SAN).
+ * </p>
+ * <p>Parses and formats moves against the legal move list of a position. The list is kept with the position key it
+ * was generated for and reused by later calls for a position with the same key, so parsing, formatting and the
+ * check/mate test of a formatted move (which generates the list of the position after the move, the next one parsed
+ * when importing a game) share one generation per position.
+ * </p>
+ * <p>Parsing accepts file, rank and square disambiguation (<code>Nbd2</code>, <code>R1e1</code>,
+ * <code>Qh4e1</code>), an optional capture mark, promotion with or without <code>=</code>, castling with letter
+ * <code>O</code> or digit <code>0</code> and trailing check, mate and annotation marks (<code>+#!?</code>); a token
+ * must resolve to exactly one legal move. Formatting uses the shortest disambiguation, file before rank.
+ * </p>
+ * <p>An instance holds mutable cache state and is not thread safe; use one instance for each thread.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class San {
+
+    /** Constant <code>casteChars</code> for piece letters; index: caste index */
+    private static final String casteChars = " PNBRQK";
+
+    /**
+     * Chess SAN factory method.
+     *
+     * @return new instance of SAN with an empty move list cache
+     */
+    public static San sanFor() {
+        return new San();
+    }
+
+    /** Legal move hashes of cached position. */
+    private final int[] moves;
+
+    /** Number of legal moves of cached position, or -1 if none cached. */
+    private int count;
+
+    /** Key of cached position. */
+    private long key;
+
+    /**
+     * SAN constructor (private).
+     */
+    private San() {
+        this.moves = new int[MAX_MOVES];
+        this.count = -1;
+    }
+
+    /**
+     * Returns the legal move hash for SAN in position.
+     *
+     * @param position chess position
+     * @param san      SAN text
+     * @return move hash
+     */
+    public int moveFor(Position position, CharSequence san) {
+        Objects.requireNonNull(position, "chess.san.position.null");
+        Objects.requireNonNull(san, "chess.san.text.null");
+        int hash = resolve(position, san);
+        if (hash == 0) {
+            ChessException cause = new ChessException("san: " + san);
+            throw new ChessException("chess.san.move.invalid", cause);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns SAN for legal move hash in position.
+     *
+     * @param position chess position (restored before return)
+     * @param hash     move hash
+     * @return SAN text
+     */
+    public String sanFor(Position position, int hash) {
+        Objects.requireNonNull(position, "chess.san.position.null");
+        generate(position);
+        if (!contains(hash)) {
+            ChessException cause = new ChessException(format("hash: 0x%08x", hash));
+            throw new ChessException("chess.san.move.invalid", cause);
+        }
+
+        StringBuilder builder = new StringBuilder(8);
+        int type = hash >>> 22;
+        if (MoveType.isCastlingIndex(type)) {
+            builder.append(MoveType.CASTLE_SHORT.index() == type ? "O-O" : "O-O-O");
+        }
+        else {
+            int caste = hash >>> 12 & 0x7;
+            int from = hash >>> 6 & 0x3f;
+            int to = hash & 0x3f;
+            if (Caste.PAWN.index() == caste) {
+                if (MoveType.isCaptureIndex(type)) {
+                    builder.append((char) ('a' + (from & 0x7))).append('x');
+                }
+            }
+            else {
+                builder.append(casteChars.charAt(caste));
+                appendDisambiguation(builder, hash);
+                if (MoveType.isCaptureIndex(type)) {
+                    builder.append('x');
+                }
+            }
+            builder.append((char) ('a' + (to & 0x7))).append((char) ('1' + (to >>> 3)));
+            if (MoveType.isPromotionIndex(type)) {
+                builder.append('=').append(casteChars.charAt(hash >>> 18 & 0x7));
+            }
+        }
+
+        position.makeMove(hash);
+        if (position.inCheck()) {
+            generate(position);
+            builder.append(count == 0 ? '#' : '+');
+        }
+        position.unmakeMove();
+        return builder.toString();
+    }
+
+    /**
+     * Returns the legal move hash for SAN in position (package-private).
+     *
+     * @param position chess position
+     * @param san      SAN text
+     * @return move hash, or 0 if SAN does not resolve to a single legal move
+     */
+    int resolve(Position position, CharSequence san) {
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        if (end == 0) {
+            return 0;
+        }
+        generate(position);
+
+        char first = san.charAt(0);
+        if (first == 'O' || first == '0') {
+            int type = castleTypeFor(san, end);
+            for (int i = 0; type != 0 && i < count; i++) {
+                if (moves[i] >>> 22 == type) {
+                    return moves[i];
+                }
+            }
+            return 0;
+        }
+
+        int start = 0;
+        int caste = casteChars.indexOf(first);
+        if (caste > 0) {
+            start = 1;
+        }
+        else {
+            caste = Caste.PAWN.index();
+        }
+        int promotion = 0;
+        if (Caste.PAWN.index() == caste && end > 2) {
+            promotion = casteChars.indexOf(san.charAt(end - 1));
+            if (promotion > Caste.PAWN.index() && promotion < Caste.KING.index()) {
+                end -= san.charAt(end - 2) == '=' ? 2 : 1;
+            }
+            else {
+                promotion = 0;
+            }
+        }
+        if (end - start < 2) {
+            return 0;
+        }
+        int file = san.charAt(end - 2) - 'a';
+        int rank = san.charAt(end - 1) - '1';
+        if (file < 0 || 7 < file || rank < 0 || 7 < rank) {
+            return 0;
+        }
+
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = san.charAt(i);
+            if ('a' <= c && c <= 'h') {
+                fromFile = c - 'a';
+            }
+            else if ('1' <= c && c <= '8') {
+                fromRank = c - '1';
+            }
+            else if (c != 'x' && c != '-') {
+                return 0;
+            }
+        }
+
+        int to = rank << 3 | file;
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int hash = moves[i];
+            int from = hash >>> 6 & 0x3f;
+            if (MoveType.isCastlingIndex(hash >>> 22) || (hash & 0x3f) != to || (hash >>> 12 & 0x7) != caste
+                || (hash >>> 18 & 0x7) != promotion || fromFile >= 0 && (from & 0x7) != fromFile
+                || fromRank >= 0 && from >>> 3 != fromRank) {
+                continue;
+            }
+            if (found != 0) {
+                return 0;
+            }
+            found = hash;
+        }
+        return found;
+    }
+
+    /**
+     * Generates the legal moves of position, unless cached for its key.
+     *
+     * @param position chess position
+     */
+    private void generate(Position position) {
+        long positionKey = position.key();
+        if (count < 0 || key != positionKey) {
+            count = legalMoves(position, moves);
+            key = positionKey;
+        }
+    }
+
+    /**
+     * Returns true if cached move list contains move hash, false otherwise.
+     *
+     * @param hash move hash
+     * @return a boolean.
+     */
+    private boolean contains(int hash) {
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the source file, rank or square needed to tell a piece move from other moves to the same square.
+     *
+     * @param builder SAN builder
+     * @param hash    move hash
+     */
+    private void appendDisambiguation(StringBuilder builder, int hash) {
+        int from = hash >>> 6 & 0x3f;
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        for (int i = 0; i < count; i++) {
+            int other = moves[i];
+            int otherFrom = other >>> 6 & 0x3f;
+            if (otherFrom == from || (other & 0x3f) != (hash & 0x3f) || (other >>> 12 & 0x7) != (hash >>> 12 & 0x7)
+                || MoveType.isCastlingIndex(other >>> 22)) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= (otherFrom & 0x7) == (from & 0x7);
+            sameRank |= otherFrom >>> 3 == from >>> 3;
+        }
+        if (ambiguous && (!sameFile || sameRank)) {
+            builder.append((char) ('a' + (from & 0x7)));
+        }
+        if (ambiguous && sameFile) {
+            builder.append((char) ('1' + (from >>> 3)));
+        }
+    }
+
+    /**
+     * Returns castle move type index for castling text.
+     *
+     * @param san castling text
+     * @param end end of text, before marks
+     * @return castle move type index, or 0 if text is not castling
+     */
+    private static int castleTypeFor(CharSequence san, int end) {
+        if (end != 3 && end != 5) {
+            return 0;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = san.charAt(i);
+            if ((i & 0x1) == 0 ? c != 'O' && c != '0' : c != '-') {
+                return 0;
+            }
+        }
+        return end == 3 ? MoveType.CASTLE_SHORT.index() : MoveType.CASTLE_LONG.index();
+    }
+}
@@ -0,0 +1,566 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_EXACT;
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_LOWER;
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_UPPER;
+import static com.github.osmundf.chess.hub.TranspositionTable.boundOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.depthOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.moveOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.scoreOf;
+
+/**
+ * <p>Chess alpha-beta search.
+ * </p>
+ * <p>Iterative deepening principal variation search over packed move hashes, with a {@link TranspositionTable},
+ * check extension, killer moves, MVV-LVA capture ordering and a capture-only quiescence search. Positions are scored
+ * by material and piece-square tables. Draws by repetition and by the fifty-move rule score zero.
+ * </p>
+ * <p>A search runs on the calling thread; {@link #stop()} may be called from any thread, before or during the search,
+ * and is seen by the next node searched. The best move of the last completed iteration is returned.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Search {
+
+    /** Constant <code>MAX_DEPTH</code> for the deepest iteration in plies. */
+    public static final int MAX_DEPTH = 63;
+
+    /** Constant <code>MATE</code> for the score of a checkmate at the root. */
+    public static final int MATE = 32000;
+
+    /** Constant <code>MATE_BOUND</code> for the smallest score of a found checkmate. */
+    public static final int MATE_BOUND = MATE - MAX_DEPTH - 1;
+
+    /** Constant <code>MAX_PLY</code> for the search stack size in plies. */
+    static final int MAX_PLY = MAX_DEPTH + 1;
+
+    /** Constant <code>infinity</code> for a score outside the score range. */
+    private static final int infinity = MATE + 1;
+
+    /** Constant <code>pollMask</code> for the node interval between clock checks. */
+    private static final int pollMask = 0x3ff;
+
+    /** Constant <code>pieceValue</code> for material values in centipawns; index: caste index */
+    private static final int[] pieceValue = {0, 100, 320, 330, 500, 900, 0};
+
+    /** Constant <code>centre</code> for square centrality (0 to 6); index: square */
+    private static final int[] centre = new int[64];
+
+    /** Piece-square scores from white's point of view; index: side &lt;&lt; 9 | caste &lt;&lt; 6 | square */
+    private static final int[] squareTable = new int[1536];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            int file = square & 0x7;
+            int rank = square >> 3;
+            centre[square] = Math.min(file, 7 - file) + Math.min(rank, 7 - rank);
+        }
+
+        for (int caste = 1; caste <= 6; caste++) {
+            for (int square = 0; square < 64; square++) {
+                int rank = square >> 3;
+                int bonus;
+                switch (caste) {
+                    case 1: // pawn
+                        bonus = (rank - 1) * 8 + ((square & 0x6) == 0x2 || (square & 0x6) == 0x4 ? 4 * rank : 0);
+                        break;
+                    case 2: // knight
+                        bonus = centre[square] * 8 - 20;
+                        break;
+                    case 3: // bishop
+                    case 5: // queen
+                        bonus = centre[square] * 3 - 8;
+                        break;
+                    case 4: // rook
+                        bonus = rank == 6 ? 15 : 0;
+                        break;
+                    default: // king
+                        bonus = rank == 0 ? 10 - centre[square] * 4 : -20 - rank * 10;
+                        break;
+                }
+                int mirror = square ^ 0x38;
+                squareTable[Side.WHITE.index() << 9 | caste << 6 | square] = pieceValue[caste] + bonus;
+                squareTable[Side.BLACK.index() << 9 | caste << 6 | mirror] = -(pieceValue[caste] + bonus);
+            }
+        }
+    }
+
+    /**
+     * <p>Search progress listener.
+     * </p>
+     */
+    public interface Listener {
+
+        /**
+         * Reports a completed iteration.
+         *
+         * @param depth  iteration depth in plies
+         * @param score  score for the side to move in centipawns, or within {@link #MAX_DEPTH} of {@link #MATE}
+         * @param nodes  nodes searched
+         * @param millis elapsed time in milliseconds
+         * @param pv     principal variation as move hashes
+         */
+        void iteration(int depth, int score, long nodes, long millis, int[] pv);
+    }
+
+    /**
+     * Chess search factory method.
+     *
+     * @param table transposition table
+     * @return new instance of search using table
+     */
+    public static Search searchFor(TranspositionTable table) {
+        Objects.requireNonNull(table, "chess.search.table.null");
+        return new Search(table);
+    }
+
+    /**
+     * Returns static evaluation of position for the side to move.
+     *
+     * @param position chess position
+     * @return score in centipawns
+     */
+    public static int evaluate(Position position) {
+        int score = 0;
+        for (long bits = position.occupied(); bits != 0; bits &= bits - 1) {
+            int square = Long.numberOfTrailingZeros(bits);
+            score += squareTable[position.squares[square] << 6 | square];
+        }
+        return Side.WHITE.index() == position.sideToMove ? score : -score;
+    }
+
+    private final TranspositionTable table;
+
+    /** Move lists; index: ply * MAX_MOVES + move */
+    private final int[] moves;
+
+    /** Move ordering scores; index: ply * MAX_MOVES + move */
+    private final int[] orders;
+
+    /** Killer moves; index: ply * 2 + slot */
+    private final int[] killers;
+
+    /** Principal variations; index: ply * MAX_PLY + ply of move */
+    private final int[] pv;
+
+    /** Principal variation ends; index: ply */
+    private final int[] pvLength;
+
+    private volatile boolean stopped;
+
+    private long nodes;
+
+    private long nodeLimit;
+
+    private long deadline;
+
+    private boolean timed;
+
+    private int score;
+
+    /**
+     * Search constructor (private).
+     *
+     * @param table transposition table
+     */
+    private Search(TranspositionTable table) {
+        this.table = table;
+        this.moves = new int[MAX_PLY * MAX_MOVES];
+        this.orders = new int[MAX_PLY * MAX_MOVES];
+        this.killers = new int[MAX_PLY * 2];
+        this.pv = new int[MAX_PLY * MAX_PLY];
+        this.pvLength = new int[MAX_PLY];
+    }
+
+    /**
+     * Searches position for the best move. The search ends at the depth limit, at the first node or time limit
+     * reached, or when stopped, and clears the stop flag on return. A search stopped during its first iteration
+     * returns the best move found so far.
+     *
+     * @param position chess position (restored on return)
+     * @param depth    iteration depth limit in plies (1 to {@link #MAX_DEPTH})
+     * @param nodes    node limit, zero for none
+     * @param millis   time limit in milliseconds, zero for none
+     * @param listener iteration listener, or null
+     * @return best move hash, zero if the side to move has no legal move
+     */
+    public int search(Position position, int depth, long nodes, long millis, Listener listener) {
+        Objects.requireNonNull(position, "chess.search.position.null");
+        if (depth < 1 || MAX_DEPTH < depth || nodes < 0L || millis < 0L) {
+            String causeMessage = "depth: " + depth + " nodes: " + nodes + " millis: " + millis;
+            ChessException cause = new ChessException(causeMessage);
+            throw new ChessException("chess.search.limit.invalid", cause);
+        }
+
+        long start = System.nanoTime();
+        this.nodes = 0L;
+        this.nodeLimit = nodes == 0L ? Long.MAX_VALUE : nodes;
+        this.deadline = start + millis * 1_000_000L;
+        this.timed = millis != 0L;
+        this.score = 0;
+        Arrays.fill(killers, 0);
+        table.newSearch();
+
+        try {
+            return iterate(position, depth, start, listener);
+        }
+        finally {
+            stopped = false;
+        }
+    }
+
+    /**
+     * Returns best move by iterative deepening.
+     *
+     * @param position chess position
+     * @param depth    iteration depth limit in plies
+     * @param start    start time in nanoseconds
+     * @param listener iteration listener, or null
+     * @return best move hash, zero if the side to move has no legal move
+     */
+    private int iterate(Position position, int depth, long start, Listener listener) {
+        int rootCount = legalMoves(position, moves, 0);
+        if (rootCount == 0) {
+            return 0;
+        }
+        int bestMove = moves[0];
+        for (int iteration = 1; iteration <= depth && !stopped; iteration++) {
+            int iterationScore = alphaBeta(position, iteration, 0, -infinity, infinity);
+            if (stopped) {
+                if (iteration == 1 && pvLength[0] > 0) {
+                    bestMove = pv[0];
+                }
+                break;
+            }
+            bestMove = pv[0];
+            score = iterationScore;
+            if (listener != null) {
+                long millisElapsed = (System.nanoTime() - start) / 1_000_000L;
+                listener.iteration(iteration, score, nodes, millisElapsed, Arrays.copyOf(pv, pvLength[0]));
+            }
+            if (Math.abs(score) >= MATE_BOUND && MATE - Math.abs(score) <= iteration) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Stops the running search (thread safe).
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Clears a stop requested while no search was running.
+     */
+    public void reset() {
+        stopped = false;
+    }
+
+    /**
+     * Returns the number of nodes searched by the last search.
+     *
+     * @return node count
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the score of the last completed iteration.
+     *
+     * @return score for the side to move
+     */
+    public int score() {
+        return score;
+    }
+
+    /**
+     * Returns the score of the position by principal variation search.
+     *
+     * @param position chess position
+     * @param depth    remaining depth in plies
+     * @param ply      distance from root in plies
+     * @param alpha    lower bound
+     * @param beta     upper bound
+     * @return score for the side to move
+     */
+    private int alphaBeta(Position position, int depth, int ply, int alpha, int beta) {
+        pvLength[ply] = 0;
+        if (ply > 0 && (position.halfMoveClock >= 100 || position.isRepetition())) {
+            return 0;
+        }
+        boolean inCheck = position.inCheck();
+        if (inCheck) {
+            depth++;
+        }
+        if (depth <= 0 || ply >= MAX_DEPTH) {
+            return quiesce(position, ply, alpha, beta);
+        }
+        if (poll()) {
+            return 0;
+        }
+
+        long key = position.key();
+        long data = table.probe(key);
+        int hashMove = 0;
+        if (data != 0L) {
+            hashMove = moveOf(data);
+            if (ply > 0 && depthOf(data) >= depth) {
+                int hashScore = fromTable(scoreOf(data), ply);
+                int bound = boundOf(data);
+                if (bound == BOUND_EXACT || bound == BOUND_LOWER && hashScore >= beta
+                    || bound == BOUND_UPPER && hashScore <= alpha) {
+                    return hashScore;
+                }
+            }
+        }
+
+        int offset = ply * MAX_MOVES;
+        int end = offset + legalMoves(position, moves, offset);
+        if (end == offset) {
+            return inCheck ? ply - MATE : 0;
+        }
+        order(offset, end, hashMove, ply);
+
+        int originalAlpha = alpha;
+        int best = -infinity;
+        int bestMove = 0;
+        for (int i = offset; i < end; i++) {
+            int move = next(i, end);
+            position.makeMove(move);
+            int value;
+            if (i == offset) {
+                value = -alphaBeta(position, depth - 1, ply + 1, -beta, -alpha);
+            }
+            else {
+                value = -alphaBeta(position, depth - 1, ply + 1, -alpha - 1, -alpha);
+                if (alpha < value && value < beta) {
+                    value = -alphaBeta(position, depth - 1, ply + 1, -beta, -alpha);
+                }
+            }
+            position.unmakeMove();
+            if (stopped) {
+                return 0;
+            }
+
+            if (value > best) {
+                best = value;
+                bestMove = move;
+                if (value > alpha) {
+                    alpha = value;
+                    updatePv(ply, move);
+                    if (value >= beta) {
+                        if (!isTactical(move)) {
+                            storeKiller(ply, move);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = best >= beta ? BOUND_LOWER : best > originalAlpha ? BOUND_EXACT : BOUND_UPPER;
+        table.store(key, bestMove, depth, bound, toTable(best, ply));
+        return best;
+    }
+
+    /**
+     * Returns the score of the position searching captures and promotions only.
+     *
+     * @param position chess position
+     * @param ply      distance from root in plies
+     * @param alpha    lower bound
+     * @param beta     upper bound
+     * @return score for the side to move
+     */
+    private int quiesce(Position position, int ply, int alpha, int beta) {
+        pvLength[ply] = 0;
+        if (poll()) {
+            return 0;
+        }
+        int standPat = evaluate(position);
+        if (standPat >= beta || ply >= MAX_DEPTH) {
+            return standPat;
+        }
+        alpha = Math.max(alpha, standPat);
+
+        int offset = ply * MAX_MOVES;
+        int end = offset;
+        int count = legalMoves(position, moves, offset);
+        for (int i = offset; i < offset + count; i++) {
+            if (isTactical(moves[i])) {
+                moves[end++] = moves[i];
+            }
+        }
+        order(offset, end, 0, ply);
+
+        int best = standPat;
+        for (int i = offset; i < end; i++) {
+            int move = next(i, end);
+            position.makeMove(move);
+            int value = -quiesce(position, ply + 1, -beta, -alpha);
+            position.unmakeMove();
+            if (stopped) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+                if (value > alpha) {
+                    alpha = value;
+                    updatePv(ply, move);
+                    if (value >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts a node and returns if the search must stop.
+     *
+     * @return true if stopped, false otherwise
+     */
+    private boolean poll() {
+        if (++nodes >= nodeLimit || (nodes & pollMask) == 0 && timed && System.nanoTime() - deadline >= 0L) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    /**
+     * Scores moves for ordering: hash move, captures and promotions by MVV-LVA, killers, then quiet moves.
+     *
+     * @param offset   first move index
+     * @param end      move end index
+     * @param hashMove transposition table move, or zero
+     * @param ply      distance from root in plies
+     */
+    private void order(int offset, int end, int hashMove, int ply) {
+        int killer0 = killers[ply << 1];
+        int killer1 = killers[ply << 1 | 1];
+        for (int i = offset; i < end; i++) {
+            int move = moves[i];
+            int value;
+            if (move == hashMove) {
+                value = 1 << 30;
+            }
+            else if (isTactical(move)) {
+                int capture = move >>> 15 & 0x7;
+                int promotion = move >>> 18 & 0x7;
+                int victim = capture != 0 ? pieceValue[capture] : pieceValue[1];
+                value = (1 << 20) + (victim + pieceValue[promotion]) * 8 - (move >>> 12 & 0x7);
+            }
+            else if (move == killer0) {
+                value = 1 << 19;
+            }
+            else if (move == killer1) {
+                value = (1 << 19) - 1;
+            }
+            else {
+                value = 0;
+            }
+            orders[i] = value;
+        }
+    }
+
+    /**
+     * Moves the best ordered remaining move to index and returns it.
+     *
+     * @param index next move index
+     * @param end   move end index
+     * @return move hash
+     */
+    private int next(int index, int end) {
+        int best = index;
+        for (int i = index + 1; i < end; i++) {
+            if (orders[i] > orders[best]) {
+                best = i;
+            }
+        }
+        int move = moves[best];
+        moves[best] = moves[index];
+        moves[index] = move;
+        int value = orders[best];
+        orders[best] = orders[index];
+        orders[index] = value;
+        return move;
+    }
+
+    /**
+     * Sets the principal variation of ply to move followed by the principal variation of the next ply.
+     *
+     * @param ply  distance from root in plies
+     * @param move move hash
+     */
+    private void updatePv(int ply, int move) {
+        int row = ply * MAX_PLY;
+        pv[row] = move;
+        if (ply + 1 < MAX_PLY) {
+            int length = pvLength[ply + 1];
+            System.arraycopy(pv, row + MAX_PLY, pv, row + 1, length);
+            pvLength[ply] = length + 1;
+        }
+        else {
+            pvLength[ply] = 1;
+        }
+    }
+
+    /**
+     * Records a quiet move that caused a beta cut-off.
+     *
+     * @param ply  distance from root in plies
+     * @param move move hash
+     */
+    private void storeKiller(int ply, int move) {
+        if (killers[ply << 1] != move) {
+            killers[ply << 1 | 1] = killers[ply << 1];
+            killers[ply << 1] = move;
+        }
+    }
+
+    /**
+     * Returns if move captures or promotes.
+     *
+     * @param move move hash
+     * @return true if move is a capture or a promotion, false otherwise
+     */
+    private static boolean isTactical(int move) {
+        int type = move >>> 22 & 0x7;
+        return MoveType.isCaptureIndex(type) || MoveType.isPromotionIndex(type);
+    }
+
+    /**
+     * Returns score for storage, with mate scores made relative to the position.
+     *
+     * @param score score relative to the root
+     * @param ply   distance from root in plies
+     * @return table score
+     */
+    private static int toTable(int score, int ply) {
+        return score >= MATE_BOUND ? score + ply : score <= -MATE_BOUND ? score - ply : score;
+    }
+
+    /**
+     * Returns stored score with mate scores made relative to the root.
+     *
+     * @param score table score
+     * @param ply   distance from root in plies
+     * @return score relative to the root
+     */
+    private static int fromTable(int score, int ply) {
+        return score >= MATE_BOUND ? score - ply : score <= -MATE_BOUND ? score + ply : score;
+    }
+}
@@ -94,7 +94,10 @@ public enum Square {
      */
     public static Square squareFromIndex(byte index) {
         if (index < 0 || 63 < index) {
-            Exception cause = new Exception("index: " + index);
+            if (ChessException.SHARED) {
+                throw ChessException.sharedException("chess.square.index.invalid");
+            }
+            ChessException cause = new ChessException("index: " + index);
             throw new ChessException("chess.square.index.invalid", cause);
         }
         return squareArray[index];
@@ -109,13 +112,53 @@ public enum Square {
      */
     public static Square squareFor(char file, int rank) {
         if (file < 'a' || 'h' < file || rank < 1 || 8 < rank) {
-            Exception cause = new Exception("file: " + file + " rank: " + rank);
+            if (ChessException.SHARED) {
+                throw ChessException.sharedException("chess.square.coordinate.invalid");
+            }
+            ChessException cause = new ChessException("file: " + file + " rank: " + rank);
             throw new ChessException("chess.square.coordinate.invalid", cause);
         }
         int index = ((rank - 1) << 3) | (file - 'a');
         return squareArray[index];
     }
 
+    /**
+     * Returns the square index at delta distance, or <code>-1</code> when off the board.
+     *
+     * @param square    square index
+     * @param deltaFile change in file
+     * @param deltaRank change in rank
+     * @return square index at delta distance or <code>-1</code>
+     */
+    public static int translateIndex(int square, int deltaFile, int deltaRank) {
+        int column = (square & 0x7) + deltaFile;
+        int row = (square >> 3) + deltaRank;
+        if ((column | row) < 0 || 7 < column || 7 < row) {
+            return -1;
+        }
+        return row << 3 | column;
+    }
+
+    /**
+     * Returns file of square index.
+     *
+     * @param square square index
+     * @return file index (0 for file a to 7 for file h)
+     */
+    public static int fileIndex(int square) {
+        return square & 0x7;
+    }
+
+    /**
+     * Returns rank of square index.
+     *
+     * @param square square index (0 to 63)
+     * @return rank index (0 for rank 1 to 7 for rank 8)
+     */
+    public static int rankIndex(int square) {
+        return square >> 3;
+    }
+
     private final byte index;
 
     /**
@@ -153,16 +196,30 @@ public enum Square {
      * @return board square at delta distance
      */
     public Square translate(int deltaFile, int deltaRank) {
-        int column = (index & 0x7) + deltaFile;
-        int row = (index >> 3) + deltaRank;
-        if (0 <= column && column <= 7 && 0 <= row && row <= 7) {
-            return squareArray[row << 3 | column];
+        int square = translateIndex(index, deltaFile, deltaRank);
+        if (square >= 0) {
+            return squareArray[square];
+        }
+        if (ChessException.SHARED) {
+            throw ChessException.sharedException("chess.square.translate.delta.invalid");
         }
         String causeMessage = "square: " + this + " deltaFile: " + deltaFile + " deltaRank: " + deltaRank;
         ChessException cause = new ChessException(causeMessage);
         throw new ChessException("chess.square.translate.delta.invalid", cause);
     }
 
+    /**
+     * Returns the board square at delta distance, or <code>null</code> when off the board.
+     *
+     * @param deltaFile change in file
+     * @param deltaRank change in rank
+     * @return board square at delta distance or <code>null</code>
+     */
+    public Square translateOrNull(int deltaFile, int deltaRank) {
+        int square = translateIndex(index, deltaFile, deltaRank);
+        return square >= 0 ? squareArray[square] : null;
+    }
+
     /**
      * Translate a square up in rank.
      *
@@ -0,0 +1,276 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * <p>Chess search transposition table.
+ * </p>
+ * <p>The table is a power-of-two number of buckets in a single <code>long[]</code>, each bucket holding four entries
+ * (one 64 byte cache line). An entry is a pair of longs: the checked key (position key XOR data) and the data, packed
+ * as age[51..58] score[35..50] bound[33..34] depth[25..32] move[0..24], where the move is the 25-bit
+ * {@link MoveIdentity} hash. Threads read and write entries without locks; an entry torn by a concurrent write fails
+ * the key check and reads as a miss.
+ * </p>
+ * <p>On store, an entry for the same key is replaced in place; otherwise the entry with the lowest depth, less eight
+ * plies for each search generation it has aged, is replaced.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TranspositionTable {
+
+    /** Constant <code>MAX_MEGABYTES</code> for the largest table size. */
+    public static final int MAX_MEGABYTES = 8192;
+
+    /** Constant <code>BOUND_UPPER</code> for a score at most the entry score (fail low). */
+    public static final int BOUND_UPPER = 1;
+
+    /** Constant <code>BOUND_LOWER</code> for a score at least the entry score (fail high). */
+    public static final int BOUND_LOWER = 2;
+
+    /** Constant <code>BOUND_EXACT</code> for an exact score. */
+    public static final int BOUND_EXACT = 3;
+
+    /** Constant <code>BUCKET_ENTRIES</code> for the number of entries in a bucket. */
+    static final int BUCKET_ENTRIES = 4;
+
+    /** Constant <code>BUCKET_BYTES</code> for the size of a bucket. */
+    static final int BUCKET_BYTES = 64;
+
+    /** Constant <code>hashfullBuckets</code> for the number of buckets sampled by {@link #hashfull()}. */
+    private static final int hashfullBuckets = 250;
+
+    /** Constant <code>clearChunk</code> for the number of longs cleared by each parallel task. */
+    private static final int clearChunk = 1 << 20;
+
+    /**
+     * Chess transposition table factory method.
+     *
+     * @param megabytes table size in megabytes (1 to {@link #MAX_MEGABYTES})
+     * @return new instance of transposition table
+     */
+    public static TranspositionTable transpositionTableFor(int megabytes) {
+        return new TranspositionTable(bucketsFor(megabytes));
+    }
+
+    /**
+     * Returns best move of entry data.
+     *
+     * @param data entry data
+     * @return move hash, zero if none
+     */
+    public static int moveOf(long data) {
+        return (int) data & 0x1ffffff;
+    }
+
+    /**
+     * Returns search depth of entry data.
+     *
+     * @param data entry data
+     * @return depth in plies
+     */
+    public static int depthOf(long data) {
+        return (int) (data >>> 25) & 0xff;
+    }
+
+    /**
+     * Returns bound type of entry data.
+     *
+     * @param data entry data
+     * @return bound type
+     */
+    public static int boundOf(long data) {
+        return (int) (data >>> 33) & 0x3;
+    }
+
+    /**
+     * Returns score of entry data.
+     *
+     * @param data entry data
+     * @return score
+     */
+    public static int scoreOf(long data) {
+        return (short) (data >>> 35);
+    }
+
+    /**
+     * Returns search generation of entry data.
+     *
+     * @param data entry data
+     * @return age
+     */
+    public static int ageOf(long data) {
+        return (int) (data >>> 51) & 0xff;
+    }
+
+    /**
+     * Returns bucket count for table size.
+     *
+     * @param megabytes table size in megabytes
+     * @return bucket count (power of two)
+     */
+    private static int bucketsFor(int megabytes) {
+        if (megabytes < 1 || MAX_MEGABYTES < megabytes) {
+            ChessException cause = new ChessException("megabytes: " + megabytes);
+            throw new ChessException("chess.transposition.table.size.invalid", cause);
+        }
+        return (int) Long.highestOneBit(((long) megabytes << 20) / BUCKET_BYTES);
+    }
+
+    /** Buckets of entry pairs; index: bucket * 8 + entry * 2, value: checked key, data */
+    private long[] table;
+
+    private int mask;
+
+    private int age;
+
+    /**
+     * Transposition table constructor (private).
+     *
+     * @param buckets bucket count (power of two)
+     */
+    private TranspositionTable(int buckets) {
+        this.table = new long[buckets * BUCKET_ENTRIES * 2];
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * Returns entry data for position key, or zero when absent. A hit refreshes the entry age.
+     *
+     * @param key position key
+     * @return entry data or zero
+     */
+    public long probe(long key) {
+        int bucket = ((int) key & mask) << 3;
+        for (int i = bucket; i < bucket + 8; i += 2) {
+            long data = table[i + 1];
+            if (data != 0L && (table[i] ^ data) == key) {
+                if (ageOf(data) != age) {
+                    data = data & ~(0xffL << 51) | (long) age << 51;
+                    table[i] = key ^ data;
+                    table[i + 1] = data;
+                }
+                return data;
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Stores search result for position key.
+     *
+     * @param key   position key
+     * @param move  best move hash, zero to keep the stored move
+     * @param depth search depth in plies (0 to 255)
+     * @param bound bound type
+     * @param score score (-32768 to 32767)
+     */
+    public void store(long key, int move, int depth, int bound, int score) {
+        int bucket = ((int) key & mask) << 3;
+        int replace = bucket;
+        int replaceValue = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + 8; i += 2) {
+            long data = table[i + 1];
+            if (data == 0L || (table[i] ^ data) == key) {
+                if (move == 0 && data != 0L) {
+                    move = moveOf(data);
+                }
+                replace = i;
+                break;
+            }
+            int value = depthOf(data) - 8 * (age - ageOf(data) & 0xff);
+            if (value < replaceValue) {
+                replace = i;
+                replaceValue = value;
+            }
+        }
+
+        long data = (long) age << 51 | (score & 0xffffL) << 35 | (long) (bound & 0x3) << 33
+            | (long) (depth & 0xff) << 25 | move & 0x1ffffff;
+        table[replace] = key ^ data;
+        table[replace + 1] = data;
+    }
+
+    /**
+     * Starts a new search generation, ageing existing entries.
+     */
+    public void newSearch() {
+        age = age + 1 & 0xff;
+    }
+
+    /**
+     * Returns current search generation.
+     *
+     * @return age
+     */
+    public int age() {
+        return age;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    public int capacity() {
+        return (mask + 1) * BUCKET_ENTRIES;
+    }
+
+    /**
+     * Returns the permille of sampled entries written in the current search generation.
+     *
+     * @return hashfull permille
+     */
+    public int hashfull() {
+        int buckets = Math.min(hashfullBuckets, mask + 1);
+        int used = 0;
+        for (int i = 0; i < buckets << 3; i += 2) {
+            long data = table[i + 1];
+            if (data != 0L && ageOf(data) == age) {
+                used++;
+            }
+        }
+        return used * 1000 / (buckets * BUCKET_ENTRIES);
+    }
+
+    /**
+     * Clears all entries and resets the age, splitting the work across the common fork/join pool (not thread safe
+     * with respect to probes and stores).
+     */
+    public void clear() {
+        long[] entries = table;
+        int chunks = (entries.length + clearChunk - 1) / clearChunk;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * clearChunk;
+            Arrays.fill(entries, from, Math.min(from + clearChunk, entries.length), 0L);
+        });
+        age = 0;
+    }
+
+    /**
+     * Replaces the table with an empty table of the new size (not thread safe).
+     *
+     * @param megabytes table size in megabytes (1 to {@link #MAX_MEGABYTES})
+     */
+    public void resize(int megabytes) {
+        int buckets = bucketsFor(megabytes);
+        table = new long[buckets * BUCKET_ENTRIES * 2];
+        mask = buckets - 1;
+        age = 0;
+    }
+
+    /**
+     * Returns the string representation for the {@link com.github.osmundf.chess.hub.TranspositionTable} by its state.
+     *
+     * @return representational string
+     */
+    @Override
+    public String toString() {
+        return format("TranspositionTable(%d, age: %d, hashfull: %d)", capacity(), age, hashfull());
+    }
+}
@@ -0,0 +1,472 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+
+import static com.github.osmundf.chess.hub.Fen.INITIAL_FEN;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.Search.MATE;
+import static com.github.osmundf.chess.hub.Search.MATE_BOUND;
+import static com.github.osmundf.chess.hub.Search.MAX_DEPTH;
+import static com.github.osmundf.chess.hub.Search.searchFor;
+import static com.github.osmundf.chess.hub.TranspositionTable.transpositionTableFor;
+
+/**
+ * <p>Chess UCI (universal chess interface) engine.
+ * </p>
+ * <p>Reads commands line by line on the calling thread and runs each <code>go</code> on a background search thread,
+ * so <code>stop</code>, <code>isready</code> and <code>quit</code> are handled while searching; a stop is seen by the
+ * next node searched. Commands that change the engine state (<code>position</code>, <code>ucinewgame</code>,
+ * <code>setoption</code>, <code>go</code>) first stop and join a running search. Moves are read and written in long
+ * algebraic notation (<code>e2e4</code>, <code>e7e8q</code>, castling as the king move <code>e1g1</code>).
+ * </p>
+ * <p>A <code>go infinite</code> search that ends on its own (a mate found, or the depth limit) holds its
+ * <code>bestmove</code> until <code>stop</code> or <code>quit</code>, as the protocol requires. A <code>go</code> with
+ * an invalid number is reported and not searched.
+ * </p>
+ * <p>Supported commands: <code>uci</code>, <code>debug</code>, <code>isready</code>, <code>setoption</code>
+ * (<code>Hash</code>, <code>Clear Hash</code>), <code>ucinewgame</code>, <code>position</code>, <code>go</code>
+ * (<code>depth</code>, <code>nodes</code>, <code>movetime</code>, <code>wtime</code>, <code>btime</code>,
+ * <code>winc</code>, <code>binc</code>, <code>movestogo</code>, <code>infinite</code>), <code>stop</code> and
+ * <code>quit</code>.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Uci {
+
+    /** Constant <code>DEFAULT_HASH</code> for the default transposition table size in megabytes. */
+    public static final int DEFAULT_HASH = 16;
+
+    /** Constant <code>promotionChars</code> for promotion suffixes; index: caste index */
+    private static final String promotionChars = " pnbrqk";
+
+    /** Constant <code>moveOverhead</code> for time kept back from each move in milliseconds. */
+    private static final long moveOverhead = 20L;
+
+    /**
+     * Runs a UCI engine on standard input and output.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII));
+        PrintStream output = new PrintStream(System.out, true);
+        uciFor(input, output).run();
+    }
+
+    /**
+     * Chess UCI engine factory method.
+     *
+     * @param input  command input
+     * @param output response output
+     * @return new instance of UCI engine
+     */
+    public static Uci uciFor(BufferedReader input, PrintStream output) {
+        Objects.requireNonNull(input, "chess.uci.input.null");
+        Objects.requireNonNull(output, "chess.uci.output.null");
+        return new Uci(input, output);
+    }
+
+    /**
+     * Returns long algebraic notation for move hash.
+     *
+     * @param hash move hash
+     * @return move notation, <code>0000</code> for the null move
+     */
+    public static String notationFor(int hash) {
+        if (hash == 0) {
+            return "0000";
+        }
+        int type = hash >>> 22 & 0x7;
+        int from = hash >>> 6 & 0x3f;
+        int to = hash & 0x3f;
+        if (MoveType.isCastlingIndex(type)) {
+            to = from & 0x38 | (type == MoveType.CASTLE_SHORT.index() ? 6 : 2);
+        }
+        StringBuilder builder = new StringBuilder(5);
+        builder.append((char) ('a' + (from & 0x7))).append((char) ('1' + (from >> 3)));
+        builder.append((char) ('a' + (to & 0x7))).append((char) ('1' + (to >> 3)));
+        if (MoveType.isPromotionIndex(type)) {
+            builder.append(promotionChars.charAt(hash >>> 18 & 0x7));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the legal move hash for long algebraic notation. Castling is also accepted as the king moving to the
+     * rook square (<code>e1h1</code>).
+     *
+     * @param position chess position
+     * @param notation move notation
+     * @return move hash
+     */
+    public static int moveFor(Position position, CharSequence notation) {
+        Objects.requireNonNull(position, "chess.uci.position.null");
+        Objects.requireNonNull(notation, "chess.uci.notation.null");
+        String text = notation.toString();
+        int[] moves = new int[MAX_MOVES];
+        int count = legalMoves(position, moves, 0);
+        for (int i = 0; i < count; i++) {
+            int hash = moves[i];
+            if (text.equals(notationFor(hash))) {
+                return hash;
+            }
+            if (MoveType.isCastlingIndex(hash >>> 22 & 0x7) && text.equals(squareNotation(hash))) {
+                return hash;
+            }
+        }
+        ChessException cause = new ChessException("notation: " + text);
+        throw new ChessException("chess.uci.move.invalid", cause);
+    }
+
+    /**
+     * Returns from and to squares of move hash in long algebraic notation.
+     *
+     * @param hash move hash
+     * @return from square and to square
+     */
+    private static String squareNotation(int hash) {
+        int from = hash >>> 6 & 0x3f;
+        int to = hash & 0x3f;
+        char[] chars = {
+            (char) ('a' + (from & 0x7)), (char) ('1' + (from >> 3)), (char) ('a' + (to & 0x7)), (char) ('1' + (to >> 3))
+        };
+        return new String(chars);
+    }
+
+    private final BufferedReader input;
+
+    private final PrintStream output;
+
+    private final TranspositionTable table;
+
+    private final Search search;
+
+    private Position position;
+
+    private Thread searchThread;
+
+    private CountDownLatch stopLatch;
+
+    /**
+     * UCI engine constructor (private).
+     *
+     * @param input  command input
+     * @param output response output
+     */
+    private Uci(BufferedReader input, PrintStream output) {
+        this.input = input;
+        this.output = output;
+        this.table = transpositionTableFor(DEFAULT_HASH);
+        this.search = searchFor(table);
+        this.position = Fen.positionFor(INITIAL_FEN);
+    }
+
+    /**
+     * Reads and handles commands until <code>quit</code> or end of input, then stops any running search.
+     */
+    public void run() {
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (!handle(line.trim())) {
+                    break;
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            stopSearch();
+        }
+    }
+
+    /**
+     * Handles a command line.
+     *
+     * @param line command line
+     * @return false to quit, true otherwise
+     */
+    boolean handle(String line) {
+        String[] tokens = line.split("\\s+");
+        switch (tokens[0]) {
+            case "uci":
+                output.println("id name Chess Hub");
+                output.println("id author Osmund");
+                output.println("option name Hash type spin default " + DEFAULT_HASH + " min 1 max "
+                    + TranspositionTable.MAX_MEGABYTES);
+                output.println("option name Clear Hash type button");
+                output.println("uciok");
+                break;
+            case "isready":
+                output.println("readyok");
+                break;
+            case "setoption":
+                stopSearch();
+                setOption(tokens);
+                break;
+            case "ucinewgame":
+                stopSearch();
+                table.clear();
+                break;
+            case "position":
+                stopSearch();
+                setPosition(tokens);
+                break;
+            case "go":
+                stopSearch();
+                go(tokens);
+                break;
+            case "stop":
+                search.stop();
+                releaseBestMove();
+                break;
+            case "quit":
+                return false;
+            default: // debug, ponderhit, unknown and empty lines
+                break;
+        }
+        return true;
+    }
+
+    /**
+     * Handles <code>setoption name &lt;id&gt; [value &lt;x&gt;]</code>.
+     *
+     * @param tokens command tokens
+     */
+    private void setOption(String[] tokens) {
+        StringBuilder name = new StringBuilder();
+        String value = null;
+        for (int i = 1; i < tokens.length; i++) {
+            if ("value".equals(tokens[i])) {
+                value = String.join(" ", Arrays.copyOfRange(tokens, i + 1, tokens.length));
+                break;
+            }
+            if (!"name".equals(tokens[i]) || i > 1) {
+                name.append(name.length() > 0 ? " " : "").append(tokens[i]);
+            }
+        }
+
+        String option = name.toString().toLowerCase(Locale.ROOT);
+        try {
+            if ("hash".equals(option) && value != null) {
+                table.resize(Integer.parseInt(value));
+            }
+            else if ("clear hash".equals(option)) {
+                table.clear();
+            }
+            else {
+                output.println("info string unknown option: " + name);
+            }
+        }
+        catch (NumberFormatException | ChessException e) {
+            output.println("info string invalid option value: " + value);
+        }
+    }
+
+    /**
+     * Handles <code>position [fen &lt;fen&gt; | startpos] moves &lt;move&gt; ...</code>. The position is unchanged
+     * when the FEN is invalid; moves are applied up to the first invalid move.
+     *
+     * @param tokens command tokens
+     */
+    private void setPosition(String[] tokens) {
+        int index = 1;
+        String fen;
+        if (tokens.length > 1 && "startpos".equals(tokens[1])) {
+            fen = INITIAL_FEN;
+            index = 2;
+        }
+        else if (tokens.length > 1 && "fen".equals(tokens[1])) {
+            StringBuilder builder = new StringBuilder();
+            for (index = 2; index < tokens.length && !"moves".equals(tokens[index]); index++) {
+                builder.append(builder.length() > 0 ? " " : "").append(tokens[index]);
+            }
+            fen = builder.toString();
+        }
+        else {
+            output.println("info string invalid position command");
+            return;
+        }
+
+        Position next;
+        try {
+            next = Fen.positionFor(fen);
+        }
+        catch (ChessException e) {
+            output.println("info string invalid fen: " + fen);
+            return;
+        }
+        if (index < tokens.length && "moves".equals(tokens[index])) {
+            for (index++; index < tokens.length; index++) {
+                try {
+                    next.makeMove(moveFor(next, tokens[index]));
+                }
+                catch (ChessException e) {
+                    output.println("info string invalid move: " + tokens[index]);
+                    break;
+                }
+            }
+        }
+        position = next;
+    }
+
+    /**
+     * Handles <code>go</code>, starting a search thread that reports iterations and the best move.
+     *
+     * @param tokens command tokens
+     */
+    private void go(String[] tokens) {
+        int depth = MAX_DEPTH;
+        long nodes = 0L;
+        long moveTime = 0L;
+        long time = 0L;
+        long increment = 0L;
+        long movesToGo = 0L;
+        boolean infinite = false;
+        boolean white = Side.WHITE.index() == position.sideToMove;
+        try {
+            for (int i = 1; i < tokens.length; i++) {
+                String value = i + 1 < tokens.length ? tokens[i + 1] : "0";
+                switch (tokens[i]) {
+                    case "depth":
+                        depth = Math.max(1, Math.min(MAX_DEPTH, Integer.parseInt(value)));
+                        i++;
+                        break;
+                    case "nodes":
+                        nodes = Math.max(1L, Long.parseLong(value));
+                        i++;
+                        break;
+                    case "movetime":
+                        moveTime = Math.max(1L, Long.parseLong(value));
+                        i++;
+                        break;
+                    case "wtime":
+                    case "btime":
+                        if (white == "wtime".equals(tokens[i])) {
+                            time = Math.max(1L, Long.parseLong(value));
+                        }
+                        i++;
+                        break;
+                    case "winc":
+                    case "binc":
+                        if (white == "winc".equals(tokens[i])) {
+                            increment = Math.max(0L, Long.parseLong(value));
+                        }
+                        i++;
+                        break;
+                    case "movestogo":
+                        movesToGo = Math.max(1L, Long.parseLong(value));
+                        i++;
+                        break;
+                    case "infinite":
+                        infinite = true;
+                        break;
+                    default: // ponder, searchmoves
+                        break;
+                }
+            }
+        }
+        catch (NumberFormatException e) {
+            output.println("info string invalid go command");
+            return;
+        }
+
+        long millis = moveTime;
+        if (millis == 0L && time > 0L) {
+            long budget = time / (movesToGo > 0L ? movesToGo : 30L) + increment * 3 / 4;
+            millis = Math.max(1L, Math.min(budget, time / 2) - moveOverhead);
+        }
+
+        Position root = position.copy();
+        int searchDepth = depth;
+        long searchNodes = nodes;
+        long searchMillis = millis;
+        CountDownLatch latch = infinite ? new CountDownLatch(1) : null;
+        stopLatch = latch;
+        searchThread = new Thread(() -> {
+            int best = search.search(root, searchDepth, searchNodes, searchMillis, this::info);
+            if (latch != null) {
+                try {
+                    latch.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            output.println("bestmove " + notationFor(best));
+        }, "chess-hub-search");
+        searchThread.setDaemon(true);
+        searchThread.start();
+    }
+
+    /**
+     * Reports a completed search iteration.
+     *
+     * @param depth  iteration depth
+     * @param score  score for the side to move
+     * @param nodes  nodes searched
+     * @param millis elapsed milliseconds
+     * @param pv     principal variation
+     */
+    private void info(int depth, int score, long nodes, long millis, int[] pv) {
+        StringBuilder builder = new StringBuilder("info depth ").append(depth);
+        if (Math.abs(score) >= MATE_BOUND) {
+            int moves = score > 0 ? (MATE - score + 1) / 2 : -(MATE + score) / 2;
+            builder.append(" score mate ").append(moves);
+        }
+        else {
+            builder.append(" score cp ").append(score);
+        }
+        builder.append(" nodes ").append(nodes);
+        builder.append(" nps ").append(nodes * 1000L / Math.max(1L, millis));
+        builder.append(" time ").append(millis);
+        builder.append(" pv");
+        for (int move : pv) {
+            builder.append(' ').append(notationFor(move));
+        }
+        output.println(builder);
+    }
+
+    /**
+     * Stops and joins a running search, or clears a stop sent while idle.
+     */
+    private void stopSearch() {
+        if (searchThread != null) {
+            search.stop();
+            releaseBestMove();
+            try {
+                searchThread.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            searchThread = null;
+        }
+        search.reset();
+    }
+
+    /**
+     * Releases the best move of an infinite search waiting for <code>stop</code>.
+     */
+    private void releaseBestMove() {
+        CountDownLatch latch = stopLatch;
+        if (latch != null) {
+            latch.countDown();
+            stopLatch = null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.osmundf.chess.hub;
+
+/**
+ * <p>Chess Zobrist keys.
+ * </p>
+ * <p>A position key is the XOR of one random key for each piece on its square, a key for the side to move when black
+ * is to move, one key for each bit set in the castle state and a key for the en passant file when an en passant
+ * target square is set. The keys are generated at class load from a fixed seed, so position keys are stable between
+ * runs.
+ * </p>
+ *
+ * @author Osmund
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Zobrist {
+
+    /** Constant <code>seed</code> for the key generator. */
+    private static final long seed = 0x43686573734875bL;
+
+    /** Piece keys; index: board index &lt;&lt; 6 | square */
+    private static final long[] pieceTable = new long[768];
+
+    /** Castle state keys (XOR of the keys of the bits set); index: castle state hash &amp; 0xff */
+    private static final long[] castleTable = new long[256];
+
+    /** En passant keys; index: file */
+    private static final long[] enPassantTable = new long[8];
+
+    /** Constant <code>sideKey</code> for black to move. */
+    private static final long sideKey;
+
+    static {
+        long state = seed;
+        for (int i = 0; i < pieceTable.length; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            pieceTable[i] = mix(state);
+        }
+
+        long[] castleBits = new long[8];
+        for (int i = 0; i < castleBits.length; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            castleBits[i] = mix(state);
+        }
+        for (int hash = 0; hash < castleTable.length; hash++) {
+            long key = 0L;
+            for (int bit = 0; bit < castleBits.length; bit++) {
+                key ^= (hash >>> bit & 0x1) != 0 ? castleBits[bit] : 0L;
+            }
+            castleTable[hash] = key;
+        }
+
+        for (int i = 0; i < enPassantTable.length; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            enPassantTable[i] = mix(state);
+        }
+
+        state += 0x9e3779b97f4a7c15L;
+        sideKey = mix(state);
+    }
+
+    /**
+     * Returns key for piece on square.
+     *
+     * @param side   side index
+     * @param caste  caste index
+     * @param square square index
+     * @return piece key
+     */
+    public static long pieceKey(int side, int caste, int square) {
+        return pieceTable[Position.boardIndex(side, caste) << 6 | square];
+    }
+
+    /**
+     * Returns key for castle state.
+     *
+     * @param castle castle state hash
+     * @return castle state key
+     */
+    public static long castleKey(byte castle) {
+        return castleTable[castle & 0xff];
+    }
+
+    /**
+     * Returns key for en passant target square, zero when there is none.
+     *
+     * @param square en passant square index, or -1 for none
+     * @return en passant key
+     */
+    public static long enPassantKey(int square) {
+        return square < 0 ? 0L : enPassantTable[square & 0x7];
+    }
+
+    /**
+     * Returns key for side to move, zero for white.
+     *
+     * @param side side index
+     * @return side key
+     */
+    public static long sideKey(int side) {
+        return side == Side.BLACK.index() ? sideKey : 0L;
+    }
+
+    /**
+     * Returns the position key, computed from scratch.
+     *
+     * @param position chess position
+     * @return position key
+     */
+    public static long keyFor(Position position) {
+        long key = sideKey(position.sideToMove) ^ castleKey(position.castle) ^ enPassantKey(position.enPassant);
+        for (int square = 0; square < 64; square++) {
+            int code = position.squares[square];
+            if (code != 0) {
+                key ^= pieceKey(code >> 3, code & 0x7, square);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns SplitMix64 output for generator state.
+     *
+     * @param state generator state
+     * @return random key
+     */
+    private static long mix(long state) {
+        long z = state;
+        z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+        return z ^ z >>> 31;
+    }
+
+    /**
+     * Zobrist constructor (private).
+     */
+    private Zobrist() {
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Attacks.between;
+import static com.github.osmundf.chess.hub.Attacks.bishopAttacks;
+import static com.github.osmundf.chess.hub.Attacks.kingAttacks;
+import static com.github.osmundf.chess.hub.Attacks.knightAttacks;
+import static com.github.osmundf.chess.hub.Attacks.line;
+import static com.github.osmundf.chess.hub.Attacks.pawnAttacks;
+import static com.github.osmundf.chess.hub.Attacks.queenAttacks;
+import static com.github.osmundf.chess.hub.Attacks.rookAttacks;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AttacksTest {
+
+    private static final int[][] rookDelta = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+
+    private static final int[][] bishopDelta = {{1, 1}, {1, -1}, {-1, -1}, {-1, 1}};
+
+    @Test
+    void testLeaperAttacks() {
+        assertEquals(0x20400L, knightAttacks(Square.A1.index()));
+        assertEquals(8, Long.bitCount(knightAttacks(Square.E4.index())));
+        assertEquals(0x302L, kingAttacks(Square.A1.index()));
+        assertEquals(8, Long.bitCount(kingAttacks(Square.E4.index())));
+        assertEquals(0x280000L, pawnAttacks(WHITE.index(), Square.E2.index()));
+        assertEquals(0x28L, pawnAttacks(BLACK.index(), Square.E2.index()));
+        assertEquals(0x20000L, pawnAttacks(WHITE.index(), Square.A2.index()));
+    }
+
+    @Test
+    void testSliderAttacks() {
+        final var random = new Random(0x5eedL);
+        for (var square = 0; square < 64; square++) {
+            for (var i = 0; i < 1000; i++) {
+                final var occupied = random.nextLong() & random.nextLong();
+                final var rook = slide(square, occupied, rookDelta);
+                final var bishop = slide(square, occupied, bishopDelta);
+                assertEquals(rook, rookAttacks(square, occupied));
+                assertEquals(bishop, bishopAttacks(square, occupied));
+                assertEquals(rook | bishop, queenAttacks(square, occupied));
+            }
+            assertEquals(14, Long.bitCount(rookAttacks(square, 0L)));
+        }
+    }
+
+    @Test
+    void testBetweenAndLine() {
+        assertEquals(0x6L, between(Square.A1.index(), Square.D1.index()));
+        assertEquals(0x6L, between(Square.D1.index(), Square.A1.index()));
+        assertEquals(0x0L, between(Square.A1.index(), Square.B3.index()));
+        assertEquals(0x40810204000L, between(Square.H1.index(), Square.B7.index()));
+        assertEquals(0xffL, line(Square.B1.index(), Square.F1.index()));
+        assertEquals(0x8040201008040201L, line(Square.C3.index(), Square.E5.index()));
+        assertEquals(0x0L, line(Square.A1.index(), Square.B3.index()));
+    }
+
+    private static long slide(int square, long occupied, int[][] deltas) {
+        var result = 0L;
+        for (final var delta : deltas) {
+            var file = (square & 0x7) + delta[0];
+            var rank = (square >> 3) + delta[1];
+            while (0 <= file && file <= 7 && 0 <= rank && rank <= 7) {
+                final var bit = 1L << (rank << 3 | file);
+                result |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                file += delta[0];
+                rank += delta[1];
+            }
+        }
+        return result;
+    }
+}
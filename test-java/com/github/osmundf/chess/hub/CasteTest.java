@@ -9,6 +9,7 @@ import static com.github.osmundf.chess.hub.Caste.NONE;
 import static com.github.osmundf.chess.hub.Caste.PAWN;
 import static com.github.osmundf.chess.hub.Caste.QUEEN;
 import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.Caste.valueOfIndex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -31,6 +32,13 @@ class CasteTest {
         assertEquals(0, NONE.value());
     }
 
+    @Test
+    void testValueOfIndex() {
+        for (final var caste : Caste.values()) {
+            assertEquals(caste.value(), valueOfIndex(caste.index()));
+        }
+    }
+
     @Test
     void testIndex() {
         assertEquals(6, KING.index());
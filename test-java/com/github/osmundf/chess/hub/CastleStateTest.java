@@ -10,7 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -491,7 +492,7 @@ class CastleStateTest {
                         final var hash = (byte) (wc << 6 | wr << 4 | bc << 2 | br);
                         final var state1 = castleStateFor(hash);
                         final var state2 = castleStateFor(hash);
-                        assertNotSame(state1, state2);
+                        assertSame(state1, state2);
                         assertEquals(state1, state2);
                         assertNotEquals(state1, null);
                         assertNotEquals(state2, null);
@@ -959,4 +960,67 @@ class CastleStateTest {
             assertEquals("side: NO_SIDE", cause.getMessage());
         }
     }
+
+    @Test
+    void testInternedTransitions() {
+        final var initial = castleStateFor((byte) 0x33);
+        assertSame(castleStateFor((byte) 0x83), initial.castleKingSide(WHITE));
+        assertSame(castleStateFor((byte) 0x34), initial.castleQueenSide(BLACK));
+        assertSame(castleStateFor((byte) 0x03), initial.revokeBoth(WHITE));
+        assertSame(castleStateFor((byte) 0x31), initial.revokeKingSide(BLACK));
+        assertSame(castleStateFor((byte) 0x23), initial.revokeQueenSide(WHITE));
+        assertSame(initial, initial.revokeBoth(BLACK).restoreBoth(BLACK));
+        assertSame(castleStateFor((byte) 0x23), initial.revokeBoth(WHITE).restoreKingSide(WHITE));
+        assertSame(castleStateFor((byte) 0x31), initial.revokeBoth(BLACK).restoreQueenSide(BLACK));
+    }
+
+    @Test
+    void testAfterMove() {
+        final var initial = castleStateFor((byte) 0x33);
+        assertSame(initial, initial.afterMove(Square.E2.index(), Square.E4.index()));
+        assertSame(castleStateFor((byte) 0x03), initial.afterMove(Square.E1.index(), Square.E2.index()));
+        assertSame(castleStateFor((byte) 0x30), initial.afterMove(Square.E8.index(), Square.D7.index()));
+        assertSame(castleStateFor((byte) 0x23), initial.afterMove(Square.A1.index(), Square.A2.index()));
+        assertSame(castleStateFor((byte) 0x13), initial.afterMove(Square.H1.index(), Square.H2.index()));
+        assertSame(castleStateFor((byte) 0x32), initial.afterMove(Square.B2.index(), Square.A8.index()));
+        assertSame(castleStateFor((byte) 0x31), initial.afterMove(Square.G7.index(), Square.H8.index()));
+        assertSame(castleStateFor((byte) 0x21), initial.afterMove(Square.A1.index(), Square.H8.index()));
+    }
+
+    @Test
+    void testCastledHash() {
+        final var white = WHITE.index();
+        final var black = BLACK.index();
+        assertEquals((byte) 0x83, CastleState.castledHash((byte) 0x33, white, true));
+        assertEquals((byte) 0x43, CastleState.castledHash((byte) 0x33, white, false));
+        assertEquals((byte) 0x38, CastleState.castledHash((byte) 0x33, black, true));
+        assertEquals((byte) 0x84, CastleState.castledHash((byte) 0x83, black, false));
+        for (var hash = 0; hash < 256; hash++) {
+            final var state = tryCastleStateFor((byte) hash);
+            if (state == null) {
+                continue;
+            }
+            for (final var side : new Side[] {WHITE, BLACK}) {
+                if (state.hasKingSideRight(side)) {
+                    final var expected = state.castleKingSide(side);
+                    assertEquals((byte) expected.hashCode(), CastleState.castledHash((byte) hash, side.index(), true));
+                }
+                if (state.hasQueenSideRight(side)) {
+                    final var expected = state.castleQueenSide(side);
+                    assertEquals((byte) expected.hashCode(), CastleState.castledHash((byte) hash, side.index(), false));
+                }
+            }
+        }
+        assertNull(tryCastleStateFor((byte) 0xc0));
+    }
+
+    private static CastleState tryCastleStateFor(byte hash) {
+        try {
+            return castleStateFor(hash);
+        }
+        catch (ChessException e) {
+            assertEquals("chess.castle.state.hash.invalid", e.getMessage());
+            return null;
+        }
+    }
 }
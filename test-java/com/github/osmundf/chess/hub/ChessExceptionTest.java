@@ -0,0 +1,57 @@
+package com.github.osmundf.chess.hub;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.ChessException.sharedException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChessExceptionTest {
+
+    @Test
+    void testStackTrace() {
+        final var cause = new ChessException("detail");
+        final var exception = new ChessException("chess.test", cause);
+        assertEquals("chess.test", exception.getMessage());
+        assertSame(cause, exception.getCause());
+        assertEquals(!ChessException.STACKLESS, exception.getStackTrace().length > 0);
+        assertEquals(!ChessException.STACKLESS, cause.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testStackless() {
+        final var cause = new ChessException("detail");
+        final var exception = new ChessException("chess.test", cause, false);
+        assertEquals("chess.test", exception.getMessage());
+        assertSame(cause, exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+        exception.addSuppressed(cause);
+        assertEquals(1, exception.getSuppressed().length);
+    }
+
+    @Test
+    void testSharedException() {
+        final var exception = sharedException("chess.test.shared");
+        assertSame(exception, sharedException("chess.test.shared"));
+        assertNotSame(exception, sharedException("chess.test.other"));
+        assertEquals("chess.test.shared", exception.getMessage());
+        assertNull(exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+        exception.addSuppressed(new ChessException("detail"));
+        assertEquals(0, exception.getSuppressed().length);
+        exception.fillInStackTrace();
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testHotPathMessages() {
+        final var exception = assertThrows(ChessException.class,
+            () -> Square.squareFromIndex((byte) 64));
+        assertEquals("chess.square.index.invalid", exception.getMessage());
+        assertTrue(ChessException.SHARED || exception.getCause() instanceof ChessException);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.ExternalSorter.externalSorterFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalSorterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testFinish() throws IOException {
+        final var random = new Random(28);
+        final var expected = new ArrayList<long[]>();
+        final var actual = new ArrayList<long[]>();
+        // 16 KiB budget: 512 buffered entries and a fan-in of 2, so 20000 entries take many merge passes
+        try (final var sorter = externalSorterFor(directory, "test", 1 << 14, null)) {
+            for (int i = 0; i < 20000; i++) {
+                final var entry = new long[] {random.nextLong() >>> random.nextInt(64), random.nextInt(8)};
+                expected.add(entry);
+                sorter.add(entry[0], entry[1]);
+            }
+            sorter.finish((key, value) -> actual.add(new long[] {key, value}));
+        }
+        expected.sort((a, b) -> a[0] != b[0] ? Long.compareUnsigned(a[0], b[0]) : Long.compare(a[1], b[1]));
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i)[0]);
+            assertEquals(expected.get(i)[1], actual.get(i)[1]);
+        }
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testCombiner() throws IOException {
+        final var combiner = new ExternalSorter.Combiner() {
+            @Override
+            public boolean matches(long value, long other) {
+                return value >>> 32 == other >>> 32;
+            }
+
+            @Override
+            public long combine(long value, long other) {
+                return value + (other & 0xffffffffL);
+            }
+        };
+        final var actual = new ArrayList<String>();
+        try (final var sorter = externalSorterFor(directory, "test", 1 << 14, combiner)) {
+            for (int i = 0; i < 3000; i++) {
+                sorter.add(i % 3, (long) (i % 2) << 32 | 1);
+            }
+            sorter.finish((key, value) -> actual.add(key + ":" + (value >>> 32) + ":" + (value & 0xffffffffL)));
+        }
+        assertEquals(List.of("0:0:500", "0:1:500", "1:0:500", "1:1:500", "2:0:500", "2:1:500"), actual);
+    }
+
+    @Test
+    void testClose() throws IOException {
+        final var sorter = externalSorterFor(directory, "test", 1 << 14, null);
+        for (int i = 0; i < 2000; i++) {
+            sorter.add(-i, i);
+        }
+        try (final var files = Files.list(directory)) {
+            assertTrue(files.count() > 0);
+        }
+        sorter.close();
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.osmundf.chess.hub;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Fen.INITIAL_FEN;
+import static com.github.osmundf.chess.hub.Fen.appendFen;
+import static com.github.osmundf.chess.hub.Fen.fenFor;
+import static com.github.osmundf.chess.hub.Fen.parse;
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
+import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class FenTest {
+
+    private static final String[] fens = {
+        INITIAL_FEN,
+        "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+        "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+        "4k3/8/8/3pP3/8/8/8/4K3 w - d6 12 40"
+    };
+
+    @Test
+    void testInitialFen() {
+        assertEquals(initialPosition(), positionFor(INITIAL_FEN));
+        assertEquals(INITIAL_FEN, fenFor(initialPosition()));
+        assertEquals(initialPosition().key(), positionFor(INITIAL_FEN).key());
+    }
+
+    @Test
+    void testRoundTrip() {
+        for (final var fen : fens) {
+            final var position = positionFor(fen);
+            assertEquals(fen, fenFor(position));
+            assertEquals(Zobrist.keyFor(position), position.key());
+        }
+        assertEquals("x " + INITIAL_FEN, appendFen(initialPosition(), new StringBuilder("x ")).toString());
+    }
+
+    @Test
+    void testMakeMoveFen() {
+        final var position = initialPosition();
+        position.makeMove(hashFor(DOUBLE_PUSH, WHITE, NONE, NONE, PAWN, Square.E2, Square.E4));
+        assertEquals(fens[1], fenFor(position));
+        assertEquals(position, positionFor(fens[1]));
+        assertEquals(position.key(), positionFor(fens[1]).key());
+    }
+
+    @Test
+    void testParseIntoPosition() {
+        final var position = initialPosition();
+        position.makeMove(hashFor(DOUBLE_PUSH, WHITE, NONE, NONE, PAWN, Square.E2, Square.E4));
+        parse(fens[3], position);
+        assertEquals(fens[3], fenFor(position));
+        assertEquals(Square.A5, position.pieceAt(Square.A5).orElseThrow().square());
+        assertEquals(KING, position.pieceAt(Square.H4).orElseThrow().caste());
+        assertEquals(BLACK, position.pieceAt(Square.H4).orElseThrow().side());
+        try {
+            position.unmakeMove();
+            fail("chess.fen.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals("chess.position.unmake.move.empty", e.getMessage());
+        }
+    }
+
+    @Test
+    void testParseBytes() {
+        final var text = "[" + fens[2] + "]";
+        final var bytes = text.getBytes(StandardCharsets.US_ASCII);
+        final var position = initialPosition();
+        parse(bytes, 1, bytes.length - 2, position);
+        assertEquals(fens[2], fenFor(position));
+        assertEquals(positionFor(fens[2]), position);
+        try {
+            parse(bytes, 1, bytes.length, position);
+            fail("chess.fen.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals("chess.fen.slice.invalid", e.getMessage());
+        }
+    }
+
+    @Test
+    void testOptionalFieldsAndSpaces() {
+        final var position = positionFor("4k3/8/8/8/8/8/8/4K3 b -  -");
+        assertEquals("4k3/8/8/8/8/8/8/4K3 b - - 0 1", fenFor(position));
+        assertEquals("4k3/8/8/8/8/8/8/4K3 w Qk - 3 9", fenFor(positionFor("4k3/8/8/8/8/8/8/4K3  w  kQ  -  3  9 ")));
+        assertFalse(position.inCheck());
+    }
+
+    @Test
+    void testParseException() {
+        assertFenException("chess.fen.board.invalid", "index: 0 fen: ", "");
+        assertFenException("chess.fen.board.invalid", "index: 20 fen: rnbqkbnr/8/8/8/8/8/8 w - -",
+            "rnbqkbnr/8/8/8/8/8/8 w - -");
+        assertFenException("chess.fen.board.invalid", null, "4k3/8/8/8/8/8/8/4K4 w - -");
+        assertFenException("chess.fen.board.invalid", null, "4k3/8/8/8/8/8/8/4K2X w - -");
+        assertFenException("chess.fen.board.invalid", null, "4k3/8/8/8/8/8/8/4K3/8 w - -");
+        assertFenException("chess.fen.king.count.invalid", null, "4k3/8/8/8/8/8/8/8 w - -");
+        assertFenException("chess.fen.king.count.invalid", null, "4k3/8/8/8/8/8/8/3KK3 w - -");
+        assertFenException("chess.fen.side.to.move.invalid", null, "4k3/8/8/8/8/8/8/4K3 x - -");
+        assertFenException("chess.fen.side.to.move.invalid", null, "4k3/8/8/8/8/8/8/4K3");
+        assertFenException("chess.fen.castle.invalid", null, "4k3/8/8/8/8/8/8/4K3 w KK -");
+        assertFenException("chess.fen.castle.invalid", null, "4k3/8/8/8/8/8/8/4K3 w -K -");
+        assertFenException("chess.fen.castle.invalid", null, "4k3/8/8/8/8/8/8/4K3 w");
+        assertFenException("chess.fen.en.passant.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - e3");
+        assertFenException("chess.fen.en.passant.invalid", null, "4k3/8/8/8/8/8/8/4K3 b - i3");
+        assertFenException("chess.fen.en.passant.invalid", null, "4k3/8/8/8/8/8/8/4K3 b - e33");
+        assertFenException("chess.fen.clock.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - - 0");
+        assertFenException("chess.fen.clock.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - - 0 0");
+        assertFenException("chess.fen.clock.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - - x 1");
+        assertFenException("chess.fen.clock.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - - 1234567890 1");
+        assertFenException("chess.fen.field.count.invalid", null, "4k3/8/8/8/8/8/8/4K3 w - - 0 1 x");
+        try {
+            positionFor(null);
+            fail("chess.fen.test.failed");
+        }
+        catch (NullPointerException e) {
+            assertEquals("chess.fen.null", e.getMessage());
+        }
+    }
+
+    private static void assertFenException(String message, String causeMessage, String fen) {
+        try {
+            positionFor(fen);
+            fail("chess.fen.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals(ChessException.class.getName(), e.getClass().getName());
+            assertEquals(message, e.getMessage());
+            if (causeMessage != null) {
+                assertEquals(causeMessage, e.getCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.GameDatabase.GAMES_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.INDEX_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.OFFSETS_FILE;
+import static com.github.osmundf.chess.hub.GameDatabaseBuilder.MIN_HEAP_BYTES;
+import static com.github.osmundf.chess.hub.GameDatabaseBuilder.gameDatabaseBuilderFor;
+import static com.github.osmundf.chess.hub.GameReader.gameReaderFor;
+import static com.github.osmundf.chess.hub.GameRecord.gameRecordFor;
+import static com.github.osmundf.chess.hub.GameWriter.gameWriterFor;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameDatabaseBuilderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testBuild() throws IOException {
+        final var position = initialPosition();
+        final var e4 = moveFor(position, "e2e4");
+        position.makeMove(e4);
+        final var e5 = moveFor(position, "e7e5");
+
+        try (final var builder = gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES)) {
+            assertEquals(0, builder.addGame(gameRecordFor(Map.of("Event", "one"), "1-0", new int[] {e4, e5})));
+            assertEquals(1, builder.addGame(gameRecordFor(Map.of("Event", "two"), "*", new int[] {e4})));
+            assertEquals(5, builder.build());
+        }
+
+        final var offsets = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(OFFSETS_FILE)));
+        assertEquals(16, offsets.capacity());
+        assertEquals(5, offsets.getLong(0));
+        final var reader = gameReaderFor(Files.newInputStream(directory.resolve(GAMES_FILE)));
+        assertEquals("one", reader.next().tag("Event"));
+        assertEquals("two", reader.next().tag("Event"));
+
+        final var index = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(INDEX_FILE)));
+        final var values = new ArrayList<String>();
+        for (int offset = 0; offset < index.capacity(); offset += 16) {
+            final var key = index.getLong(offset);
+            final var expected = index.getInt(offset + 12) == 0 ? initialPosition().positionKey() : index.getInt(offset + 12)
+                == 1 ? position.positionKey() : key;
+            assertEquals(expected, key);
+            values.add(index.getInt(offset + 8) + ":" + index.getInt(offset + 12));
+        }
+        assertEquals(5, values.size());
+        assertTrue(values.containsAll(List.of("0:0", "0:1", "0:2", "1:0", "1:1")));
+        assertTrue(values.indexOf("0:0") < values.indexOf("1:0"));
+        assertTrue(values.indexOf("0:1") < values.indexOf("1:1"));
+    }
+
+    @Test
+    void testExternalSort() throws IOException {
+        final var pgn = PgnHelper.randomPgn(26, 16000, 32).getBytes(StandardCharsets.ISO_8859_1);
+        final var bytes = new ByteArrayOutputStream();
+        final var writer = gameWriterFor(bytes);
+        final var reader = pgnReaderFor(new ByteArrayInputStream(pgn));
+        for (var game = reader.next(); game != null; game = reader.next()) {
+            writer.write(gameRecordFor(game));
+        }
+        writer.flush();
+
+        final var small = directory.resolve("small");
+        final var large = directory.resolve("large");
+        try (final var builder1 = gameDatabaseBuilderFor(small, MIN_HEAP_BYTES)) {
+            assertEquals(16000, builder1.addGames(gameReaderFor(new ByteArrayInputStream(bytes.toByteArray()))));
+            assertTrue(builder1.build() > 500000);
+        }
+        try (final var builder2 = gameDatabaseBuilderFor(large, 64 * MIN_HEAP_BYTES)) {
+            builder2.addGames(gameReaderFor(new ByteArrayInputStream(bytes.toByteArray())));
+            builder2.build();
+        }
+        assertArrayEquals(Files.readAllBytes(large.resolve(INDEX_FILE)), Files.readAllBytes(small.resolve(INDEX_FILE)));
+        assertArrayEquals(bytes.toByteArray(), Files.readAllBytes(small.resolve(GAMES_FILE)));
+        try (final var files = Files.list(small)) {
+            assertEquals(3, files.count());
+        }
+
+        final var index = ByteBuffer.wrap(Files.readAllBytes(small.resolve(INDEX_FILE)));
+        for (int offset = 16; offset < index.capacity(); offset += 16) {
+            final var compare = Long.compareUnsigned(index.getLong(offset - 16), index.getLong(offset));
+            assertTrue(compare < 0 || compare == 0 && index.getLong(offset - 8) < index.getLong(offset + 8));
+        }
+    }
+
+    @Test
+    void testAddPgnGame() throws IOException {
+        final var pgn = PgnHelper.randomPgn(27, 200, 32).getBytes(StandardCharsets.ISO_8859_1);
+        final var bytes = new ByteArrayOutputStream();
+        final var writer = gameWriterFor(bytes);
+        final var reader = pgnReaderFor(new ByteArrayInputStream(pgn));
+        final var records = directory.resolve("records");
+        final var games = directory.resolve("games");
+        try (final var builder = gameDatabaseBuilderFor(games, MIN_HEAP_BYTES)) {
+            for (var game = reader.next(); game != null; game = reader.next()) {
+                writer.write(gameRecordFor(game));
+                builder.addGame(game);
+            }
+            builder.build();
+        }
+        writer.flush();
+        try (final var builder = gameDatabaseBuilderFor(records, MIN_HEAP_BYTES)) {
+            assertEquals(200, builder.addGames(gameReaderFor(new ByteArrayInputStream(bytes.toByteArray()))));
+            builder.build();
+        }
+        for (final var file : List.of(GAMES_FILE, OFFSETS_FILE, INDEX_FILE)) {
+            assertArrayEquals(Files.readAllBytes(records.resolve(file)), Files.readAllBytes(games.resolve(file)));
+        }
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(NullPointerException.class, () -> gameDatabaseBuilderFor(null, MIN_HEAP_BYTES));
+        final var exception = assertThrows(ChessException.class,
+            () -> gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES - 1));
+        assertEquals("chess.game.database.limit.invalid", exception.getMessage());
+    }
+}
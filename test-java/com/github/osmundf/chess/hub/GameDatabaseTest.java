@@ -0,0 +1,156 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.GameDatabase.GAMES_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.INDEX_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.OFFSETS_FILE;
+import static com.github.osmundf.chess.hub.GameDatabase.gameDatabaseFor;
+import static com.github.osmundf.chess.hub.GameDatabaseBuilder.MIN_HEAP_BYTES;
+import static com.github.osmundf.chess.hub.GameDatabaseBuilder.gameDatabaseBuilderFor;
+import static com.github.osmundf.chess.hub.GameRecord.gameRecordFor;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameDatabaseTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGameIdsFor() throws IOException {
+        final var pgn = PgnHelper.randomPgn(27, 300, 40).getBytes(StandardCharsets.ISO_8859_1);
+        final var records = new ArrayList<GameRecord>();
+        final var reader = pgnReaderFor(new ByteArrayInputStream(pgn));
+        try (final var builder = gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES)) {
+            for (var game = reader.next(); game != null; game = reader.next()) {
+                final var record = gameRecordFor(game);
+                records.add(record);
+                builder.addGame(record);
+            }
+            builder.addGame(gameRecordFor(Map.of("FEN", "4k3/8/8/8/8/8/8/4K2R w K - 0 1"), "1-0", new int[0]));
+            builder.build();
+        }
+
+        final var database = gameDatabaseFor(directory);
+        assertEquals(301, database.games());
+        assertEquals(records.stream().mapToInt(r -> r.plyCount() + 1).sum() + 1, database.entries());
+        assertEquals(300, database.gameIdsFor(initialPosition(), Integer.MAX_VALUE).length);
+        assertArrayEquals(new int[] {0, 1, 2}, database.gameIdsFor(initialPosition(), 3));
+        assertEquals(0, database.gameIdsFor(initialPosition(), 0).length);
+        assertArrayEquals(new int[] {300},
+            database.gameIdsFor(Fen.positionFor("4k3/8/8/8/8/8/8/4K2R w K - 0 1"), 10));
+        assertEquals(0, database.gameIdsFor(Fen.positionFor("4k3/8/8/8/8/8/8/4K2R b K - 0 1"), 10).length);
+
+        for (int id = 0; id < records.size(); id += 7) {
+            final var expected = records.get(id);
+            final var actual = database.game(id);
+            assertEquals(expected.tags(), actual.tags());
+            assertEquals(expected.result(), actual.result());
+            final var moves = actual.moves();
+            assertArrayEquals(expected.moves(), moves);
+
+            final var position = actual.startPosition();
+            for (int ply = 0; ply < moves.length; ply++) {
+                position.makeMove(moves[ply]);
+            }
+            final var ids = database.gameIdsFor(position, Integer.MAX_VALUE);
+            int found = -1;
+            for (int i = 0; i < ids.length; i++) {
+                assertTrue(i == 0 || ids[i - 1] < ids[i]);
+                found = ids[i] == id ? i : found;
+            }
+            assertTrue(found >= 0);
+
+            final var entry = database.find(position.positionKey());
+            assertEquals(position.positionKey(), database.key(entry));
+            assertTrue(entry == 0 || database.key(entry - 1) != position.positionKey());
+        }
+        assertEquals(-1, database.find(0L));
+        assertEquals("1-0", database.game(300).result());
+
+        final var exception = assertThrows(ChessException.class, () -> database.game(301));
+        assertEquals("chess.game.database.id.invalid", exception.getMessage());
+        assertThrows(ChessException.class, () -> database.game(-1));
+        assertThrows(NullPointerException.class, () -> database.gameIdsFor(null, 1));
+    }
+
+    @Test
+    void testTransposition() throws IOException {
+        final var orders = List.of(List.of("e2e4", "e7e5", "g1f3", "b8c6"), List.of("g1f3", "b8c6", "e2e4", "e7e5"),
+            List.of("e2e4", "e7e5", "g1f3", "b8c6", "f1c4", "f8c5", "e1g1"),
+            List.of("g1f3", "b8c6", "e2e4", "e7e5", "f1c4", "f8c5", "e1g1"));
+        final var positions = new ArrayList<Position>();
+        try (final var builder = gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES)) {
+            for (final var order : orders) {
+                final var position = initialPosition();
+                final var moves = new int[order.size()];
+                for (int ply = 0; ply < moves.length; ply++) {
+                    moves[ply] = Uci.moveFor(position, order.get(ply));
+                    position.makeMove(moves[ply]);
+                }
+                positions.add(position);
+                builder.addGame(gameRecordFor(Map.of(), "*", moves));
+            }
+            builder.build();
+        }
+        final var database = gameDatabaseFor(directory);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, database.gameIdsFor(positions.get(0), 4));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, database.gameIdsFor(positions.get(1), 4));
+        assertArrayEquals(new int[] {2, 3}, database.gameIdsFor(positions.get(2), 4));
+        assertArrayEquals(new int[] {2, 3}, database.gameIdsFor(positions.get(3), 4));
+    }
+
+    @Test
+    void testPly() throws IOException {
+        final var position = initialPosition();
+        final var e4 = Uci.moveFor(position, "e2e4");
+        try (final var builder = gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES)) {
+            builder.addGame(gameRecordFor(Map.of(), "*", new int[] {e4}));
+            builder.build();
+        }
+        final var database = gameDatabaseFor(directory);
+        final var entry = database.find(initialPosition().positionKey());
+        assertEquals(0, database.gameId(entry));
+        assertEquals(0, database.ply(entry));
+        position.makeMove(e4);
+        assertEquals(1, database.ply(database.find(position.positionKey())));
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        try (final var builder = gameDatabaseBuilderFor(directory, MIN_HEAP_BYTES)) {
+            builder.build();
+        }
+        final var database = gameDatabaseFor(directory);
+        assertEquals(0, database.games());
+        assertEquals(0, database.entries());
+        assertEquals(0, database.gameIdsFor(initialPosition(), 10).length);
+
+        Files.write(directory.resolve(INDEX_FILE), new byte[17]);
+        final var length = assertThrows(IOException.class, () -> gameDatabaseFor(directory));
+        assertEquals("chess.game.database.length.invalid", length.getMessage());
+        Files.write(directory.resolve(INDEX_FILE), new byte[0]);
+        Files.write(directory.resolve(OFFSETS_FILE), new byte[7]);
+        assertThrows(IOException.class, () -> gameDatabaseFor(directory));
+        Files.write(directory.resolve(OFFSETS_FILE), new byte[0]);
+        Files.write(directory.resolve(GAMES_FILE), new byte[] {'C', 'H', 'G', 'R', 2});
+        final var header = assertThrows(IOException.class, () -> gameDatabaseFor(directory));
+        assertEquals("chess.game.header.invalid", header.getMessage());
+        assertThrows(NullPointerException.class, () -> gameDatabaseFor(null));
+    }
+}
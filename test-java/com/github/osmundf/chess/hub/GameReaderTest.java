@@ -0,0 +1,81 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.GameReader.gameReaderFor;
+import static com.github.osmundf.chess.hub.GameRecord.gameRecordFor;
+import static com.github.osmundf.chess.hub.GameWriter.gameWriterFor;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameReaderTest {
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final var pgn = PgnHelper.randomPgn(25, 500, 100).getBytes(StandardCharsets.ISO_8859_1);
+        final var reader = pgnReaderFor(new ByteArrayInputStream(pgn));
+        final var records = new ArrayList<GameRecord>();
+        final var bytes = new ByteArrayOutputStream();
+        final var writer = gameWriterFor(bytes);
+        for (var game = reader.next(); game != null; game = reader.next()) {
+            final var record = gameRecordFor(game);
+            records.add(record);
+            writer.write(record);
+        }
+        writer.write(gameRecordFor(Map.of("Event", "café", "FEN", "4k3/8/8/8/8/8/8/4K2R w K - 0 1"), "*",
+            new int[] {Uci.moveFor(Fen.positionFor("4k3/8/8/8/8/8/8/4K2R w K - 0 1"), "e1g1")}));
+        writer.flush();
+        assertTrue(bytes.size() * 4 < pgn.length, bytes.size() + " " + pgn.length);
+
+        final var input = gameReaderFor(new ByteArrayInputStream(bytes.toByteArray()));
+        for (final var expected : records) {
+            final var actual = input.next();
+            assertEquals(expected.tags(), actual.tags());
+            assertEquals(expected.result(), actual.result());
+            assertArrayEquals(expected.moves(), actual.moves());
+        }
+        final var last = input.next();
+        assertEquals("café", last.tag("Event"));
+        assertEquals("e1g1", Uci.notationFor(last.moves()[0]));
+        assertNull(input.next());
+    }
+
+    @Test
+    void testInvalid() throws IOException {
+        final var header = assertThrows(IOException.class,
+            () -> gameReaderFor(new ByteArrayInputStream(new byte[] {'C', 'H', 'G', 'R', 2})));
+        assertEquals("chess.game.header.invalid", header.getMessage());
+        assertThrows(EOFException.class, () -> gameReaderFor(new ByteArrayInputStream(new byte[] {'C', 'H'})));
+
+        final var bytes = new ByteArrayOutputStream();
+        final var writer = gameWriterFor(bytes);
+        writer.write(gameRecordFor(Map.of("Event", "truncated"), 1, new byte[] {1, 2, 3}));
+        writer.flush();
+        final var data = bytes.toByteArray();
+        for (int length = 6; length < data.length; length++) {
+            final var reader = gameReaderFor(new ByteArrayInputStream(Arrays.copyOf(data, length)));
+            final var exception = assertThrows(EOFException.class, reader::next);
+            assertEquals("chess.game.record.truncated", exception.getMessage());
+        }
+
+        final var result = gameReaderFor(new ByteArrayInputStream(new byte[] {'C', 'H', 'G', 'R', 1, 0, 4, 0}));
+        assertEquals("chess.game.result.invalid", assertThrows(IOException.class, result::next).getMessage());
+        final var varint = new byte[] {'C', 'H', 'G', 'R', 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f};
+        final var overflow = gameReaderFor(new ByteArrayInputStream(varint));
+        assertEquals("chess.game.varint.invalid", assertThrows(IOException.class, overflow::next).getMessage());
+        assertThrows(NullPointerException.class, () -> gameReaderFor(null));
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.GameRecord.gameRecordFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameRecordTest {
+
+    @Test
+    void testGameRecordFor() {
+        final var position = initialPosition();
+        final var moves = new int[] {moveFor(position, "e2e4")};
+        position.makeMove(moves[0]);
+        final var tags = new LinkedHashMap<String, String>();
+        tags.put("White", "A");
+        tags.put("Black", "B");
+        final var record = gameRecordFor(tags, "1-0", moves);
+        tags.clear();
+
+        assertEquals(List.of("White", "Black"), List.copyOf(record.tags().keySet()));
+        assertEquals("A", record.tag("White"));
+        assertEquals("1-0", record.result());
+        assertEquals(1, record.plyCount());
+        assertArrayEquals(moves, record.moves());
+        assertEquals("GameRecord({White=A, Black=B}, 1 plies 1-0)", record.toString());
+
+        final var legal = new int[MAX_MOVES];
+        final var count = legalMoves(initialPosition(), legal);
+        Arrays.sort(legal, 0, count);
+        assertEquals(Arrays.binarySearch(legal, 0, count, moves[0]), record.plies[0]);
+
+        assertEquals(PgnGame.UNKNOWN_RESULT, gameRecordFor(Map.of(), "?", new int[0]).result());
+        assertEquals("1/2-1/2", gameRecordFor(Map.of(), "1/2-1/2", new int[0]).result());
+    }
+
+    @Test
+    void testFromPgn() {
+        final var pgn = PgnHelper.randomPgn(24, 200, 120);
+        final var games = pgnReaderFor(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.ISO_8859_1)))
+            .stream(false)
+            .collect(Collectors.toList());
+        for (final var game : games) {
+            final var record = gameRecordFor(game);
+            assertArrayEquals(game.moves(), record.moves());
+            assertEquals(game.result(), record.result());
+        }
+
+        final var fen = "4k3/P7/8/8/8/8/8/4K2R w K - 0 1";
+        final var record = gameRecordFor(Map.of("FEN", fen), "*", new int[] {moveFor(Fen.positionFor(fen), "a7a8n")});
+        assertEquals("a7a8n", Uci.notationFor(record.moves()[0]));
+    }
+
+    @Test
+    void testInvalid() {
+        final var position = initialPosition();
+        final var exception = assertThrows(ChessException.class,
+            () -> gameRecordFor(Map.of(), "*", new int[] {moveFor(position, "e2e4"), moveFor(position, "d2d4")}));
+        assertEquals("chess.game.move.invalid", exception.getMessage());
+
+        final var record = gameRecordFor(Map.of(), 0, new byte[] {(byte) 20});
+        final var plyException = assertThrows(ChessException.class, record::moves);
+        assertEquals("chess.game.ply.invalid", plyException.getMessage());
+
+        assertThrows(NullPointerException.class, () -> gameRecordFor(null, "*", new int[0]));
+        assertThrows(NullPointerException.class, () -> gameRecordFor(Map.of(), null, new int[0]));
+        assertThrows(NullPointerException.class, () -> gameRecordFor(Map.of(), "*", null));
+        assertThrows(NullPointerException.class, () -> gameRecordFor(null));
+    }
+}
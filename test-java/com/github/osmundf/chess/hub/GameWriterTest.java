@@ -0,0 +1,49 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.GameRecord.gameRecordFor;
+import static com.github.osmundf.chess.hub.GameWriter.gameWriterFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameWriterTest {
+
+    @Test
+    void testWrite() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var writer = gameWriterFor(bytes);
+        writer.flush();
+        assertArrayEquals(new byte[] {'C', 'H', 'G', 'R', 1}, bytes.toByteArray());
+        assertEquals(5, writer.size());
+
+        final var tags = new LinkedHashMap<String, String>();
+        tags.put("Event", "x".repeat(200));
+        writer.write(gameRecordFor(tags, 1, new byte[] {3, 7}));
+        writer.write(gameRecordFor(Map.of(), 3, new byte[0]));
+        writer.flush();
+
+        final var expected = new ByteArrayOutputStream();
+        expected.write(new byte[] {'C', 'H', 'G', 'R', 1, 1, 5});
+        expected.write("Event".getBytes());
+        expected.write(new byte[] {(byte) 0xc8, 1});
+        expected.write("x".repeat(200).getBytes());
+        expected.write(new byte[] {1, 2, 3, 7, 0, 3, 0});
+        assertArrayEquals(expected.toByteArray(), bytes.toByteArray());
+        assertEquals(5 + 2 + 5 + 2 + 200 + 4 + 3, bytes.size());
+        assertEquals(bytes.size(), writer.size());
+    }
+
+    @Test
+    void testNull() throws IOException {
+        assertThrows(NullPointerException.class, () -> gameWriterFor(null));
+        final var writer = gameWriterFor(new ByteArrayOutputStream());
+        assertThrows(NullPointerException.class, () -> writer.write(null));
+    }
+}
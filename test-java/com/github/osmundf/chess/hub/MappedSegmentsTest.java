@@ -0,0 +1,53 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.MappedSegments.mappedSegmentsFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedSegmentsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRead() throws IOException {
+        final var buffer = ByteBuffer.allocate(48);
+        buffer.putLong(1L).putShort((short) 0xfffe).putShort((short) 2).putInt(-3);
+        buffer.putLong(5L).putLong(6L);
+        buffer.putLong(-1L).putLong(7L);
+        final var path = Files.write(directory.resolve("file.bin"), buffer.array());
+
+        final var segments = mappedSegmentsFor(path);
+        assertEquals(48, segments.size());
+        assertEquals(0xfffe, segments.getShort(8));
+        assertEquals(-3, segments.getInt(12));
+        assertEquals(6L, segments.getLong(24));
+        assertEquals(0xff, segments.get(32));
+
+        assertEquals(0, segments.find(1L, 16));
+        assertEquals(1, segments.find(5L, 16));
+        assertEquals(2, segments.find(-1L, 16));
+        assertEquals(-1, segments.find(2L, 16));
+        assertEquals(-1, segments.find(0L, 16));
+
+        final var input = segments.inputFor(46);
+        assertEquals(0, input.read());
+        assertEquals(7, input.read());
+        assertEquals(-1, input.read());
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        final var segments = mappedSegmentsFor(Files.createFile(directory.resolve("empty.bin")));
+        assertEquals(0, segments.size());
+        assertEquals(-1, segments.find(0L, 16));
+        assertEquals(-1, segments.inputFor(0).read());
+    }
+}
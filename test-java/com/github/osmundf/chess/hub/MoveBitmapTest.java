@@ -0,0 +1,64 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Move.MOVE_VALID;
+import static com.github.osmundf.chess.hub.Move.validationCodeFor;
+import static com.github.osmundf.chess.hub.MoveBitmap.computeBitmap;
+import static com.github.osmundf.chess.hub.MoveBitmap.isValid;
+import static com.github.osmundf.chess.hub.MoveBitmap.readBitmap;
+import static com.github.osmundf.chess.hub.MoveBitmap.validCount;
+import static com.github.osmundf.chess.hub.MoveBitmap.writeBitmap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MoveBitmapTest {
+
+    @Test
+    void testIsValid() {
+        var count = 0;
+        for (var hash = 0; hash < 1 << 25; hash++) {
+            final var valid = validationCodeFor(hash) == MOVE_VALID;
+            if (valid != isValid(hash)) {
+                fail("hash: " + hash);
+            }
+            count += valid ? 1 : 0;
+        }
+        assertEquals(count, validCount());
+        assertTrue(isValid(0x0));
+        assertFalse(isValid(1 << 25));
+        assertFalse(isValid(-1));
+    }
+
+    @Test
+    void testWriteAndReadBitmap() throws IOException {
+        final var output = new ByteArrayOutputStream();
+        writeBitmap(output);
+        assertTrue(output.size() < 1 << 20);
+        final var bitmap = readBitmap(new ByteArrayInputStream(output.toByteArray()));
+        assertArrayEquals(computeBitmap(), bitmap);
+    }
+
+    @Test
+    void testReadBitmapException() throws IOException {
+        final var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(new byte[8]);
+        }
+        try {
+            readBitmap(new ByteArrayInputStream(output.toByteArray()));
+            fail("chess.move.bitmap.test.failed");
+        }
+        catch (IOException e) {
+            assertEquals("chess.move.bitmap.header.invalid", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.CastleState.castleStateFor;
+import static com.github.osmundf.chess.hub.Caste.BISHOP;
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.Move.moveFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.MoveGenerator.pseudoLegalMoves;
+import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
+import static com.github.osmundf.chess.hub.MoveType.CAPTURE_PROMOTION;
+import static com.github.osmundf.chess.hub.MoveType.CASTLE_LONG;
+import static com.github.osmundf.chess.hub.MoveType.CASTLE_SHORT;
+import static com.github.osmundf.chess.hub.MoveType.EN_PASSANT;
+import static com.github.osmundf.chess.hub.MoveType.PROMOTION;
+import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Position.positionFor;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveGeneratorTest {
+
+    @Test
+    void testInitialPosition() {
+        final var position = initialPosition();
+        final var moves = new int[MAX_MOVES];
+        assertEquals(20, legalMoves(position, moves));
+        assertValidMoves(moves, 20);
+        assertEquals(20, pseudoLegalMoves(position, moves));
+    }
+
+    @Test
+    void testOffset() {
+        final var position = initialPosition();
+        final var moves = new int[MAX_MOVES + 10];
+        assertEquals(20, legalMoves(position, moves, 10));
+        final var expected = new int[MAX_MOVES];
+        legalMoves(position, expected);
+        assertTrue(Arrays.equals(expected, 0, 20, moves, 10, 30));
+    }
+
+    @Test
+    void testDoubleCheck() {
+        final var position = position(WHITE, 0x0, null,
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H3),
+            pieceFor(BLACK, KNIGHT, Square.D3),
+            pieceFor(BLACK, ROOK, Square.E8),
+            pieceFor(BLACK, KING, Square.A8));
+        final var moves = new int[MAX_MOVES];
+        final var count = legalMoves(position, moves);
+        assertEquals(3, count);
+        for (var i = 0; i < count; i++) {
+            assertEquals(KING, moveFor(moves[i]).base());
+        }
+    }
+
+    @Test
+    void testPinnedPieces() {
+        final var bishopPinned = position(WHITE, 0x0, null,
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, BISHOP, Square.E2),
+            pieceFor(BLACK, ROOK, Square.E8),
+            pieceFor(BLACK, KING, Square.A8));
+        final var moves = new int[MAX_MOVES];
+        assertEquals(4, legalMoves(bishopPinned, moves));
+
+        final var rookPinned = position(WHITE, 0x0, null,
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.E4),
+            pieceFor(BLACK, ROOK, Square.E8),
+            pieceFor(BLACK, KING, Square.A8));
+        assertEquals(11, legalMoves(rookPinned, moves));
+        assertValidMoves(moves, 11);
+    }
+
+    @Test
+    void testEnPassant() {
+        final var position = position(WHITE, 0x0, Square.D6,
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, PAWN, Square.E5),
+            pieceFor(BLACK, PAWN, Square.D5),
+            pieceFor(BLACK, KING, Square.E8));
+        final var moves = new int[MAX_MOVES];
+        final var count = legalMoves(position, moves);
+        final var expected = hashFor(EN_PASSANT, WHITE, NONE, PAWN, PAWN, Square.E5, Square.D6);
+        assertTrue(Arrays.stream(moves, 0, count).anyMatch(hash -> hash == expected));
+        assertValidMoves(moves, count);
+    }
+
+    @Test
+    void testEnPassantDiscoveredCheck() {
+        final var position = position(WHITE, 0x0, Square.C6,
+            pieceFor(WHITE, KING, Square.A5),
+            pieceFor(WHITE, PAWN, Square.B5),
+            pieceFor(BLACK, PAWN, Square.C5),
+            pieceFor(BLACK, ROOK, Square.H5),
+            pieceFor(BLACK, KING, Square.E8));
+        final var moves = new int[MAX_MOVES];
+        assertEquals(4, legalMoves(position, moves));
+        assertFalse(Arrays.stream(moves, 0, 4).anyMatch(hash -> moveFor(hash).type() == EN_PASSANT));
+        assertEquals(6, pseudoLegalMoves(position, moves));
+    }
+
+    @Test
+    void testCastling() {
+        final var position = position(WHITE, 0x30, null,
+            pieceFor(WHITE, ROOK, Square.A1),
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H1),
+            pieceFor(BLACK, KING, Square.E8));
+        final var moves = new int[MAX_MOVES];
+        var count = legalMoves(position, moves);
+        assertEquals(1, countType(moves, count, CASTLE_SHORT));
+        assertEquals(1, countType(moves, count, CASTLE_LONG));
+        assertValidMoves(moves, count);
+
+        final var attacked = position(WHITE, 0x30, null,
+            pieceFor(WHITE, ROOK, Square.A1),
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H1),
+            pieceFor(BLACK, ROOK, Square.F8),
+            pieceFor(BLACK, KING, Square.E8));
+        count = legalMoves(attacked, moves);
+        assertEquals(0, countType(moves, count, CASTLE_SHORT));
+        assertEquals(1, countType(moves, count, CASTLE_LONG));
+
+        final var revoked = position(WHITE, 0x20, null,
+            pieceFor(WHITE, ROOK, Square.A1),
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H1),
+            pieceFor(BLACK, KING, Square.E8));
+        count = legalMoves(revoked, moves);
+        assertEquals(1, countType(moves, count, CASTLE_SHORT));
+        assertEquals(0, countType(moves, count, CASTLE_LONG));
+    }
+
+    @Test
+    void testPromotion() {
+        final var position = position(WHITE, 0x0, null,
+            pieceFor(WHITE, KING, Square.A1),
+            pieceFor(WHITE, PAWN, Square.G7),
+            pieceFor(BLACK, ROOK, Square.H8),
+            pieceFor(BLACK, KING, Square.A8));
+        final var moves = new int[MAX_MOVES];
+        final var count = legalMoves(position, moves);
+        assertEquals(4, countType(moves, count, PROMOTION));
+        assertEquals(4, countType(moves, count, CAPTURE_PROMOTION));
+        assertValidMoves(moves, count);
+    }
+
+    private static Position position(Side side, int castle, Square enPassant, Piece... pieces) {
+        return positionFor(side, castleStateFor((byte) castle), enPassant, 0, 1, List.of(pieces));
+    }
+
+    private static int countType(int[] moves, int count, MoveType type) {
+        return (int) Arrays.stream(moves, 0, count).filter(hash -> moveFor(hash).type() == type).count();
+    }
+
+    private static void assertValidMoves(int[] moves, int count) {
+        for (var i = 0; i < count; i++) {
+            assertNull(moveFor(moves[i]).validate());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.osmundf.chess.hub;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import static com.github.osmundf.chess.hub.Caste.BISHOP;
@@ -12,9 +14,15 @@ import static com.github.osmundf.chess.hub.Caste.ROOK;
 import static com.github.osmundf.chess.hub.Move.basicMove;
 import static com.github.osmundf.chess.hub.Move.captureMove;
 import static com.github.osmundf.chess.hub.Move.castleMove;
+import static com.github.osmundf.chess.hub.Move.MOVE_INVALID_HASH;
+import static com.github.osmundf.chess.hub.Move.MOVE_INVALID_KNIGHT_SQUARES;
+import static com.github.osmundf.chess.hub.Move.MOVE_INVALID_PAWN;
+import static com.github.osmundf.chess.hub.Move.MOVE_VALID;
 import static com.github.osmundf.chess.hub.Move.doublePushMove;
 import static com.github.osmundf.chess.hub.Move.enPassantMove;
 import static com.github.osmundf.chess.hub.Move.moveFor;
+import static com.github.osmundf.chess.hub.Move.validationCodeFor;
+import static com.github.osmundf.chess.hub.Move.validationKey;
 import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
 import static com.github.osmundf.chess.hub.MoveType.BASE;
 import static com.github.osmundf.chess.hub.MoveType.CAPTURE;
@@ -1156,8 +1164,13 @@ public class MoveTest {
     void testEquality() {
         final var move1 = moveFor(0x0);
         final var move2 = moveFor(0x0);
-        assertNotSame(move1, move2);
+        assertSame(move1, move2);
+        assertSame(move1.id(), move2.id());
         assertEquals(move1, move2);
+        final var move3 = basicMove(WHITE, PAWN, Square.E2, Square.E3);
+        assertNotSame(move3, moveFor(move3.hashCode()));
+        assertEquals(move3, moveFor(move3.hashCode()));
+        assertSame(moveFor(move3.hashCode()), moveFor(move3.hashCode()));
         assertNotEquals(move1, null);
         assertNotEquals(move2, null);
     }
@@ -1173,4 +1186,50 @@ public class MoveTest {
         final var move = Move.moveFor(0x0);
         assertEquals("Move(0x00000000)", move.toString());
     }
+
+    @Test
+    void testValidationCode() {
+        assertEquals(MOVE_VALID, validationCodeFor(0x0));
+        assertEquals(MOVE_INVALID_HASH, validationCodeFor(0x7000));
+        assertEquals(MOVE_INVALID_HASH, validationCodeFor(0x2000000));
+        assertEquals(MOVE_INVALID_PAWN, validationCodeFor(0x401000));
+        final var knight = basicMove(WHITE, KNIGHT, Square.G1, Square.G3);
+        assertEquals(MOVE_INVALID_KNIGHT_SQUARES, knight.validationCode());
+        assertEquals(MOVE_INVALID_KNIGHT_SQUARES, validationCodeFor(knight.hashCode()));
+        assertEquals("chess.move.invalid.knight.move", validationKey(MOVE_INVALID_KNIGHT_SQUARES));
+        assertNull(validationKey(MOVE_VALID));
+        try {
+            validationKey(-1);
+            fail("chess.move.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals("chess.move.validation.code.invalid", e.getMessage());
+            assertEquals("code: -1", e.getCause().getMessage());
+        }
+
+        final var position = Fen.positionFor("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final var moves = new int[MoveGenerator.MAX_MOVES];
+        final var count = MoveGenerator.legalMoves(position, moves);
+        for (var i = 0; i < count; i++) {
+            assertEquals(MOVE_VALID, validationCodeFor(moves[i]));
+            assertEquals(MOVE_VALID, moveFor(moves[i]).validationCode());
+        }
+    }
+
+    @Test
+    void testValidationCodeMatchesValidate() {
+        final var random = new Random(0x5eedL);
+        for (var i = 0; i < 100000; i++) {
+            final var hash = random.nextInt() & (i % 2 == 0 ? 0x1ffffff : 0x7ffffff);
+            final var code = validationCodeFor(hash);
+            try {
+                final var move = moveFor(hash);
+                assertEquals(MOVE_VALID, code);
+                assertNull(move.validate());
+            }
+            catch (ChessException e) {
+                assertEquals(validationKey(code), e.getMessage());
+            }
+        }
+    }
 }
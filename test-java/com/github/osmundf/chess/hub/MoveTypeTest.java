@@ -10,6 +10,10 @@ import static com.github.osmundf.chess.hub.MoveType.CASTLE_SHORT;
 import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
 import static com.github.osmundf.chess.hub.MoveType.EN_PASSANT;
 import static com.github.osmundf.chess.hub.MoveType.PROMOTION;
+import static com.github.osmundf.chess.hub.MoveType.isBasicIndex;
+import static com.github.osmundf.chess.hub.MoveType.isCaptureIndex;
+import static com.github.osmundf.chess.hub.MoveType.isCastlingIndex;
+import static com.github.osmundf.chess.hub.MoveType.isPromotionIndex;
 import static com.github.osmundf.chess.hub.MoveType.moveTypeFromIndex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -51,6 +55,21 @@ class MoveTypeTest {
         }
     }
 
+    @Test
+    void testIndexLookups() {
+        for (final var type : MoveType.values()) {
+            final var index = type.index();
+            final var basic = BASE == type || DOUBLE_PUSH == type || CASTLE_SHORT == type || CASTLE_LONG == type;
+            final var capture = CAPTURE == type || CAPTURE_PROMOTION == type || EN_PASSANT == type;
+            final var castling = CASTLE_SHORT == type || CASTLE_LONG == type;
+            final var promotion = PROMOTION == type || CAPTURE_PROMOTION == type;
+            assertEquals(basic, isBasicIndex(index));
+            assertEquals(capture, isCaptureIndex(index));
+            assertEquals(castling, isCastlingIndex(index));
+            assertEquals(promotion, isPromotionIndex(index));
+        }
+    }
+
     @Test
     void testBasic() {
         assertTrue(BASE.isBasic());
@@ -0,0 +1,90 @@
+package com.github.osmundf.chess.hub;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Attacks.between;
+import static com.github.osmundf.chess.hub.Attacks.kingAttacks;
+import static com.github.osmundf.chess.hub.Attacks.knightAttacks;
+import static com.github.osmundf.chess.hub.Attacks.queenAttacks;
+import static com.github.osmundf.chess.hub.Neighbours.EAST;
+import static com.github.osmundf.chess.hub.Neighbours.NORTH;
+import static com.github.osmundf.chess.hub.Neighbours.NORTH_EAST;
+import static com.github.osmundf.chess.hub.Neighbours.NORTH_WEST;
+import static com.github.osmundf.chess.hub.Neighbours.SOUTH;
+import static com.github.osmundf.chess.hub.Neighbours.SOUTH_WEST;
+import static com.github.osmundf.chess.hub.Neighbours.WEST;
+import static com.github.osmundf.chess.hub.Neighbours.kingCount;
+import static com.github.osmundf.chess.hub.Neighbours.kingSquare;
+import static com.github.osmundf.chess.hub.Neighbours.knightCount;
+import static com.github.osmundf.chess.hub.Neighbours.knightSquare;
+import static com.github.osmundf.chess.hub.Neighbours.neighbour;
+import static com.github.osmundf.chess.hub.Neighbours.opposite;
+import static com.github.osmundf.chess.hub.Neighbours.rayLength;
+import static com.github.osmundf.chess.hub.Neighbours.raySquare;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NeighboursTest {
+
+    @Test
+    void testKnightSquares() {
+        for (var square = 0; square < 64; square++) {
+            var bits = 0L;
+            for (var jump = 0; jump < knightCount(square); jump++) {
+                bits |= 1L << knightSquare(square, jump);
+            }
+            for (var jump = knightCount(square); jump < 8; jump++) {
+                assertEquals(-1, knightSquare(square, jump));
+            }
+            assertEquals(knightAttacks(square), bits);
+            assertEquals(Long.bitCount(bits), knightCount(square));
+        }
+        assertEquals(2, knightCount(Square.A1.index()));
+        assertEquals(8, knightCount(Square.E4.index()));
+    }
+
+    @Test
+    void testKingSquares() {
+        for (var square = 0; square < 64; square++) {
+            var bits = 0L;
+            for (var step = 0; step < kingCount(square); step++) {
+                bits |= 1L << kingSquare(square, step);
+            }
+            for (var step = kingCount(square); step < 8; step++) {
+                assertEquals(-1, kingSquare(square, step));
+            }
+            assertEquals(kingAttacks(square), bits);
+            assertEquals(Long.bitCount(bits), kingCount(square));
+        }
+    }
+
+    @Test
+    void testRaySquares() {
+        for (var square = 0; square < 64; square++) {
+            var bits = 0L;
+            for (var direction = 0; direction < 8; direction++) {
+                final var length = rayLength(direction, square);
+                for (var distance = 1; distance <= length; distance++) {
+                    final var target = raySquare(direction, square, distance);
+                    assertEquals(distance - 1, Long.bitCount(between(square, target)));
+                    bits |= 1L << target;
+                }
+                for (var distance = length + 1; distance <= 7; distance++) {
+                    assertEquals(-1, raySquare(direction, square, distance));
+                }
+                assertEquals(length == 0 ? -1 : raySquare(direction, square, 1), neighbour(direction, square));
+            }
+            assertEquals(queenAttacks(square, 0L), bits);
+        }
+
+        final var d4 = Square.D4.index();
+        assertEquals(Square.D5.index(), neighbour(NORTH, d4));
+        assertEquals(Square.E5.index(), neighbour(NORTH_EAST, d4));
+        assertEquals(Square.H4.index(), raySquare(EAST, d4, 4));
+        assertEquals(Square.A7.index(), raySquare(NORTH_WEST, d4, 3));
+        assertEquals(Square.A1.index(), raySquare(SOUTH_WEST, d4, 3));
+        assertEquals(3, rayLength(WEST, d4));
+        assertEquals(0, rayLength(SOUTH, Square.A1.index()));
+        assertEquals(SOUTH, opposite(NORTH));
+        assertEquals(EAST, opposite(WEST));
+    }
+}
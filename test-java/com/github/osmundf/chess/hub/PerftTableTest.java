@@ -0,0 +1,65 @@
+package com.github.osmundf.chess.hub;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.PerftTable.MAX_MEGABYTES;
+import static com.github.osmundf.chess.hub.PerftTable.perftTableFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PerftTableTest {
+
+    @Test
+    void testPerftTableFor() {
+        assertEquals(1 << 16, perftTableFor(1).capacity());
+        assertEquals(1 << 17, perftTableFor(3).capacity());
+        assertEquals("PerftTable(65536, probes: 0, hits: 0, stores: 0)", perftTableFor(1).toString());
+        for (final var megabytes : new int[] {0, -1, MAX_MEGABYTES + 1}) {
+            try {
+                perftTableFor(megabytes);
+                fail("chess.perft.table.test.failed");
+            }
+            catch (RuntimeException e) {
+                assertEquals(ChessException.class.getName(), e.getClass().getName());
+                assertEquals("chess.perft.table.size.invalid", e.getMessage());
+                assertEquals("megabytes: " + megabytes, e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testProbeAndStore() {
+        final var table = perftTableFor(1);
+        final var key = 0x123456789abcdefL;
+        assertEquals(-1L, table.probe(key, 3));
+        table.store(key, 3, 8902L);
+        assertEquals(8902L, table.probe(key, 3));
+        assertEquals(-1L, table.probe(key, 4));
+        assertEquals(-1L, table.probe(key ^ 1L << 40, 3));
+        assertEquals(4, table.probes());
+        assertEquals(1, table.hits());
+        assertEquals(1, table.stores());
+        assertEquals(0.25, table.hitRate());
+
+        table.store(key, 3, 1L << 56);
+        assertEquals(8902L, table.probe(key, 3));
+
+        table.clear();
+        assertEquals(0.0, table.hitRate());
+        assertEquals(-1L, table.probe(key, 3));
+        assertEquals(1, table.probes());
+        assertEquals(0, table.hits());
+    }
+
+    @Test
+    void testPositionKey() {
+        final var position = Position.initialPosition();
+        final var key = position.key();
+        position.makeMove(0);
+        final var nullKey = position.key();
+        position.unmakeMove();
+        assertEquals(key, position.key());
+        assertEquals(false, key == nullKey);
+        assertEquals(key, position.copy().key());
+    }
+}
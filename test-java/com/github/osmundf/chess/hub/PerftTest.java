@@ -0,0 +1,159 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.CastleState.castleStateFor;
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.Move.moveFor;
+import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
+import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
+import static com.github.osmundf.chess.hub.Perft.count;
+import static com.github.osmundf.chess.hub.Perft.divide;
+import static com.github.osmundf.chess.hub.PerftTable.perftTableFor;
+import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Position.positionFor;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PerftTest {
+
+    @Test
+    void testInitialPosition() {
+        final var position = initialPosition();
+        assertEquals(1L, count(position, 0));
+        assertEquals(20L, count(position, 1));
+        assertEquals(400L, count(position, 2));
+        assertEquals(8902L, count(position, 3));
+        assertEquals(197281L, count(position, 4));
+        assertEquals(initialPosition(), position);
+    }
+
+    @Test
+    void testEndgamePosition() {
+        // 8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - -
+        final var position = positionFor(WHITE, castleStateFor((byte) 0x0), null, 0, 1, List.of(
+            pieceFor(WHITE, PAWN, Square.E2),
+            pieceFor(WHITE, PAWN, Square.G2),
+            pieceFor(WHITE, ROOK, Square.B4),
+            pieceFor(BLACK, PAWN, Square.F4),
+            pieceFor(BLACK, KING, Square.H4),
+            pieceFor(WHITE, KING, Square.A5),
+            pieceFor(WHITE, PAWN, Square.B5),
+            pieceFor(BLACK, ROOK, Square.H5),
+            pieceFor(BLACK, PAWN, Square.D6),
+            pieceFor(BLACK, PAWN, Square.C7)));
+        assertEquals(14L, count(position, 1));
+        assertEquals(191L, count(position, 2));
+        assertEquals(2812L, count(position, 3));
+        assertEquals(43238L, count(position, 4));
+        assertEquals(674624L, count(position, 5));
+    }
+
+    @Test
+    void testFenPositions() {
+        final var kiwipete = Fen.positionFor("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        assertEquals(48L, count(kiwipete, 1));
+        assertEquals(2039L, count(kiwipete, 2));
+        assertEquals(97862L, count(kiwipete, 3));
+        assertEquals(4085603L, count(kiwipete, 4));
+
+        final var position4 = Fen.positionFor("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        assertEquals(6L, count(position4, 1));
+        assertEquals(264L, count(position4, 2));
+        assertEquals(9467L, count(position4, 3));
+        assertEquals(422333L, count(position4, 4));
+
+        final var position5 = Fen.positionFor("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+        assertEquals(44L, count(position5, 1));
+        assertEquals(1486L, count(position5, 2));
+        assertEquals(62379L, count(position5, 3));
+        assertEquals(2103487L, count(position5, 4));
+    }
+
+    @Test
+    void testParallelCount() {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var position = initialPosition();
+            assertEquals(20L, count(position, 1, pool));
+            assertEquals(197281L, count(position, 4, pool));
+            assertEquals(4865609L, count(position, 5, pool));
+            assertEquals(119060324L, count(position, 6, pool));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTableCount() {
+        final var table = perftTableFor(16);
+        final var position = initialPosition();
+        assertEquals(20L, count(position, 1, table));
+        assertEquals(0L, table.probes());
+        assertEquals(197281L, count(position, 4, table));
+        assertEquals(4865609L, count(position, 5, table));
+        assertTrue(table.hits() > 0L);
+        assertTrue(table.hitRate() > 0.0);
+        assertEquals(4865609L, count(position, 5, table));
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            table.clear();
+            assertEquals(119060324L, count(position, 6, pool, table));
+            assertEquals(119060324L, count(position, 6, pool, table));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDivide() {
+        final var position = initialPosition();
+        final var divide = divide(position, 3);
+        assertEquals(20, divide.size());
+        assertEquals(8902L, divide.values().stream().mapToLong(Long::longValue).sum());
+        final var e4 = moveFor(hashFor(DOUBLE_PUSH, WHITE, NONE, NONE, PAWN, Square.E2, Square.E4));
+        assertEquals(600L, divide.get(e4));
+
+        final var pool = new ForkJoinPool(2);
+        try {
+            assertEquals(divide, divide(position, 3, pool));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDepthException() {
+        try {
+            count(initialPosition(), -1);
+            fail("chess.perft.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals(ChessException.class.getName(), e.getClass().getName());
+            assertEquals("chess.perft.depth.invalid", e.getMessage());
+            assertEquals("depth: -1", e.getCause().getMessage());
+        }
+        try {
+            divide(initialPosition(), 0);
+            fail("chess.perft.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals(ChessException.class.getName(), e.getClass().getName());
+            assertEquals("chess.perft.depth.invalid", e.getMessage());
+        }
+    }
+}
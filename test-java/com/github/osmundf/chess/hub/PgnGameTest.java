@@ -0,0 +1,57 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.PgnGame.pgnGameFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.notationFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgnGameTest {
+
+    @Test
+    void testMoves() {
+        final var tokens = List.of("Nf3", "d5", "d3", "Nf6", "Nbd2", "e5", "e4", "dxe4", "dxe4", "Bc5", "Bd3", "O-O",
+            "O-O");
+        final var game = pgnGameFor(new LinkedHashMap<>(), tokens, "1/2-1/2");
+        final var moves = game.moves();
+        assertEquals(tokens.size(), moves.length);
+        assertEquals("b1d2", notationFor(moves[4]));
+        assertEquals("d3e4", notationFor(moves[8]));
+        assertEquals(MoveType.CASTLE_SHORT.index(), moves[11] >>> 22);
+        assertEquals("e1g1", notationFor(moves[12]));
+        assertEquals(initialPosition().key(), game.startPosition().key());
+        assertNull(game.tag("FEN"));
+    }
+
+    @Test
+    void testMovesFromFen() {
+        final var fen = "k7/8/8/3pP3/8/R7/8/R3K3 w - d6 0 1";
+        final var tags = new LinkedHashMap<String, String>();
+        tags.put("FEN", fen);
+        final var tokens = List.of("exd6", "Kb7", "R1a2", "Kc6", "d7", "Kc7!", "d8=Q+", "Kxd8");
+        final var moves = pgnGameFor(tags, tokens, "1-0").moves();
+        assertEquals(MoveType.EN_PASSANT.index(), moves[0] >>> 22);
+        assertEquals("a1a2", notationFor(moves[2]));
+        assertEquals("d7d8q", notationFor(moves[6]));
+        assertEquals(Fen.positionFor(fen).key(), pgnGameFor(tags, List.of(), "*").startPosition().key());
+    }
+
+    @Test
+    void testMovesInvalid() {
+        final var tags = Map.of("FEN", "k7/8/8/8/8/R7/8/R3K3 w - - 0 1");
+        for (final var token : new String[] {"Ra2", "Qa2", "Ri2", "e9", "O-O", "+"}) {
+            final var game = pgnGameFor(tags, List.of(token), "*");
+            final var exception = assertThrows(ChessException.class, game::moves);
+            assertEquals("chess.pgn.move.invalid", exception.getMessage(), token);
+        }
+        final var game = pgnGameFor(Map.of("FEN", "invalid"), List.of(), "*");
+        assertThrows(ChessException.class, game::startPosition);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+
+class PgnHelper {
+
+    /** Constant <code>results</code> for the decided game results. */
+    private static final String[] results = {"1-0", "0-1", "1/2-1/2"};
+
+    /**
+     * Returns PGN of random games, one game per line without tags.
+     *
+     * @param seed  random seed
+     * @param games number of games
+     * @param plies largest number of plies in a game
+     * @return PGN text
+     */
+    static String randomPgn(long seed, int games, int plies) {
+        final var random = new Random(seed);
+        final var builder = new StringBuilder();
+        final var moves = new int[MAX_MOVES];
+        for (int game = 0; game < games; game++) {
+            final var position = initialPosition();
+            for (int ply = 0; ply < plies; ply++) {
+                final var count = legalMoves(position, moves);
+                if (count == 0) {
+                    break;
+                }
+                final var hash = moves[random.nextInt(Math.min(count, 4 + ply))];
+                builder.append(tokenFor(hash)).append(' ');
+                position.makeMove(hash);
+            }
+            builder.append(results[random.nextInt(3)]).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns fully disambiguated SAN token for move (<code>Ng1f3</code>, <code>e7e8=Q</code>, <code>O-O</code>).
+     *
+     * @param hash move hash
+     * @return SAN token
+     */
+    static String tokenFor(int hash) {
+        final var type = hash >>> 22;
+        if (MoveType.isCastlingIndex(type)) {
+            return type == MoveType.CASTLE_SHORT.index() ? "O-O" : "O-O-O";
+        }
+        final var notation = Uci.notationFor(hash);
+        final var piece = " PNBRQK".charAt(hash >>> 12 & 0x7);
+        final var token = (piece == 'P' ? "" : String.valueOf(piece)) + notation.substring(0, 4);
+        return notation.length() == 5 ? token + "=" + Character.toUpperCase(notation.charAt(4)) : token;
+    }
+
+    /** Private constructor. */
+    private PgnHelper() {
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.PgnReader.BATCH_INCREMENT;
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgnReaderTest {
+
+    private static final String PGN = String.join("\n",
+        "% escape line [not a tag]",
+        "[Event \"F/S Return Match\"]",
+        "[Site \"Belgrade, Serbia \\\"JUG\\\"\"]",
+        "[Result \"1/2-1/2\"]",
+        "",
+        "1. e4 e5 2. Nf3 Nc6 3. Bb5 {This opening is called the Ruy Lopez (or Spanish).} 3... a6 $1",
+        "4. Ba4 (4. Bxc6 dxc6 {or} (4... bxc6) 5. O-O) 4... Nf6 ; comment (not a variation",
+        "5. O-O 1/2-1/2",
+        "",
+        "[Event \"second\"]",
+        "[Result \"0-1\"]",
+        "",
+        "1.d4 d5 2.c4 dxc4 0-1",
+        "[Event \"truncated\"]",
+        "[Result \"1-0\"]",
+        "",
+        "1. e4 e5",
+        "[Event \"last\"]",
+        "1. c4");
+
+    @Test
+    void testNext() throws IOException {
+        final var reader = readerFor(PGN);
+
+        final var first = reader.next();
+        assertEquals(List.of("Event", "Site", "Result"), List.copyOf(first.tags().keySet()));
+        assertEquals("Belgrade, Serbia \"JUG\"", first.tag("Site"));
+        assertEquals(List.of("e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4", "Nf6", "O-O"), first.tokens());
+        assertEquals("1/2-1/2", first.result());
+
+        final var second = reader.next();
+        assertEquals(Map.of("Event", "second", "Result", "0-1"), second.tags());
+        assertEquals(List.of("d4", "d5", "c4", "dxc4"), second.tokens());
+        assertEquals("0-1", second.result());
+
+        final var third = reader.next();
+        assertEquals(List.of("e4", "e5"), third.tokens());
+        assertEquals("1-0", third.result());
+
+        final var last = reader.next();
+        assertEquals("last", last.tag("Event"));
+        assertEquals(List.of("c4"), last.tokens());
+        assertEquals(PgnGame.UNKNOWN_RESULT, last.result());
+
+        assertNull(reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testSmallReads() {
+        final var bytes = PGN.getBytes(StandardCharsets.ISO_8859_1);
+        final var input = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        final var expected = readerFor(PGN).stream(false).map(PgnGame::toString).collect(Collectors.toList());
+        final var actual = pgnReaderFor(input).stream(false).map(PgnGame::toString).collect(Collectors.toList());
+        assertEquals(4, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testParallelStream() {
+        final var pgn = PgnHelper.randomPgn(22, 3000, 40);
+        final var sequential = readerFor(pgn).stream(false)
+            .map(game -> game.moves().length)
+            .collect(Collectors.toList());
+        final var parallel = readerFor(pgn).stream(true)
+            .map(game -> game.moves().length)
+            .collect(Collectors.toList());
+        assertEquals(3000, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void testTrySplit() {
+        final var reader = readerFor(PgnHelper.randomPgn(23, 1000, 8));
+        final var first = reader.trySplit();
+        assertNotNull(first);
+        assertEquals(BATCH_INCREMENT, first.estimateSize());
+        final var second = reader.trySplit();
+        assertEquals(2 * BATCH_INCREMENT, second.estimateSize());
+        final var third = reader.trySplit();
+        assertEquals(1000 - 3 * BATCH_INCREMENT, third.estimateSize());
+        assertNull(reader.trySplit());
+        assertEquals(Long.MAX_VALUE, reader.estimateSize());
+    }
+
+    @Test
+    void testReadFailed() {
+        final var cause = new IOException("closed");
+        final var input = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw cause;
+            }
+        };
+        final var reader = pgnReaderFor(input);
+        final var exception = assertThrows(ChessException.class, () -> reader.tryAdvance(game -> { }));
+        assertEquals("chess.pgn.read.failed", exception.getMessage());
+        assertSame(cause, exception.getCause());
+    }
+
+    @Test
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> pgnReaderFor((InputStream) null));
+        assertThrows(NullPointerException.class, () -> pgnReaderFor((ReadableByteChannel) null));
+        assertThrows(NullPointerException.class, () -> readerFor(PGN).tryAdvance(null));
+    }
+
+    private static PgnReader readerFor(String pgn) {
+        return pgnReaderFor(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+}
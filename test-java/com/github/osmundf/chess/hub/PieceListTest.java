@@ -0,0 +1,153 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.QUEEN;
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.PieceList.LIST_CAPACITY;
+import static com.github.osmundf.chess.hub.PieceList.pieceList;
+import static com.github.osmundf.chess.hub.PieceList.pieceListFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PieceListTest {
+
+    private static final int white = Side.WHITE.index();
+
+    private static final int black = Side.BLACK.index();
+
+    @Test
+    void testPieceListFor() {
+        final var pieceList = pieceListFor(initialPosition());
+        assertEquals(16, pieceList.count(white));
+        assertEquals(16, pieceList.count(black));
+        assertEquals(8, pieceList.count(white, PAWN.index()));
+        assertEquals(2, pieceList.count(black, KNIGHT.index()));
+        assertEquals(1, pieceList.count(white, KING.index()));
+        assertEquals(Square.E1.index(), pieceList.square(white, KING.index(), 0));
+        assertEquals(Square.D8.index(), pieceList.square(black, QUEEN.index(), 0));
+        assertEquals(Piece.encode(black, QUEEN.index(), Square.D8.index()), pieceList.code(black, QUEEN.index(), 0));
+    }
+
+    @Test
+    void testAddRemoveMove() {
+        final var pieceList = pieceList();
+        final var pawn = PAWN.index();
+        pieceList.add(white, pawn, Square.A2.index());
+        pieceList.add(white, pawn, Square.B2.index());
+        pieceList.add(white, pawn, Square.C2.index());
+        assertEquals(3, pieceList.count(white, pawn));
+
+        pieceList.remove(white, pawn, Square.A2.index());
+        assertEquals(2, pieceList.count(white, pawn));
+        assertEquals(Square.C2.index(), pieceList.square(white, pawn, 0));
+        assertEquals(Square.B2.index(), pieceList.square(white, pawn, 1));
+
+        pieceList.move(white, pawn, Square.C2.index(), Square.C4.index());
+        assertEquals(Square.C4.index(), pieceList.square(white, pawn, 0));
+        pieceList.remove(white, pawn, Square.C4.index());
+        assertEquals(1, pieceList.count(white, pawn));
+        assertEquals(Square.B2.index(), pieceList.square(white, pawn, 0));
+        assertEquals("PieceList(WHITE.PAWN.B2)", pieceList.toString());
+
+        pieceList.clear();
+        assertEquals(0, pieceList.count(white));
+        assertEquals("PieceList()", pieceList.toString());
+    }
+
+    @Test
+    void testCapacity() {
+        final var pieceList = pieceList();
+        for (var square = 0; square < LIST_CAPACITY; square++) {
+            pieceList.add(black, QUEEN.index(), square);
+        }
+        try {
+            pieceList.add(black, QUEEN.index(), LIST_CAPACITY);
+            fail("chess.piece.list.test.expected.chess.exception");
+        }
+        catch (ChessException e) {
+            assertEquals("chess.piece.list.full", e.getMessage());
+        }
+    }
+
+    @Test
+    void testTracksPosition() {
+        final var fens = new String[] {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "n1n5/PPPk4/8/8/8/8/4Kppp/5N1N b - - 0 1",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"
+        };
+        for (final var fen : fens) {
+            final var position = positionFor(fen);
+            final var moves = new int[MAX_MOVES];
+            final var count = legalMoves(position, moves, 0);
+            for (var i = 0; i < count; i++) {
+                final var pieceList = pieceListFor(position);
+                final var hash = moves[i];
+                position.makeMove(hash);
+                makeMove(pieceList, hash);
+                assertEquals(codesOf(position), codesOf(pieceList));
+                position.unmakeMove();
+            }
+        }
+    }
+
+    private static void makeMove(PieceList pieceList, int hash) {
+        final var type = hash >> 22 & 0x7;
+        final var side = (hash & 0x200000) != 0 ? white : black;
+        final var promotion = hash >> 18 & 0x7;
+        final var capture = hash >> 15 & 0x7;
+        final var base = hash >> 12 & 0x7;
+        final var from = hash >> 6 & 0x3f;
+        final var to = hash & 0x3f;
+
+        if (type == MoveType.CASTLE_SHORT.index() || type == MoveType.CASTLE_LONG.index()) {
+            final var rank = from & 0x38;
+            final var castleShort = type == MoveType.CASTLE_SHORT.index();
+            pieceList.move(side, KING.index(), from, rank | (castleShort ? 6 : 2));
+            pieceList.move(side, Caste.ROOK.index(), to, rank | (castleShort ? 5 : 3));
+            return;
+        }
+        if (type == MoveType.EN_PASSANT.index()) {
+            pieceList.remove(side ^ 0x3, PAWN.index(), from & 0x38 | to & 0x7);
+        }
+        else if (capture != 0) {
+            pieceList.remove(side ^ 0x3, capture, to);
+        }
+        if (promotion != 0) {
+            pieceList.remove(side, base, from);
+            pieceList.add(side, promotion, to);
+        }
+        else {
+            pieceList.move(side, base, from, to);
+        }
+    }
+
+    private static HashSet<Integer> codesOf(Position position) {
+        final var codes = new HashSet<Integer>();
+        for (final var piece : position.pieces()) {
+            codes.add(piece.hashCode());
+        }
+        return codes;
+    }
+
+    private static HashSet<Integer> codesOf(PieceList pieceList) {
+        final var codes = new HashSet<Integer>();
+        for (var side = black; side <= white; side++) {
+            for (var caste = PAWN.index(); caste <= KING.index(); caste++) {
+                for (var slot = 0; slot < pieceList.count(side, caste); slot++) {
+                    codes.add(pieceList.code(side, caste, slot));
+                }
+            }
+        }
+        return codes;
+    }
+}
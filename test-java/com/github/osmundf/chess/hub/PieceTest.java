@@ -4,7 +4,12 @@ import org.junit.jupiter.api.Test;
 
 import static com.github.osmundf.chess.hub.Caste.KING;
 import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Piece.casteOf;
+import static com.github.osmundf.chess.hub.Piece.decode;
+import static com.github.osmundf.chess.hub.Piece.encode;
 import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Piece.sideOf;
+import static com.github.osmundf.chess.hub.Piece.squareOf;
 import static com.github.osmundf.chess.hub.Side.NO_SIDE;
 import static com.github.osmundf.chess.hub.Side.WHITE;
 import static com.github.osmundf.chess.hub.Square.squareFor;
@@ -226,4 +231,46 @@ class PieceTest {
             return this;
         }
     }
+
+    @Test
+    void testEncoding() {
+        for (final var side : new Side[] {WHITE, Side.BLACK}) {
+            for (final var caste : Caste.values()) {
+                if (NONE == caste) {
+                    continue;
+                }
+                for (var index = (byte) 0; index < 64; index++) {
+                    final var square = Square.squareFromIndex(index);
+                    final var piece = pieceFor(side, caste, square);
+                    final var code = encode(side.index(), caste.index(), index);
+                    assertEquals(piece.hashCode(), code);
+                    assertEquals(side.index(), sideOf(code));
+                    assertEquals(caste.index(), casteOf(code));
+                    assertEquals(index, squareOf(code));
+                    assertEquals(piece, decode(code));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDecodeException() {
+        for (final var code : new int[] {-1, 0x800, 0x600, 0x1c0}) {
+            try {
+                final var piece = decode(code);
+                fail("chess.piece.test.expected.chess.exception: " + piece);
+            }
+            catch (ChessException e) {
+                assertEquals("chess.piece.code.invalid", e.getMessage());
+                assertEquals("code: " + code, e.getCause().getMessage());
+            }
+        }
+        try {
+            final var piece = decode(encode(WHITE.index(), NONE.index(), 0));
+            fail("chess.piece.test.expected.chess.exception: " + piece);
+        }
+        catch (ChessException e) {
+            assertEquals("chess.piece.new.piece.no.caste", e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.Polyglot.keyFor;
+import static com.github.osmundf.chess.hub.Polyglot.polyglotMoveFor;
+import static com.github.osmundf.chess.hub.PolyglotBook.ENTRY_BYTES;
+import static com.github.osmundf.chess.hub.PolyglotBook.polyglotBookFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolyglotBookTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMovesFor() throws IOException {
+        final var position = initialPosition();
+        final var initialKey = keyFor(position);
+        final var e4 = moveFor(position, "e2e4");
+        final var d4 = moveFor(position, "d2d4");
+        position.makeMove(e4);
+        final var e4Key = keyFor(position);
+        final var c5 = moveFor(position, "c7c5");
+
+        // sorted by unsigned key: the initial key has the high bit clear, the e4 key has it set
+        final var buffer = ByteBuffer.allocate(5 * ENTRY_BYTES);
+        putEntry(buffer, 0x0000000000000001L, 0x0000, 1);
+        putEntry(buffer, initialKey, polyglotMoveFor(e4), 40);
+        putEntry(buffer, initialKey, polyglotMoveFor(d4), 30);
+        putEntry(buffer, initialKey, 0x0fff, 20);
+        putEntry(buffer, e4Key, polyglotMoveFor(c5), 50);
+        final var path = directory.resolve("book.bin");
+        Files.write(path, buffer.array());
+
+        final var book = polyglotBookFor(path);
+        assertEquals(5, book.entries());
+        assertEquals(1, book.find(initialKey));
+        assertEquals(4, book.find(e4Key));
+        assertEquals(-1, book.find(0L));
+        assertEquals(-1, book.find(-1L));
+        assertEquals(40, book.weight(1));
+        assertEquals(polyglotMoveFor(d4), book.move(2));
+        assertEquals(0, book.learn(2));
+
+        assertEquals(List.of(Move.moveFor(e4), Move.moveFor(d4)), book.movesFor(initialPosition()));
+        assertEquals(List.of(Move.moveFor(c5)), book.movesFor(position));
+        position.makeMove(c5);
+        assertTrue(book.movesFor(position).isEmpty());
+    }
+
+    @Test
+    void testEmptyBook() throws IOException {
+        final var path = Files.createFile(directory.resolve("empty.bin"));
+        final var book = polyglotBookFor(path);
+        assertEquals(0, book.entries());
+        assertEquals(-1, book.find(keyFor(initialPosition())));
+        assertTrue(book.movesFor(initialPosition()).isEmpty());
+    }
+
+    @Test
+    void testInvalidBook() throws IOException {
+        final var path = Files.write(directory.resolve("invalid.bin"), new byte[ENTRY_BYTES + 1]);
+        final var exception = assertThrows(IOException.class, () -> polyglotBookFor(path));
+        assertEquals("chess.polyglot.book.length.invalid", exception.getMessage());
+        assertThrows(NullPointerException.class, () -> polyglotBookFor(null));
+    }
+
+    private static void putEntry(ByteBuffer buffer, long key, int move, int weight) {
+        buffer.putLong(key).putShort((short) move).putShort((short) weight).putInt(0);
+    }
+}
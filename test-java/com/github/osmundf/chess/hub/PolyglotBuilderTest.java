@@ -0,0 +1,134 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.osmundf.chess.hub.PgnReader.pgnReaderFor;
+import static com.github.osmundf.chess.hub.PolyglotBook.polyglotBookFor;
+import static com.github.osmundf.chess.hub.PolyglotBuilder.MIN_HEAP_BYTES;
+import static com.github.osmundf.chess.hub.PolyglotBuilder.polyglotBuilderFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolyglotBuilderTest {
+
+    private static final String PGN = String.join("\n",
+        "[Event \"one\"]",
+        "[Result \"1-0\"]",
+        "",
+        "1. e4 e5 2. Nf3 {develops} Nc6 (2... d6 3. d4) 3. Bb5 $1 a6 ; Morphy",
+        "4. Ba4 1-0",
+        "",
+        "[Event \"two\"]",
+        "",
+        "1. e4 c5 2. Nf3 d6 3. d4 cxd4 4. Nxd4 Nf6 5. Nc3 a6 0-1",
+        "",
+        "[Event \"three\"]",
+        "",
+        "1.d4 d5 2.c4 e6 1/2-1/2",
+        "",
+        "[Event \"unknown\"]",
+        "",
+        "1. e4 e5 *",
+        "",
+        "[Event \"illegal\"]",
+        "",
+        "1. e4 Qh4 1-0",
+        "",
+        "[Event \"position\"]",
+        "[FEN \"4k3/P7/8/8/8/8/8/4K2R w K - 0 1\"]",
+        "",
+        "1. a8=Q+ Kd7 2. O-O 1-0",
+        "");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testBuild() throws IOException {
+        final var path = directory.resolve("book.bin");
+        try (final var builder = polyglotBuilderFor(directory, MIN_HEAP_BYTES, 6)) {
+            assertEquals(4, builder.addGames(readerFor(PGN)));
+            assertEquals(12, builder.build(path));
+        }
+        try (final var files = Files.list(directory)) {
+            assertEquals(List.of(path), files.collect(Collectors.toList()));
+        }
+
+        final var book = polyglotBookFor(path);
+        final var position = initialPosition();
+        final var index = book.find(Polyglot.keyFor(position));
+        assertEquals(2, book.weight(index));
+        assertEquals(1, book.weight(index + 1));
+        assertEquals(0, book.learn(index));
+        assertEquals(List.of(move(position, "e2e4"), move(position, "d2d4")), book.movesFor(position));
+
+        position.makeMove(moveFor(position, "e2e4"));
+        assertEquals(List.of(move(position, "c7c5")), book.movesFor(position));
+        position.makeMove(moveFor(position, "e7e5"));
+        assertEquals(List.of(move(position, "g1f3")), book.movesFor(position));
+        position.makeMove(moveFor(position, "g1f3"));
+        assertTrue(book.movesFor(position).isEmpty());
+
+        final var promotion = Fen.positionFor("4k3/P7/8/8/8/8/8/4K2R w K - 0 1");
+        assertEquals(List.of(move(promotion, "a7a8q")), book.movesFor(promotion));
+        promotion.makeMove(moveFor(promotion, "a7a8q"));
+        promotion.makeMove(moveFor(promotion, "e8d7"));
+        assertEquals(List.of(move(promotion, "e1g1")), book.movesFor(promotion));
+    }
+
+    @Test
+    void testExternalSort() throws IOException {
+        final var pgn = PgnHelper.randomPgn(20, 16000, 32);
+        final var split = pgn.indexOf('\n', pgn.length() / 2) + 1;
+
+        final var small = directory.resolve("small.bin");
+        final var large = directory.resolve("large.bin");
+        try (final var builder1 = polyglotBuilderFor(directory, MIN_HEAP_BYTES, 32)) {
+            final var games = builder1.addGames(readerFor(pgn.substring(0, split)));
+            assertEquals(16000 - games, builder1.addGames(readerFor(pgn.substring(split))));
+            builder1.build(small);
+        }
+        try (final var builder2 = polyglotBuilderFor(directory, 64 * MIN_HEAP_BYTES, 32)) {
+            builder2.addGames(readerFor(pgn));
+            builder2.build(large);
+        }
+        assertArrayEquals(Files.readAllBytes(large), Files.readAllBytes(small));
+
+        final var book = polyglotBookFor(small);
+        assertTrue(book.entries() > 100000);
+        for (long i = 1; i < book.entries(); i++) {
+            final var compare = Long.compareUnsigned(book.key(i - 1), book.key(i));
+            assertTrue(compare < 0 || compare == 0 && book.weight(i - 1) >= book.weight(i));
+        }
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(NullPointerException.class, () -> polyglotBuilderFor(null, MIN_HEAP_BYTES, 1));
+        final var exception = assertThrows(ChessException.class,
+            () -> polyglotBuilderFor(directory, MIN_HEAP_BYTES - 1, 1));
+        assertEquals("chess.polyglot.builder.limit.invalid", exception.getMessage());
+        assertThrows(ChessException.class, () -> polyglotBuilderFor(directory, MIN_HEAP_BYTES, 0));
+    }
+
+    private static PgnReader readerFor(String pgn) {
+        return pgnReaderFor(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    private static Move move(Position position, String notation) {
+        return Move.moveFor(moveFor(position, notation));
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.osmundf.chess.hub;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.Polyglot.keyFor;
+import static com.github.osmundf.chess.hub.Polyglot.moveHashFor;
+import static com.github.osmundf.chess.hub.Polyglot.polyglotMoveFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PolyglotTest {
+
+    @Test
+    void testKeyFor() {
+        final var position = initialPosition();
+        assertEquals(0x463b96181691fc9cL, keyFor(position));
+
+        final var moves = new String[] {"e2e4", "d7d5", "e4e5", "f7f5", "e1e2", "e8f7"};
+        final var keys = new long[] {
+            0x823c9b50fd114196L, 0x0756b94461c50fb0L, 0x662fafb965db29d4L,
+            0x22a48b5a8e47ff78L, 0x652a607ca3f242c1L, 0x00fdd303c946bdd9L
+        };
+        for (int i = 0; i < moves.length; i++) {
+            position.makeMove(moveFor(position, moves[i]));
+            assertEquals(keys[i], keyFor(position), moves[i]);
+        }
+    }
+
+    @Test
+    void testKeyForEnPassant() {
+        final var position = initialPosition();
+        for (final var move : new String[] {"a2a4", "b7b5", "h2h4", "b5b4", "c2c4"}) {
+            position.makeMove(moveFor(position, move));
+        }
+        assertEquals(0x3c8123ea7b067637L, keyFor(position));
+
+        position.makeMove(moveFor(position, "b4c3"));
+        position.makeMove(moveFor(position, "a1a3"));
+        assertEquals(0x5c3f9b829b279560L, keyFor(position));
+
+        final var fen = "rnbqkbnr/ppp1pppp/8/3p4/4P3/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 2";
+        assertEquals(0x0756b94461c50fb0L, keyFor(positionFor(fen)));
+    }
+
+    @Test
+    void testMoveHashFor() {
+        final var position = positionFor("r3k2r/1P6/8/8/8/8/8/R3K2R w KQkq - 0 1");
+
+        assertEquals(moveFor(position, "e1h1"), moveHashFor(position, 0x0107));
+        assertEquals(moveFor(position, "e1a1"), moveHashFor(position, 0x0100));
+        assertEquals(moveFor(position, "b7a8q"), moveHashFor(position, 0x4000 | 0x0c78));
+        assertEquals(moveFor(position, "b7b8n"), moveHashFor(position, 0x1000 | 0x0c79));
+        assertEquals(0, moveHashFor(position, 0x0114));
+
+        for (final var notation : new String[] {"e1h1", "e1a1", "b7a8q", "b7b8n", "b7b8r", "a1a7", "e1d2"}) {
+            final var hash = moveFor(position, notation);
+            assertEquals(hash, moveHashFor(position, polyglotMoveFor(hash)), notation);
+        }
+    }
+
+    @Test
+    void testNull() {
+        assertThrows(NullPointerException.class, () -> keyFor(null));
+        assertThrows(NullPointerException.class, () -> moveHashFor(null, 0));
+    }
+}
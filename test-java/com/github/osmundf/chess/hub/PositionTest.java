@@ -0,0 +1,304 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.CastleState.castleStateFor;
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.QUEEN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
+import static com.github.osmundf.chess.hub.MoveType.BASE;
+import static com.github.osmundf.chess.hub.MoveType.CAPTURE;
+import static com.github.osmundf.chess.hub.MoveType.CAPTURE_PROMOTION;
+import static com.github.osmundf.chess.hub.MoveType.CASTLE_LONG;
+import static com.github.osmundf.chess.hub.MoveType.CASTLE_SHORT;
+import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
+import static com.github.osmundf.chess.hub.MoveType.EN_PASSANT;
+import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Position.positionFor;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.NO_SIDE;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PositionTest {
+
+    @Test
+    void testInitialPosition() {
+        final var position = initialPosition();
+        assertSame(WHITE, position.sideToMove());
+        assertEquals(castleStateFor((byte) 0x33), position.castleState());
+        assertFalse(position.enPassant().isPresent());
+        assertEquals(0, position.halfMoveClock());
+        assertEquals(1, position.fullMoveNumber());
+
+        assertEquals(0xffffL, position.occupancy(WHITE));
+        assertEquals(0xffff000000000000L, position.occupancy(BLACK));
+        assertEquals(0xffff00000000ffffL, position.occupied());
+        assertEquals(0xff00L, position.board(WHITE, PAWN));
+        assertEquals(0x00ff000000000000L, position.board(BLACK, PAWN));
+        assertEquals(0x10L, position.board(WHITE, KING));
+        assertEquals(0x1000000000000000L, position.board(BLACK, KING));
+        assertEquals(0x81L, position.board(WHITE, ROOK));
+        assertEquals(0x0800000000000000L, position.board(BLACK, QUEEN));
+        assertEquals(32, position.pieces().size());
+    }
+
+    @Test
+    void testPieceAt() {
+        final var position = initialPosition();
+        assertEquals(pieceFor(WHITE, KNIGHT, Square.G1), position.pieceAt(Square.G1).get());
+        assertEquals(pieceFor(BLACK, QUEEN, Square.D8), position.pieceAt(Square.D8).get());
+        assertFalse(position.pieceAt(Square.E4).isPresent());
+
+        for (final var square : Square.values()) {
+            final var piece = position.pieceAt(square);
+            final var bit = 1L << square.index();
+            assertEquals((position.occupied() & bit) != 0, piece.isPresent());
+            piece.ifPresent(p -> assertTrue((position.board(p.side(), p.caste()) & bit) != 0));
+        }
+    }
+
+    @Test
+    void testPositionFor() {
+        final var pieces = List.of(
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(BLACK, PAWN, Square.D5),
+            pieceFor(WHITE, PAWN, Square.E5),
+            pieceFor(BLACK, KING, Square.E8));
+        final var position = positionFor(WHITE, castleStateFor((byte) 0x0), Square.D6, 0, 3, pieces);
+        assertSame(WHITE, position.sideToMove());
+        assertSame(Square.D6, position.enPassant().get());
+        assertEquals(3, position.fullMoveNumber());
+        assertEquals(pieces, position.pieces());
+    }
+
+    @Test
+    void testCopy() {
+        final var position = initialPosition();
+        final var copy = position.copy();
+        assertNotSame(position, copy);
+        assertEquals(position, copy);
+        assertEquals(position.hashCode(), copy.hashCode());
+
+        copy.remove(Square.E2.index());
+        copy.put(WHITE.index(), PAWN.index(), Square.E4.index());
+        assertNotEquals(position, copy);
+        assertEquals(0xff00L, position.board(WHITE, PAWN));
+        assertEquals(0x1000ef00L, copy.board(WHITE, PAWN));
+    }
+
+    @Test
+    void testPositionForException() {
+        final var state = castleStateFor((byte) 0x0);
+        final var kings = List.of(pieceFor(WHITE, KING, Square.E1), pieceFor(BLACK, KING, Square.E8));
+
+        assertChessException("chess.position.side.to.move.invalid", "side: NO_SIDE",
+            () -> positionFor(NO_SIDE, state, null, 0, 1, kings));
+        assertChessException("chess.position.en.passant.invalid", "side: WHITE enPassant: D3",
+            () -> positionFor(WHITE, state, Square.D3, 0, 1, kings));
+        assertChessException("chess.position.clock.invalid", "halfMoveClock: -1 fullMoveNumber: 1",
+            () -> positionFor(WHITE, state, null, -1, 1, kings));
+        assertChessException("chess.position.king.count.invalid", "side: BLACK kings: 0",
+            () -> positionFor(WHITE, state, null, 0, 1, List.of(pieceFor(WHITE, KING, Square.E1))));
+        assertChessException("chess.position.square.occupied", "piece: BLACK.KING.E1",
+            () -> positionFor(WHITE, state, null, 0, 1, List.of(kings.get(0), pieceFor(BLACK, KING, Square.E1))));
+        assertChessException("chess.position.board.invalid", "side: WHITE caste: NONE",
+            () -> initialPosition().board(WHITE, NONE));
+    }
+
+    @Test
+    void testMakeUnmakeMove() {
+        final var position = initialPosition();
+        final var initial = initialPosition();
+        final var e4 = hashFor(DOUBLE_PUSH, WHITE, NONE, NONE, PAWN, Square.E2, Square.E4);
+        position.makeMove(e4);
+        assertSame(BLACK, position.sideToMove());
+        assertSame(Square.E3, position.enPassant().get());
+        assertEquals(0, position.halfMoveClock());
+        assertEquals(1, position.fullMoveNumber());
+
+        final var nf6 = hashFor(BASE, BLACK, NONE, NONE, KNIGHT, Square.G8, Square.F6);
+        position.makeMove(nf6);
+        assertSame(WHITE, position.sideToMove());
+        assertFalse(position.enPassant().isPresent());
+        assertEquals(1, position.halfMoveClock());
+        assertEquals(2, position.fullMoveNumber());
+        assertEquals(pieceFor(BLACK, KNIGHT, Square.F6), position.pieceAt(Square.F6).get());
+
+        position.unmakeMove();
+        position.unmakeMove();
+        assertEquals(initial, position);
+        assertChessException("chess.position.unmake.move.empty", null, position::unmakeMove);
+    }
+
+    @Test
+    void testPositionKey() {
+        final var castled = initialPosition();
+        for (final var move : List.of("e2e4", "e7e5", "g1f3", "b8c6", "f1c4", "f8c5", "e1g1")) {
+            castled.makeMove(Uci.moveFor(castled, move));
+        }
+        final var fen = Fen.positionFor("r1bqk1nr/pppp1ppp/2n5/2b1p3/2B1P3/5N2/PPPP1PPP/RNBQ1RK1 b kq - 5 4");
+        assertNotEquals(fen.key(), castled.key());
+        assertEquals(fen.positionKey(), castled.positionKey());
+
+        final var pushed = Fen.positionFor("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        final var noEnPassant = Fen.positionFor("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+        assertNotEquals(noEnPassant.key(), pushed.key());
+        assertEquals(noEnPassant.positionKey(), pushed.positionKey());
+
+        final var capture = Fen.positionFor("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+        final var noCapture = Fen.positionFor("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq - 0 3");
+        assertNotEquals(noCapture.positionKey(), capture.positionKey());
+
+        final var pinned = Fen.positionFor("8/8/8/KPp4r/8/8/8/4k3 w - c6 0 1");
+        final var unpinned = Fen.positionFor("8/8/8/KPp4r/8/8/8/4k3 w - - 0 1");
+        assertNotEquals(unpinned.key(), pinned.key());
+        assertEquals(unpinned.positionKey(), pinned.positionKey());
+    }
+
+    @Test
+    void testMakeNullMove() {
+        final var position = initialPosition();
+        position.makeMove(0);
+        assertSame(BLACK, position.sideToMove());
+        assertEquals(initialPosition().castleState(), position.castleState());
+        position.unmakeMove();
+        assertEquals(initialPosition(), position);
+    }
+
+    @Test
+    void testMakeCastleLongMove() {
+        final var position = positionFor(BLACK, castleStateFor((byte) 0x01), null, 0, 1, List.of(
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(BLACK, ROOK, Square.A8),
+            pieceFor(BLACK, KING, Square.E8)));
+        final var copy = position.copy();
+        position.makeMove(hashFor(CASTLE_LONG, BLACK, NONE, NONE, KING, Square.E8, Square.A8));
+        assertEquals(pieceFor(BLACK, KING, Square.C8), position.pieceAt(Square.C8).get());
+        assertEquals(pieceFor(BLACK, ROOK, Square.D8), position.pieceAt(Square.D8).get());
+        assertTrue(position.castleState().hasCastledQueenSide(BLACK));
+        position.unmakeMove();
+        assertEquals(copy, position);
+    }
+
+    @Test
+    void testMakeCastleMove() {
+        final var position = positionFor(WHITE, castleStateFor((byte) 0x33), null, 4, 10, List.of(
+            pieceFor(WHITE, ROOK, Square.A1),
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H1),
+            pieceFor(BLACK, ROOK, Square.A8),
+            pieceFor(BLACK, KING, Square.E8),
+            pieceFor(BLACK, ROOK, Square.H8)));
+        final var copy = position.copy();
+
+        position.makeMove(hashFor(CASTLE_SHORT, WHITE, NONE, NONE, KING, Square.E1, Square.H1));
+        assertEquals(pieceFor(WHITE, KING, Square.G1), position.pieceAt(Square.G1).get());
+        assertEquals(pieceFor(WHITE, ROOK, Square.F1), position.pieceAt(Square.F1).get());
+        assertFalse(position.pieceAt(Square.E1).isPresent());
+        assertFalse(position.pieceAt(Square.H1).isPresent());
+        assertTrue(position.castleState().hasCastledKingSide(WHITE));
+        assertTrue(position.castleState().hasKingSideRight(BLACK));
+        assertEquals(5, position.halfMoveClock());
+
+        position.makeMove(hashFor(CAPTURE, BLACK, NONE, ROOK, ROOK, Square.A8, Square.A1));
+        assertFalse(position.castleState().hasQueenSideRight(BLACK));
+        assertTrue(position.castleState().hasKingSideRight(BLACK));
+        assertEquals(0, position.halfMoveClock());
+        assertEquals(11, position.fullMoveNumber());
+
+        position.makeMove(hashFor(BASE, WHITE, NONE, NONE, KING, Square.G1, Square.G2));
+        position.makeMove(hashFor(CASTLE_SHORT, BLACK, NONE, NONE, KING, Square.E8, Square.H8));
+        assertFalse(position.pieceAt(Square.E8).isPresent());
+        assertEquals(pieceFor(BLACK, KING, Square.G8), position.pieceAt(Square.G8).get());
+        assertEquals(pieceFor(BLACK, ROOK, Square.F8), position.pieceAt(Square.F8).get());
+        assertTrue(position.castleState().hasCastledKingSide(BLACK));
+        assertTrue(position.castleState().hasCastledKingSide(WHITE));
+
+        for (var i = 0; i < 4; i++) {
+            position.unmakeMove();
+        }
+        assertEquals(copy, position);
+    }
+
+    @Test
+    void testMakeEnPassantAndPromotion() {
+        final var position = positionFor(WHITE, castleStateFor((byte) 0x0), Square.D6, 0, 1, List.of(
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, PAWN, Square.E5),
+            pieceFor(BLACK, PAWN, Square.D5),
+            pieceFor(BLACK, PAWN, Square.B2),
+            pieceFor(WHITE, KNIGHT, Square.A1),
+            pieceFor(BLACK, KING, Square.E8)));
+        final var copy = position.copy();
+
+        position.makeMove(hashFor(EN_PASSANT, WHITE, NONE, PAWN, PAWN, Square.E5, Square.D6));
+        assertFalse(position.pieceAt(Square.D5).isPresent());
+        assertEquals(pieceFor(WHITE, PAWN, Square.D6), position.pieceAt(Square.D6).get());
+
+        position.makeMove(hashFor(CAPTURE_PROMOTION, BLACK, QUEEN, KNIGHT, PAWN, Square.B2, Square.A1));
+        assertEquals(pieceFor(BLACK, QUEEN, Square.A1), position.pieceAt(Square.A1).get());
+        assertEquals(0L, position.board(BLACK, PAWN));
+        assertEquals(0L, position.board(WHITE, KNIGHT));
+
+        position.unmakeMove();
+        position.unmakeMove();
+        assertEquals(copy, position);
+    }
+
+    @Test
+    void testMakeUnmakeWalk() {
+        final var position = initialPosition();
+        final var buffer = new int[MoveGenerator.MAX_MOVES * 4];
+        assertEquals(8902, walk(position, buffer, 0, 3));
+        assertEquals(initialPosition(), position);
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("Position(WHITE, castleState(0x33), -, 0, 1)", initialPosition().toString());
+    }
+
+    private static long walk(Position position, int[] buffer, int offset, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        final var count = MoveGenerator.legalMoves(position, buffer, offset);
+        var nodes = 0L;
+        for (var i = offset; i < offset + count; i++) {
+            final var copy = position.copy();
+            position.makeMove(buffer[i]);
+            nodes += walk(position, buffer, offset + count, depth - 1);
+            position.unmakeMove();
+            assertEquals(copy, position);
+        }
+        return nodes;
+    }
+
+    private void assertChessException(String message, String causeMessage, Runnable runnable) {
+        try {
+            runnable.run();
+            fail("chess.position.test.failed: " + message);
+        }
+        catch (RuntimeException e) {
+            assertEquals(ChessException.class.getName(), e.getClass().getName());
+            assertEquals(message, e.getMessage());
+            if (causeMessage != null) {
+                assertEquals(causeMessage, e.getCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.San.sanFor;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SanTest {
+
+    @Test
+    void testMoveFor() {
+        final var san = sanFor();
+        final var position = positionFor("r3k2r/1P6/8/3pP3/8/R7/8/R3K1NR w KQkq d6 0 1");
+        assertEquals(moveFor(position, "e5d6"), san.moveFor(position, "exd6"));
+        assertEquals(moveFor(position, "a1a2"), san.moveFor(position, "R1a2"));
+        assertEquals(moveFor(position, "a3a2"), san.moveFor(position, "R3-a2"));
+        assertEquals(moveFor(position, "b7a8q"), san.moveFor(position, "bxa8=Q+"));
+        assertEquals(moveFor(position, "b7b8n"), san.moveFor(position, "b8N"));
+        assertEquals(moveFor(position, "e1c1"), san.moveFor(position, "O-O-O"));
+        assertEquals(moveFor(position, "e1c1"), san.moveFor(position, "0-0-0!?"));
+        assertEquals(moveFor(position, "g1f3"), san.moveFor(position, "Nf3"));
+        assertEquals(moveFor(position, "g1f3"), san.moveFor(position, "Ng1f3"));
+
+        for (final var text : new String[] {"Ra2", "Rb2", "O-O", "O-O-O-O", "b8", "b8=K", "e9", "Nf3x", "", "+", "Zf3"}) {
+            final var exception = assertThrows(ChessException.class, () -> san.moveFor(position, text), text);
+            assertEquals("chess.san.move.invalid", exception.getMessage());
+        }
+        assertThrows(NullPointerException.class, () -> san.moveFor(null, "e4"));
+        assertThrows(NullPointerException.class, () -> san.moveFor(position, null));
+    }
+
+    @Test
+    void testSanFor() {
+        final var san = sanFor();
+        final var position = positionFor("r3k2r/1P6/8/3pP3/8/R7/8/R3K1NR w KQkq d6 0 1");
+        assertEquals("exd6", san.sanFor(position, moveFor(position, "e5d6")));
+        assertEquals("R1a2", san.sanFor(position, moveFor(position, "a1a2")));
+        assertEquals("bxa8=Q+", san.sanFor(position, moveFor(position, "b7a8q")));
+        assertEquals("b8=N", san.sanFor(position, moveFor(position, "b7b8n")));
+        assertEquals("O-O-O", san.sanFor(position, moveFor(position, "e1c1")));
+        assertEquals("Nf3", san.sanFor(position, moveFor(position, "g1f3")));
+        assertEquals(positionFor("r3k2r/1P6/8/3pP3/8/R7/8/R3K1NR w KQkq d6 0 1"), position);
+
+        final var queens = positionFor("6k1/8/8/8/Q6Q/8/8/Q3K3 w - - 0 1");
+        assertEquals("Qe8#", san.sanFor(queens, moveFor(queens, "a4e8")));
+        assertEquals("Qa4d4", san.sanFor(queens, moveFor(queens, "a4d4")));
+        assertEquals("Qhd4", san.sanFor(queens, moveFor(queens, "h4d4")));
+        assertEquals("Q1d4", san.sanFor(queens, moveFor(queens, "a1d4")));
+        assertEquals(moveFor(queens, "a4d4"), san.moveFor(queens, "Qa4xd4"));
+        assertEquals("Qe5", san.sanFor(queens, moveFor(queens, "a1e5")));
+        assertEquals("Qhe4", san.sanFor(queens, moveFor(queens, "h4e4")));
+        assertEquals("Q1a2+", san.sanFor(queens, moveFor(queens, "a1a2")));
+
+        final var fools = initialPosition();
+        for (final var text : new String[] {"f3", "e5", "g4"}) {
+            fools.makeMove(san.moveFor(fools, text));
+        }
+        assertEquals("Qh4#", san.sanFor(fools, san.moveFor(fools, "Qh4")));
+
+        final var exception = assertThrows(ChessException.class, () -> san.sanFor(fools, moveFor(position, "e1c1")));
+        assertEquals("chess.san.move.invalid", exception.getMessage());
+    }
+
+    @Test
+    void testRoundTrip() {
+        final var san = sanFor();
+        final var random = new Random(23);
+        final var moves = new int[MAX_MOVES];
+        for (int game = 0; game < 200; game++) {
+            final var position = initialPosition();
+            for (int ply = 0; ply < 80; ply++) {
+                final var count = legalMoves(position, moves);
+                if (count == 0) {
+                    break;
+                }
+                for (int i = 0; i < count; i++) {
+                    final var text = san.sanFor(position, moves[i]);
+                    assertEquals(moves[i], san.moveFor(position, text), text);
+                }
+                position.makeMove(moves[random.nextInt(count)]);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.Search.MATE;
+import static com.github.osmundf.chess.hub.Search.MAX_DEPTH;
+import static com.github.osmundf.chess.hub.Search.evaluate;
+import static com.github.osmundf.chess.hub.Search.searchFor;
+import static com.github.osmundf.chess.hub.TranspositionTable.transpositionTableFor;
+import static com.github.osmundf.chess.hub.Uci.notationFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SearchTest {
+
+    @Test
+    void testEvaluate() {
+        final var initial = Position.initialPosition();
+        assertEquals(0, evaluate(initial));
+
+        final var white = positionFor("4k3/8/8/8/8/8/8/3QK3 w - - 0 1");
+        final var black = positionFor("3qk3/8/8/8/8/8/8/4K3 b - - 0 1");
+        assertTrue(evaluate(white) > 800);
+        assertEquals(evaluate(white), evaluate(black));
+    }
+
+    @Test
+    void testMateInOne() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var position = positionFor("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        final var best = search.search(position, 4, 0L, 0L, null);
+        assertEquals("a1a8", notationFor(best));
+        assertEquals(MATE - 1, search.score());
+        assertEquals("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", Fen.fenFor(position));
+    }
+
+    @Test
+    void testMateInTwo() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var position = positionFor("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1");
+        final var best = search.search(position, 6, 0L, 0L, null);
+        assertEquals("d5f6", notationFor(best));
+        assertEquals(MATE - 3, search.score());
+    }
+
+    @Test
+    void testWinsMaterial() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var position = positionFor("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        assertEquals("d1d5", notationFor(search.search(position, 3, 0L, 0L, null)));
+    }
+
+    @Test
+    void testNoLegalMove() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var mated = positionFor("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1");
+        assertEquals(0, search.search(mated, 4, 0L, 0L, null));
+    }
+
+    @Test
+    void testIterations() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var depths = new ArrayList<Integer>();
+        final var best = search.search(Position.initialPosition(), 4, 0L, 0L, (depth, score, nodes, millis, pv) -> {
+            depths.add(depth);
+            assertTrue(pv.length > 0);
+            assertTrue(nodes > 0L);
+        });
+        assertEquals(List.of(1, 2, 3, 4), depths);
+        assertNotEquals(0, best);
+    }
+
+    @Test
+    void testNodeLimit() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var best = search.search(Position.initialPosition(), MAX_DEPTH, 5000L, 0L, null);
+        assertNotEquals(0, best);
+        assertEquals(5000L, search.nodes());
+    }
+
+    @Test
+    void testTimeLimit() {
+        final var search = searchFor(transpositionTableFor(1));
+        final var start = System.nanoTime();
+        final var best = search.search(Position.initialPosition(), MAX_DEPTH, 0L, 50L, null);
+        final var millis = (System.nanoTime() - start) / 1_000_000L;
+        assertNotEquals(0, best);
+        assertTrue(millis < 1000L, "millis: " + millis);
+    }
+
+    @Test
+    void testStop() throws InterruptedException {
+        final var search = searchFor(transpositionTableFor(1));
+        final var result = new int[1];
+        final var thread = new Thread(() -> result[0] = search.search(Position.initialPosition(), MAX_DEPTH, 0L, 0L,
+            null));
+        thread.start();
+        Thread.sleep(100L);
+        final var start = System.nanoTime();
+        search.stop();
+        thread.join(1000L);
+        final var millis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(!thread.isAlive() && millis < 100L, "millis: " + millis);
+        assertNotEquals(0, result[0]);
+
+        // A stop before the search is seen at the first node.
+        search.stop();
+        assertNotEquals(0, search.search(Position.initialPosition(), MAX_DEPTH, 0L, 0L, null));
+        assertTrue(search.nodes() <= 1L);
+    }
+
+    @Test
+    void testLimitException() {
+        final var search = searchFor(transpositionTableFor(1));
+        try {
+            search.search(Position.initialPosition(), 0, 0L, 0L, null);
+            fail("chess.search.test.expected.chess.exception");
+        }
+        catch (ChessException e) {
+            assertEquals("chess.search.limit.invalid", e.getMessage());
+            assertEquals("depth: 0 nodes: 0 millis: 0", e.getCause().getMessage());
+        }
+    }
+}
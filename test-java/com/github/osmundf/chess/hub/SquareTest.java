@@ -2,10 +2,14 @@ package com.github.osmundf.chess.hub;
 
 import org.junit.jupiter.api.Test;
 
+import static com.github.osmundf.chess.hub.Square.fileIndex;
+import static com.github.osmundf.chess.hub.Square.rankIndex;
 import static com.github.osmundf.chess.hub.Square.squareFor;
 import static com.github.osmundf.chess.hub.Square.squareFromIndex;
+import static com.github.osmundf.chess.hub.Square.translateIndex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -20,6 +24,8 @@ class SquareTest {
                 assertEquals(file, square.file());
                 assertEquals(rank, square.rank());
                 assertEquals(index, square.index());
+                assertEquals(file - 'a', fileIndex(index));
+                assertEquals(rank - 1, rankIndex(index));
             }
         }
     }
@@ -145,4 +151,28 @@ class SquareTest {
             assertEquals("square: A1 deltaFile: -1 deltaRank: -1", cause.getMessage());
         }
     }
+
+    @Test
+    void testTranslateOrNull() {
+        for (var index = (byte) 0; index < 64; index++) {
+            final var square = squareFromIndex(index);
+            for (var deltaFile = -9; deltaFile <= 9; deltaFile++) {
+                for (var deltaRank = -9; deltaRank <= 9; deltaRank++) {
+                    final var file = (index & 0x7) + deltaFile;
+                    final var rank = (index >> 3) + deltaRank;
+                    final var onBoard = 0 <= file && file <= 7 && 0 <= rank && rank <= 7;
+                    final var locate = square.translateOrNull(deltaFile, deltaRank);
+                    final var locateIndex = translateIndex(index, deltaFile, deltaRank);
+                    if (onBoard) {
+                        assertSame(square.translate(deltaFile, deltaRank), locate);
+                        assertEquals(locate.index(), locateIndex);
+                    }
+                    else {
+                        assertNull(locate);
+                        assertEquals(-1, locateIndex);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.github.osmundf.chess.hub;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_EXACT;
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_LOWER;
+import static com.github.osmundf.chess.hub.TranspositionTable.BOUND_UPPER;
+import static com.github.osmundf.chess.hub.TranspositionTable.MAX_MEGABYTES;
+import static com.github.osmundf.chess.hub.TranspositionTable.ageOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.boundOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.depthOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.moveOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.scoreOf;
+import static com.github.osmundf.chess.hub.TranspositionTable.transpositionTableFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class TranspositionTableTest {
+
+    @Test
+    void testTranspositionTableFor() {
+        assertEquals(1 << 16, transpositionTableFor(1).capacity());
+        assertEquals(1 << 17, transpositionTableFor(3).capacity());
+        assertEquals("TranspositionTable(65536, age: 0, hashfull: 0)", transpositionTableFor(1).toString());
+        for (final var megabytes : new int[] {0, -1, MAX_MEGABYTES + 1}) {
+            try {
+                transpositionTableFor(megabytes);
+                fail("chess.transposition.table.test.failed");
+            }
+            catch (RuntimeException e) {
+                assertEquals(ChessException.class.getName(), e.getClass().getName());
+                assertEquals("chess.transposition.table.size.invalid", e.getMessage());
+                assertEquals("megabytes: " + megabytes, e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testProbeAndStore() {
+        final var table = transpositionTableFor(1);
+        final var key = 0x0123456789abcdefL;
+        final var move = 0x1ffffff;
+        assertEquals(0L, table.probe(key));
+
+        table.store(key, move, 12, BOUND_LOWER, -32768);
+        var data = table.probe(key);
+        assertEquals(move, moveOf(data));
+        assertEquals(12, depthOf(data));
+        assertEquals(BOUND_LOWER, boundOf(data));
+        assertEquals(-32768, scoreOf(data));
+        assertEquals(0, ageOf(data));
+        assertEquals(0L, table.probe(key ^ 1L << 63));
+
+        table.store(key, 0, 255, BOUND_EXACT, 32767);
+        data = table.probe(key);
+        assertEquals(move, moveOf(data));
+        assertEquals(255, depthOf(data));
+        assertEquals(BOUND_EXACT, boundOf(data));
+        assertEquals(32767, scoreOf(data));
+
+        table.store(key, 0x1234, 3, BOUND_UPPER, 0);
+        assertEquals(0x1234, moveOf(table.probe(key)));
+    }
+
+    @Test
+    void testBucketReplacement() {
+        final var table = transpositionTableFor(1);
+        for (var i = 0; i < 4; i++) {
+            table.store((long) i << 40 | 0x7, i + 1, 10 - i, BOUND_EXACT, i);
+        }
+        for (var i = 0; i < 4; i++) {
+            assertEquals(10 - i, depthOf(table.probe((long) i << 40 | 0x7)));
+        }
+
+        // the shallowest entry is replaced
+        table.store(4L << 40 | 0x7, 5, 1, BOUND_EXACT, 4);
+        assertEquals(0L, table.probe(3L << 40 | 0x7));
+        assertEquals(1, depthOf(table.probe(4L << 40 | 0x7)));
+
+        // entries from an older search give way to newer ones
+        table.newSearch();
+        table.newSearch();
+        table.store(4L << 40 | 0x7, 5, 1, BOUND_EXACT, 4);
+        table.store(5L << 40 | 0x7, 6, 2, BOUND_EXACT, 5);
+        assertEquals(0L, table.probe(2L << 40 | 0x7));
+        assertEquals(10, depthOf(table.probe(0L << 40 | 0x7)));
+        assertEquals(2, ageOf(table.probe(4L << 40 | 0x7)));
+        assertEquals(2, ageOf(table.probe(5L << 40 | 0x7)));
+    }
+
+    @Test
+    void testHashfullClearAndResize() {
+        final var table = transpositionTableFor(1);
+        for (var i = 0L; i < 500; i++) {
+            table.store(i >> 1 | (i & 0x1) << 40, 1, 1, BOUND_EXACT, 0);
+        }
+        assertEquals(500, table.hashfull());
+        table.newSearch();
+        assertEquals(1, table.age());
+        assertEquals(0, table.hashfull());
+        table.probe(7L);
+        assertEquals(1, table.hashfull());
+
+        table.clear();
+        assertEquals(0, table.age());
+        assertEquals(0, table.hashfull());
+        assertEquals(0L, table.probe(7L));
+
+        table.store(7L, 1, 1, BOUND_EXACT, 0);
+        table.resize(2);
+        assertEquals(1 << 17, table.capacity());
+        assertEquals(0L, table.probe(7L));
+        try {
+            table.resize(0);
+            fail("chess.transposition.table.test.failed");
+        }
+        catch (RuntimeException e) {
+            assertEquals("chess.transposition.table.size.invalid", e.getMessage());
+        }
+        assertEquals(1 << 17, table.capacity());
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.osmundf.chess.hub;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.Fen.positionFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Uci.moveFor;
+import static com.github.osmundf.chess.hub.Uci.notationFor;
+import static com.github.osmundf.chess.hub.Uci.uciFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class UciTest {
+
+    private PrintWriter commands;
+
+    private BufferedReader responses;
+
+    private Thread engine;
+
+    @BeforeEach
+    void startEngine() throws IOException {
+        final var commandSink = new PipedOutputStream();
+        final var commandSource = new PipedInputStream(commandSink, 1 << 16);
+        final var responseSink = new PipedOutputStream();
+        final var responseSource = new PipedInputStream(responseSink, 1 << 16);
+        commands = new PrintWriter(commandSink, true, StandardCharsets.US_ASCII);
+        responses = new BufferedReader(new InputStreamReader(responseSource, StandardCharsets.US_ASCII));
+        final var input = new BufferedReader(new InputStreamReader(commandSource, StandardCharsets.US_ASCII));
+        final var output = new PrintStream(responseSink, true, StandardCharsets.US_ASCII);
+        engine = new Thread(() -> uciFor(input, output).run(), "uci-test-engine");
+        engine.setDaemon(true);
+        engine.start();
+    }
+
+    @AfterEach
+    void stopEngine() throws InterruptedException {
+        commands.println("quit");
+        engine.join(5000L);
+        assertFalse(engine.isAlive());
+    }
+
+    @Test
+    void testHandshake() throws IOException {
+        commands.println("uci");
+        final var lines = readUntil("uciok");
+        assertEquals("id name Chess Hub", lines.get(0));
+        assertTrue(lines.contains("option name Hash type spin default 16 min 1 max 8192"));
+        commands.println("isready");
+        assertEquals("readyok", responses.readLine());
+    }
+
+    @Test
+    void testGoDepth() throws IOException {
+        commands.println("position startpos moves e2e4 e7e5 g1f3");
+        commands.println("go depth 3");
+        final var lines = readUntil("bestmove");
+        assertTrue(lines.get(0).startsWith("info depth 1 score cp "), lines.get(0));
+        assertTrue(lines.get(2).startsWith("info depth 3 "), lines.get(2));
+        final var best = lines.get(3).substring("bestmove ".length());
+        final var position = initialPosition();
+        for (final var move : new String[] {"e2e4", "e7e5", "g1f3"}) {
+            position.makeMove(moveFor(position, move));
+        }
+        moveFor(position, best);
+    }
+
+    @Test
+    void testGoMate() throws IOException {
+        commands.println("position fen 6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        commands.println("go depth 5");
+        final var lines = readUntil("bestmove");
+        assertEquals("bestmove a1a8", lines.get(lines.size() - 1));
+        assertTrue(lines.get(lines.size() - 2).contains(" score mate 1 "), lines.get(lines.size() - 2));
+    }
+
+    @Test
+    void testGoInfiniteMate() throws IOException, InterruptedException {
+        commands.println("position fen 6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        commands.println("go infinite");
+        commands.println("isready");
+        final var lines = readUntil("readyok");
+        Thread.sleep(200L);
+        while (responses.ready()) {
+            lines.add(responses.readLine());
+        }
+        assertTrue(lines.stream().noneMatch(line -> line.startsWith("bestmove")), lines.toString());
+        commands.println("stop");
+        assertEquals("bestmove a1a8", readUntil("bestmove").get(0));
+    }
+
+    @Test
+    void testStop() throws IOException {
+        commands.println("position startpos");
+        commands.println("go infinite");
+        commands.println("isready");
+        readUntil("readyok");
+        final var start = System.nanoTime();
+        commands.println("stop");
+        final var lines = readUntil("bestmove");
+        final var millis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(millis < 500L, "millis: " + millis);
+        moveFor(initialPosition(), lines.get(lines.size() - 1).substring("bestmove ".length()));
+    }
+
+    @Test
+    void testGoTime() throws IOException {
+        commands.println("ucinewgame");
+        commands.println("setoption name Hash value 4");
+        commands.println("position startpos moves d2d4");
+        final var start = System.nanoTime();
+        commands.println("go wtime 1000 btime 1000 winc 0 binc 0");
+        readUntil("bestmove");
+        final var millis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(millis < 500L, "millis: " + millis);
+    }
+
+    @Test
+    void testInvalidInput() throws IOException {
+        commands.println("position startpos moves e2e5");
+        assertEquals("info string invalid move: e2e5", responses.readLine());
+        commands.println("position fen 8/8/8 w - - 0 1");
+        assertEquals("info string invalid fen: 8/8/8 w - - 0 1", responses.readLine());
+        commands.println("setoption name Hash value 0");
+        assertEquals("info string invalid option value: 0", responses.readLine());
+        commands.println("setoption name Style value Risky");
+        assertEquals("info string unknown option: Style", responses.readLine());
+        commands.println("go wtime abc");
+        assertEquals("info string invalid go command", responses.readLine());
+        commands.println("isready");
+        assertEquals("readyok", responses.readLine());
+    }
+
+    @Test
+    void testNotation() {
+        final var position = positionFor("r3k2r/1P6/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        assertEquals("e1g1", notationFor(moveFor(position, "e1g1")));
+        assertEquals("e1c1", notationFor(moveFor(position, "e1a1")));
+        assertEquals("b7a8q", notationFor(moveFor(position, "b7a8q")));
+        assertEquals("b7b8n", notationFor(moveFor(position, "b7b8n")));
+        assertEquals("0000", notationFor(0));
+        try {
+            final var move = moveFor(position, "e1e3");
+            fail("chess.uci.test.expected.chess.exception: " + move);
+        }
+        catch (ChessException e) {
+            assertEquals("chess.uci.move.invalid", e.getMessage());
+            assertEquals("notation: e1e3", e.getCause().getMessage());
+        }
+    }
+
+    private List<String> readUntil(String prefix) throws IOException {
+        final var lines = new ArrayList<String>();
+        String line;
+        while ((line = responses.readLine()) != null) {
+            lines.add(line);
+            if (line.startsWith(prefix)) {
+                return lines;
+            }
+        }
+        fail("chess.uci.test.expected: " + prefix);
+        return lines;
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.osmundf.chess.hub;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.osmundf.chess.hub.CastleState.castleStateFor;
+import static com.github.osmundf.chess.hub.Caste.KING;
+import static com.github.osmundf.chess.hub.Caste.KNIGHT;
+import static com.github.osmundf.chess.hub.Caste.NONE;
+import static com.github.osmundf.chess.hub.Caste.PAWN;
+import static com.github.osmundf.chess.hub.Caste.QUEEN;
+import static com.github.osmundf.chess.hub.Caste.ROOK;
+import static com.github.osmundf.chess.hub.MoveGenerator.MAX_MOVES;
+import static com.github.osmundf.chess.hub.MoveGenerator.legalMoves;
+import static com.github.osmundf.chess.hub.MoveHelper.hashFor;
+import static com.github.osmundf.chess.hub.MoveType.BASE;
+import static com.github.osmundf.chess.hub.MoveType.DOUBLE_PUSH;
+import static com.github.osmundf.chess.hub.Piece.pieceFor;
+import static com.github.osmundf.chess.hub.Position.initialPosition;
+import static com.github.osmundf.chess.hub.Position.positionFor;
+import static com.github.osmundf.chess.hub.Side.BLACK;
+import static com.github.osmundf.chess.hub.Side.WHITE;
+import static com.github.osmundf.chess.hub.Zobrist.castleKey;
+import static com.github.osmundf.chess.hub.Zobrist.enPassantKey;
+import static com.github.osmundf.chess.hub.Zobrist.keyFor;
+import static com.github.osmundf.chess.hub.Zobrist.pieceKey;
+import static com.github.osmundf.chess.hub.Zobrist.sideKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ZobristTest {
+
+    @Test
+    void testKeys() {
+        assertEquals(0L, sideKey(WHITE.index()));
+        assertNotEquals(0L, sideKey(BLACK.index()));
+        assertEquals(0L, castleKey((byte) 0x0));
+        assertEquals(castleKey((byte) 0x30) ^ castleKey((byte) 0x03), castleKey((byte) 0x33));
+        assertEquals(0L, enPassantKey(Position.NO_SQUARE));
+        assertEquals(enPassantKey(Square.E3.index()), enPassantKey(Square.E6.index()));
+        assertNotEquals(enPassantKey(Square.D3.index()), enPassantKey(Square.E3.index()));
+        assertNotEquals(pieceKey(WHITE.index(), PAWN.index(), Square.E2.index()),
+            pieceKey(BLACK.index(), PAWN.index(), Square.E2.index()));
+    }
+
+    @Test
+    void testKeyFor() {
+        final var position = initialPosition();
+        assertEquals(keyFor(position), position.key());
+        assertEquals(position.key(), initialPosition().key());
+        assertEquals(position.key(), position.copy().key());
+
+        final var other = positionFor(WHITE, castleStateFor((byte) 0x33), null, 5, 9, position.pieces());
+        assertEquals(position.key(), other.key());
+        final var noCastle = positionFor(WHITE, castleStateFor((byte) 0x0), null, 0, 1, position.pieces());
+        assertNotEquals(position.key(), noCastle.key());
+        final var black = positionFor(BLACK, castleStateFor((byte) 0x33), null, 0, 1, position.pieces());
+        assertEquals(position.key() ^ sideKey(BLACK.index()), black.key());
+    }
+
+    @Test
+    void testIncrementalKey() {
+        final var position = initialPosition();
+        final var initialKey = position.key();
+        final var e4 = hashFor(DOUBLE_PUSH, WHITE, NONE, NONE, PAWN, Square.E2, Square.E4);
+        position.makeMove(e4);
+        assertEquals(keyFor(position), position.key());
+        position.unmakeMove();
+        assertEquals(initialKey, position.key());
+
+        // Nf3 Nf6 Ng1 Ng8 transposes back to the initial position
+        position.makeMove(hashFor(BASE, WHITE, NONE, NONE, KNIGHT, Square.G1, Square.F3));
+        position.makeMove(hashFor(BASE, BLACK, NONE, NONE, KNIGHT, Square.G8, Square.F6));
+        position.makeMove(hashFor(BASE, WHITE, NONE, NONE, KNIGHT, Square.F3, Square.G1));
+        position.makeMove(hashFor(BASE, BLACK, NONE, NONE, KNIGHT, Square.F6, Square.G8));
+        assertEquals(initialKey, position.key());
+
+        position.makeMove(0);
+        assertEquals(initialKey ^ sideKey(BLACK.index()), position.key());
+    }
+
+    @Test
+    void testIncrementalKeyWalk() {
+        // r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -
+        final var position = positionFor(WHITE, castleStateFor((byte) 0x33), null, 0, 1, List.of(
+            pieceFor(WHITE, ROOK, Square.A1),
+            pieceFor(WHITE, KING, Square.E1),
+            pieceFor(WHITE, ROOK, Square.H1),
+            pieceFor(WHITE, PAWN, Square.A2),
+            pieceFor(WHITE, PAWN, Square.B2),
+            pieceFor(WHITE, PAWN, Square.C2),
+            pieceFor(WHITE, Caste.BISHOP, Square.D2),
+            pieceFor(WHITE, Caste.BISHOP, Square.E2),
+            pieceFor(WHITE, PAWN, Square.F2),
+            pieceFor(WHITE, PAWN, Square.G2),
+            pieceFor(WHITE, PAWN, Square.H2),
+            pieceFor(WHITE, KNIGHT, Square.C3),
+            pieceFor(WHITE, QUEEN, Square.F3),
+            pieceFor(BLACK, PAWN, Square.H3),
+            pieceFor(BLACK, PAWN, Square.B4),
+            pieceFor(WHITE, PAWN, Square.E4),
+            pieceFor(WHITE, PAWN, Square.D5),
+            pieceFor(WHITE, KNIGHT, Square.E5),
+            pieceFor(BLACK, Caste.BISHOP, Square.A6),
+            pieceFor(BLACK, KNIGHT, Square.B6),
+            pieceFor(BLACK, PAWN, Square.E6),
+            pieceFor(BLACK, KNIGHT, Square.F6),
+            pieceFor(BLACK, PAWN, Square.G6),
+            pieceFor(BLACK, PAWN, Square.A7),
+            pieceFor(BLACK, PAWN, Square.C7),
+            pieceFor(BLACK, PAWN, Square.D7),
+            pieceFor(BLACK, QUEEN, Square.E7),
+            pieceFor(BLACK, PAWN, Square.F7),
+            pieceFor(BLACK, Caste.BISHOP, Square.G7),
+            pieceFor(BLACK, ROOK, Square.A8),
+            pieceFor(BLACK, KING, Square.E8),
+            pieceFor(BLACK, ROOK, Square.H8)));
+        assertEquals(97862L, walk(position, 3, new int[MAX_MOVES * 3], 0));
+        assertEquals(keyFor(position), position.key());
+    }
+
+    private static long walk(Position position, int depth, int[] buffer, int offset) {
+        assertEquals(keyFor(position), position.key());
+        if (depth == 0) {
+            return 1L;
+        }
+        final var key = position.key();
+        final var end = offset + legalMoves(position, buffer, offset);
+        var nodes = 0L;
+        for (var i = offset; i < end; i++) {
+            position.makeMove(buffer[i]);
+            nodes += walk(position, depth - 1, buffer, end);
+            position.unmakeMove();
+            assertEquals(key, position.key());
+        }
+        return nodes;
+    }
+}